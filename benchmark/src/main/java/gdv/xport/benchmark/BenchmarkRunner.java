@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Startet die Benchmarks. Im Gegensatz zu {@link org.openjdk.jmh.Main}
+ * ist der GC-Profiler (Allokationsrate) immer aktiv und das Ergebnis wird
+ * als JSON in "jmh-result.json" abgelegt, damit es von Release zu Release
+ * verglichen werden kann. Alle anderen JMH-Optionen (z.B. "-p anzahl=1000"
+ * oder ein Filter wie "Import") koennen wie gewohnt angegeben werden.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Startet die Benchmarks.
+     *
+     * @param args JMH-Optionen
+     * @throws CommandLineOptionException bei falschen Optionen
+     * @throws RunnerException bei Problemen mit einem Benchmark
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cmdOptions);
+        if (cmdOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+        Options options = builder
+                .addProfiler(GCProfiler.class)
+                .resultFormat(cmdOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(cmdOptions.getResult().orElse("jmh-result.json"))
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Zusaetzliche Zaehler, mit denen JMH neben den Aufrufen pro Sekunde auch
+ * die verarbeiteten Saetze (records/s) und Bytes (bytes/s) ausweist.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Durchsatz {
+
+    /** Anzahl der verarbeiteten Saetze (Zeilen). */
+    public long saetze;
+
+    /** Anzahl der verarbeiteten Bytes im GDV-Format. */
+    public long bytes;
+
+    /**
+     * Setzt die Zaehler vor jeder Iteration zurueck.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        saetze = 0;
+        bytes = 0;
+    }
+
+    /**
+     * Zaehlt die uebergebene Datei als einmal verarbeitet.
+     *
+     * @param datei die verarbeitete Datei
+     */
+    public void add(GdvDatei datei) {
+        saetze += datei.getZeilen();
+        bytes += datei.getDaten().length;
+    }
+
+}
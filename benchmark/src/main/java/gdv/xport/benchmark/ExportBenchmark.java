@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark fuer den Export eines Datenpakets im GDV-Format.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportBenchmark {
+
+    /**
+     * Exportiert das Datenpaket zeichenweise in einen Writer, der die
+     * Ausgabe verwirft.
+     *
+     * @param datei     die zu exportierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @return Anzahl der exportierten Zeichen
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public long exportDatenpaket(GdvDatei datei, Durchsatz durchsatz) throws IOException {
+        Nullausgabe writer = new Nullausgabe();
+        datei.getDatenpaket().export(writer);
+        durchsatz.add(datei);
+        return writer.getLength();
+    }
+
+    /**
+     * Exportiert das Datenpaket als Bytes in einen OutputStream, der die
+     * Ausgabe verwirft.
+     *
+     * @param datei     die zu exportierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @return Anzahl der exportierten Bytes
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public long exportBytes(GdvDatei datei, Durchsatz durchsatz) throws IOException {
+        ByteZaehler ostream = new ByteZaehler();
+        datei.getDatenpaket().export(ostream);
+        durchsatz.add(datei);
+        return ostream.length;
+    }
+
+    private static final class ByteZaehler extends OutputStream {
+
+        private long length;
+
+        @Override
+        public void write(int b) {
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            length += len;
+        }
+
+    }
+
+}
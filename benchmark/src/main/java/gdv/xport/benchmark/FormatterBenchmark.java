@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import gdv.xport.DatenpaketStreamer;
+import gdv.xport.util.AbstractFormatter;
+import gdv.xport.util.CsvFormatter;
+import gdv.xport.util.GdvXmlFormatter;
+import gdv.xport.util.HtmlFormatter;
+import gdv.xport.util.JsonFormatter;
+import gdv.xport.util.NullFormatter;
+import gdv.xport.util.XmlFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmark fuer die verschiedenen {@link AbstractFormatter}-Klassen.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatterBenchmark {
+
+    /**
+     * Die verschiedenen Formatter.
+     */
+    public enum Format {
+
+        /** {@link CsvFormatter}. */
+        CSV(CsvFormatter::new),
+        /** {@link JsonFormatter}. */
+        JSON(JsonFormatter::new),
+        /** {@link XmlFormatter}. */
+        XML(XmlFormatter::new),
+        /** {@link HtmlFormatter}. */
+        HTML(HtmlFormatter::new),
+        /** {@link GdvXmlFormatter}. */
+        GDV_XML(GdvXmlFormatter::new),
+        /** {@link NullFormatter}. */
+        NULL(NullFormatter::new);
+
+        private final Function<Writer, AbstractFormatter> factory;
+
+        Format(Function<Writer, AbstractFormatter> factory) {
+            this.factory = factory;
+        }
+
+        private AbstractFormatter createFormatter(Writer writer) {
+            return factory.apply(writer);
+        }
+
+    }
+
+    /** Der zu messende Formatter. */
+    @Param({"CSV", "JSON", "XML", "HTML", "GDV_XML", "NULL"})
+    public Format format;
+
+    /**
+     * Gibt das Datenpaket mit dem eingestellten Formatter aus.
+     *
+     * @param datei     die zu formatierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @return Anzahl der ausgegebenen Zeichen
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public long formatDatenpaket(GdvDatei datei, Durchsatz durchsatz) throws IOException {
+        Nullausgabe writer = new Nullausgabe();
+        try (AbstractFormatter formatter = format.createFormatter(writer)) {
+            formatter.write(datei.getDatenpaket());
+        }
+        durchsatz.add(datei);
+        return writer.getLength();
+    }
+
+    /**
+     * Gibt die Datei mit dem eingestellten Formatter satzweise aus, ohne
+     * das Datenpaket vorher komplett einzulesen.
+     *
+     * @param datei     die zu formatierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @return Anzahl der ausgegebenen Zeichen
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public long streamDatenpaket(GdvDatei datei, Durchsatz durchsatz) throws IOException {
+        Nullausgabe writer = new Nullausgabe();
+        try (AbstractFormatter formatter = format.createFormatter(writer)) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(new ByteArrayInputStream(datei.getDaten()));
+            streamer.register(formatter);
+            streamer.readDatenpaket();
+        }
+        durchsatz.add(datei);
+        return writer.getLength();
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import gdv.xport.Datenpaket;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Gemeinsamer Benchmark-Zustand: ein synthetisches Datenpaket mit
+ * einstellbarer Groesse und Satzart-Mischung, sowohl als Objekt als auch
+ * im GDV-Format.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@State(Scope.Benchmark)
+public class GdvDatei {
+
+    /** Anzahl der Datensaetze. */
+    @Param({"1000", "10000"})
+    public int anzahl;
+
+    /** Zusammensetzung der Satzarten. */
+    @Param({"ALLE", "LEBEN", "KFZ", "KRANKEN", "BAUSPAREN"})
+    public Testdaten.Mix mix;
+
+    private Datenpaket datenpaket;
+    private byte[] daten;
+    private int zeilen;
+
+    /**
+     * Erzeugt das Datenpaket einmal pro Trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        datenpaket = Testdaten.createDatenpaket(anzahl, mix);
+        daten = Testdaten.export(datenpaket);
+        for (byte b : daten) {
+            if (b == '\n') {
+                zeilen++;
+            }
+        }
+    }
+
+    /**
+     * Liefert das erzeugte Datenpaket.
+     *
+     * @return Datenpaket
+     */
+    public Datenpaket getDatenpaket() {
+        return datenpaket;
+    }
+
+    /**
+     * Liefert das Datenpaket im GDV-Format.
+     *
+     * @return exportiertes Datenpaket
+     */
+    public byte[] getDaten() {
+        return daten;
+    }
+
+    /**
+     * Liefert die Anzahl der Zeilen (Teildatensaetze inkl. Vor- und
+     * Nachsatz) im GDV-Format.
+     *
+     * @return Anzahl der Zeilen
+     */
+    public int getZeilen() {
+        return zeilen;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import gdv.xport.Datenpaket;
+import gdv.xport.DatenpaketStreamer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks fuer den Import eines Datenpakets, einmal komplett ueber
+ * {@link Datenpaket#importFrom(java.io.InputStream)} und einmal satzweise
+ * ueber den {@link DatenpaketStreamer}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImportBenchmark {
+
+    /**
+     * Importiert das komplette Datenpaket in den Speicher.
+     *
+     * @param datei     die zu importierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @return importiertes Datenpaket
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public Datenpaket importDatenpaket(GdvDatei datei, Durchsatz durchsatz) throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.importFrom(new ByteArrayInputStream(datei.getDaten()));
+        durchsatz.add(datei);
+        return datenpaket;
+    }
+
+    /**
+     * Importiert das Datenpaket satzweise, ohne es im Speicher zu halten.
+     *
+     * @param datei     die zu importierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @param bh        nimmt die importierten Saetze entgegen
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public void streamDatenpaket(GdvDatei datei, Durchsatz durchsatz, Blackhole bh) throws IOException {
+        DatenpaketStreamer streamer = new DatenpaketStreamer(new ByteArrayInputStream(datei.getDaten()));
+        streamer.register(bh::consume);
+        streamer.readDatenpaket();
+        durchsatz.add(datei);
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import java.io.Writer;
+
+/**
+ * Ein Writer, der alles verwirft. Damit gehen in die Messung nur die
+ * Kosten der Formatierung ein, nicht die der Ausgabe.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+final class Nullausgabe extends Writer {
+
+    private long length;
+
+    @Override
+    public void write(int c) {
+        length++;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        length += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        length += len;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Liefert die Anzahl der (verworfenen) Zeichen.
+     *
+     * @return Anzahl Zeichen
+     */
+    long getLength() {
+        return length;
+    }
+
+}
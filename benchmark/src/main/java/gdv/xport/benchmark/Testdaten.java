@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import gdv.xport.Datenpaket;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.satz.Datensatz;
+import gdv.xport.util.SatzRegistry;
+import gdv.xport.util.SatzTyp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Die Testdaten erzeugen synthetische GDV-Datenpakete fuer die Benchmarks.
+ * Als Vorlage dienen die Datensaetze aus
+ * {@link SatzRegistry#getAllSupportedSaetze()}, die je nach {@link Mix}
+ * nach Sparte gefiltert und reihum so oft verwendet werden, bis die
+ * gewuenschte Anzahl erreicht ist. Je 10 Datensaetze teilen sich eine
+ * Versicherungsschein-Nummer.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class Testdaten {
+
+    private static final int SAETZE_PRO_VERTRAG = 10;
+
+    /**
+     * Die Zusammensetzung der Satzarten.
+     */
+    public enum Mix {
+
+        /** Alle unterstuetzten Satzarten. */
+        ALLE(sparte -> true),
+        /** Leben (Sparte 010) mit allen Wagnisarten. */
+        LEBEN(sparte -> sparte == 10),
+        /** Kranken (Sparte 020). */
+        KRANKEN(sparte -> sparte == 20),
+        /** Kfz (Sparten 050 - 059). */
+        KFZ(sparte -> (sparte >= 50) && (sparte <= 59)),
+        /** Bausparen (Sparte 580). */
+        BAUSPAREN(sparte -> sparte == 580);
+
+        private final IntPredicate sparten;
+
+        Mix(IntPredicate sparten) {
+            this.sparten = sparten;
+        }
+
+        private boolean matches(SatzTyp satzTyp) {
+            return (this == ALLE) || (satzTyp.hasSparte() && sparten.test(satzTyp.getSparte()));
+        }
+
+    }
+
+    private Testdaten() {
+    }
+
+    /**
+     * Erzeugt ein Datenpaket mit der angegebenen Anzahl an Datensaetzen.
+     * Anzahl Saetze und Summen im Nachsatz werden dabei (ueber
+     * {@link Datenpaket#add(Datensatz)}) mitgefuehrt.
+     *
+     * @param anzahl Anzahl der Datensaetze
+     * @param mix    Zusammensetzung der Satzarten
+     * @return Datenpaket
+     */
+    public static Datenpaket createDatenpaket(int anzahl, Mix mix) {
+        SatzRegistry registry = SatzRegistry.getInstance();
+        List<SatzTyp> vorlagen = registry.getAllSupportedSaetze().getDatensaetze().stream()
+                .map(Datensatz::getSatzTyp)
+                .filter(mix::matches)
+                .collect(Collectors.toList());
+        if (vorlagen.isEmpty()) {
+            throw new IllegalArgumentException("no Datensaetze found for " + mix);
+        }
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.setVuNummer("12345");
+        for (int i = 0; i < anzahl; i++) {
+            Datensatz datensatz = registry.getDatensatz(vorlagen.get(i % vorlagen.size()));
+            if (datensatz.hasFeld(Bezeichner.VERSICHERUNGSSCHEINNUMMER)) {
+                datensatz.setVersicherungsscheinNummer(String.format("BM%08d", i / SAETZE_PRO_VERTRAG));
+            }
+            datenpaket.add(datensatz);
+        }
+        return datenpaket;
+    }
+
+    /**
+     * Erzeugt ein Datenpaket wie {@link #createDatenpaket(int, Mix)} und
+     * liefert es im GDV-Format.
+     *
+     * @param anzahl Anzahl der Datensaetze
+     * @param mix    Zusammensetzung der Satzarten
+     * @return exportiertes Datenpaket
+     */
+    public static byte[] createGdvDatei(int anzahl, Mix mix) {
+        return export(createDatenpaket(anzahl, mix));
+    }
+
+    /**
+     * Exportiert das Datenpaket in ein Byte-Array.
+     *
+     * @param datenpaket Datenpaket
+     * @return exportiertes Datenpaket
+     */
+    public static byte[] export(Datenpaket datenpaket) {
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try {
+            datenpaket.export(ostream);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return ostream.toByteArray();
+    }
+
+}
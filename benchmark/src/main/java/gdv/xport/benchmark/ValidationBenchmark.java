@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.benchmark;
+
+import gdv.xport.DatenpaketStreamer;
+import gdv.xport.config.Config;
+import gdv.xport.event.DatenpaketValidator;
+import net.sf.oval.ConstraintViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks fuer die Validierung, einmal ueber
+ * {@link gdv.xport.Datenpaket#validate(Config)} und einmal waehrend des
+ * Imports ueber den {@link DatenpaketValidator}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    /** Validierungs-Modus. */
+    @Param({"lax", "strict"})
+    public String validierung;
+
+    private Config config;
+
+    /**
+     * Stellt die Konfiguration fuer die Validierung ein.
+     */
+    @Setup
+    public void setUp() {
+        config = "strict".equals(validierung) ? Config.STRICT : Config.LAX;
+    }
+
+    /**
+     * Validiert das (bereits importierte) Datenpaket.
+     *
+     * @param datei     die zu validierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @return gefundene Verletzungen
+     */
+    @Benchmark
+    public List<ConstraintViolation> validateDatenpaket(GdvDatei datei, Durchsatz durchsatz) {
+        List<ConstraintViolation> violations = datei.getDatenpaket().validate(config);
+        durchsatz.add(datei);
+        return violations;
+    }
+
+    /**
+     * Validiert das Datenpaket waehrend des Imports.
+     *
+     * @param datei     die zu validierende Datei
+     * @param durchsatz Zaehler fuer Saetze und Bytes
+     * @param bh        nimmt die gefundenen Verletzungen entgegen
+     * @return Anzahl der Verletzungen
+     * @throws IOException sollte nicht auftreten
+     */
+    @Benchmark
+    public long validateStream(GdvDatei datei, Durchsatz durchsatz, Blackhole bh) throws IOException {
+        DatenpaketValidator validator = new DatenpaketValidator(config, bh::consume);
+        DatenpaketStreamer streamer = new DatenpaketStreamer(new ByteArrayInputStream(datei.getDaten()));
+        streamer.register(validator);
+        streamer.readDatenpaket();
+        durchsatz.add(datei);
+        return validator.getAnzahlViolations();
+    }
+
+}
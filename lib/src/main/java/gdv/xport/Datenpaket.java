@@ -21,6 +21,7 @@ import gdv.xport.io.*;
 import gdv.xport.satz.Datensatz;
 import gdv.xport.satz.Nachsatz;
 import gdv.xport.satz.Satz;
+import gdv.xport.satz.SatzLayout;
 import gdv.xport.satz.Vorsatz;
 import gdv.xport.util.*;
 import net.sf.oval.ConstraintViolation;
@@ -31,8 +32,14 @@ import org.apache.logging.log4j.Logger;
 import java.io.*;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Ein Datenpaket besteht aus {@link Vorsatz}, mehrere {@link Datensatz}-Elementen
@@ -44,10 +51,12 @@ import java.util.*;
 public class Datenpaket implements ImportListener {
 
     private static final Logger LOG = LogManager.getLogger(Datenpaket.class);
+    private static final int EXPORT_BLOCK_SIZE = 1000;
     private Vorsatz vorsatz;
     private final List<Datensatz> datensaetze = new ArrayList<>();
     private final Config config;
     private Nachsatz nachsatz;
+    private boolean bulkImport;
 
     /**
      * Wenn man den Default-Konstruktor verwendet, sollte man vorher die
@@ -141,6 +150,40 @@ public class Datenpaket implements ImportListener {
         return config;
     }
 
+    /**
+     * Schaltet den Bulk-Import ein oder aus. Beim Bulk-Import werden die
+     * Datensaetze (und der Nachsatz) nur eingelesen, ihre Felder aber erst
+     * beim ersten Zugriff gesetzt und dabei ggf. validiert (siehe
+     * {@link gdv.xport.satz.Teildatensatz#importRohdaten(char[])}). Das Ergebnis ist das
+     * gleiche wie beim normalen Import, nur dass Fehler beim Setzen eines
+     * Feldes (z.B. bei eingeschalteter Validierung) erst beim Zugriff auf
+     * das Feld auftreten. Dies lohnt sich v.a. dann, wenn das Datenpaket
+     * nur weitergereicht oder anschliessend in einem eigenen Schritt
+     * (z.B. ueber {@link #validate()}) geprueft wird.
+     * <p>
+     * Der parallele Import ueber {@link #importFrom(File, ForkJoinPool)}
+     * ist davon nicht betroffen.
+     * </p>
+     *
+     * @param bulkImport true fuer Bulk-Import
+     * @since 6.2
+     */
+    public void setBulkImport(final boolean bulkImport) {
+        this.bulkImport = bulkImport;
+    }
+
+    /**
+     * Ist der Bulk-Import eingeschaltet?
+     *
+     * @return true bei Bulk-Import
+     * @see #setBulkImport(boolean)
+     * @since 6.2
+     */
+    @JsonIgnore
+    public boolean isBulkImport() {
+        return bulkImport;
+    }
+
     /**
      * Um die VU-Nummer setzen zu koennen.
      *
@@ -304,6 +347,11 @@ public class Datenpaket implements ImportListener {
 
     /**
      * Export.
+     * <p>
+     * Bei ISO-8859-1-Kodierung (Normalfall) werden die Saetze ueber einen
+     * {@link RecordExporter} blockweise direkt in den {@link FileChannel}
+     * geschrieben.
+     * </p>
      *
      * @param file     Datei, in die exportiert werden soll
      * @param encoding z.B. "ISO-8859-1"
@@ -311,23 +359,106 @@ public class Datenpaket implements ImportListener {
      * @since 1.0
      */
     public void export(final File file, final Charset encoding) throws IOException {
-        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), encoding)) {
-            export(writer);
+        if (StandardCharsets.ISO_8859_1.equals(encoding)) {
+            try (RecordExporter exporter = new RecordExporter(FileChannel.open(file.toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+                export(exporter);
+            }
+        } else {
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), encoding)) {
+                export(writer);
+            }
         }
     }
 
+    /**
+     * Exportiert das Datenpaket parallel in eine (ISO-8859-1-kodierte)
+     * Datei. Dazu werden die Datensaetze in Bloecke aufgeteilt, die im
+     * uebergebenen {@link ForkJoinPool} als Bytes aufbereitet und vom
+     * aufrufenden Thread in der urspruenglichen Reihenfolge geschrieben
+     * werden. Damit nicht das komplette Datenpaket doppelt im Speicher
+     * liegt, sind nie mehr als doppelt so viele Bloecke in Arbeit, wie der
+     * Pool Threads hat.
+     * <p>
+     * Die erzeugte Datei ist Byte fuer Byte die gleiche wie beim
+     * sequentiellen Export ueber {@link #export(File)}. Waehrend des Exports
+     * darf das Datenpaket nicht veraendert werden.
+     * </p>
+     *
+     * @param file Datei, in die exportiert werden soll
+     * @param pool Pool fuer den parallelen Export, z.B.
+     *             {@link ForkJoinPool#commonPool()}
+     * @throws IOException falls was schiefgelaufen ist (z.B. Platte voll)
+     * @since 6.2
+     */
+    public void export(final File file, final ForkJoinPool pool) throws IOException {
+        try (RecordExporter exporter = new RecordExporter(FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+            export(exporter, pool);
+        }
+    }
+
+    private void export(final RecordExporter exporter, final ForkJoinPool pool) throws IOException {
+        int maxInArbeit = Math.max(2, pool.getParallelism() * 2);
+        Deque<ForkJoinTask<byte[]>> inArbeit = new ArrayDeque<>(maxInArbeit);
+        try {
+            exporter.write(vorsatz);
+            for (int from = 0; from < datensaetze.size(); from += EXPORT_BLOCK_SIZE) {
+                if (inArbeit.size() >= maxInArbeit) {
+                    exporter.write(DatenpaketIndex.join(inArbeit.poll()));
+                }
+                int to = Math.min(from + EXPORT_BLOCK_SIZE, datensaetze.size());
+                List<Datensatz> block = datensaetze.subList(from, to);
+                inArbeit.add(pool.submit(() -> exporter.toByteArray(block)));
+            }
+            while (!inArbeit.isEmpty()) {
+                exporter.write(DatenpaketIndex.join(inArbeit.poll()));
+            }
+            exporter.write(nachsatz);
+            exporter.flush();
+        } finally {
+            inArbeit.forEach(task -> task.cancel(true));
+        }
+        LOG.info("{} Saetze parallel exportiert.", nachsatz.getAnzahlSaetze());
+    }
+
     /**
      * Falls wir einen Stream haben, koennen wir diese Methode benutzen.
+     * Die Saetze werden dabei ueber einen {@link RecordExporter} direkt als
+     * ISO-8859-1-Bytes geschrieben.
      *
      * @param ostream z.B. System.out
      * @throws IOException falls was schiefgelaufen ist
      * @since 0.3
      */
     public void export(final OutputStream ostream) throws IOException {
-        Writer writer = new OutputStreamWriter(ostream, Config.DEFAULT_ENCODING);
-        export(writer);
-        writer.flush();
-        ostream.flush();
+        RecordExporter exporter = new RecordExporter(ostream);
+        export(exporter);
+        exporter.flush();
+    }
+
+    /**
+     * Exportiert das Datenpaket direkt in den uebergebenen Channel (z.B.
+     * einen {@link FileChannel}). Der Channel bleibt dabei offen.
+     *
+     * @param channel Ziel des Exports
+     * @throws IOException falls was schiefgelaufen ist
+     * @since 6.2
+     */
+    public void export(final WritableByteChannel channel) throws IOException {
+        RecordExporter exporter = new RecordExporter(channel);
+        export(exporter);
+        exporter.flush();
+    }
+
+    private void export(final RecordExporter exporter) throws IOException {
+        exporter.write(vorsatz);
+        for (Datensatz datensatz : datensaetze) {
+            exporter.write(datensatz);
+        }
+        exporter.write(nachsatz);
+        exporter.flush();
+        LOG.info("{} Saetze exportiert.", nachsatz.getAnzahlSaetze());
     }
 
     /**
@@ -411,7 +542,11 @@ public class Datenpaket implements ImportListener {
      * @throws IOException falls was schiefgelaufen ist
      */
     public Datenpaket importFrom(final Reader reader) throws IOException {
-        PushbackLineNumberReader lnr = new PushbackLineNumberReader(new RecordReader(reader), 256);
+        return importRecordsFrom(new RecordReader(reader));
+    }
+
+    private Datenpaket importRecordsFrom(final Reader records) throws IOException {
+        PushbackLineNumberReader lnr = new PushbackLineNumberReader(records, 256);
         try {
             return importFrom(lnr);
         } catch (EOFException eofe) {
@@ -439,7 +574,7 @@ public class Datenpaket implements ImportListener {
         this.vorsatz.importFrom(reader);
         Map<SatzTyp, Version> satzartVersionen = this.vorsatz.getSatzartVersionen();
         while (true) {
-            Satz satz = importSatz(reader, satzartVersionen);
+            Satz satz = importSatz(reader, satzartVersionen, bulkImport);
             if (satz.getSatzart() == 9999) {
                 this.nachsatz = (Nachsatz) satz;
                 break;
@@ -459,26 +594,38 @@ public class Datenpaket implements ImportListener {
      * @throws IOException falls was schief gelaufen ist
      */
     protected static Satz importSatz(PushbackLineNumberReader reader, Map<SatzTyp, Version> satzartVersionen) throws IOException {
-        int satzart = Importer.of(reader).readSatzart();
-        LOG.debug("Satzart {} wird importiert...", satzart);
-        if (satzart == 9999) {
-            return importNachsatzFrom(reader);
-        } else {
-            return importSatzFrom(reader, satzart, satzartVersionen);
-        }
+        return importSatz(reader, satzartVersionen, false);
     }
 
-    private static Satz importSatzFrom(PushbackLineNumberReader reader, int satzart,
-                                       Map<SatzTyp, Version> satzartVersionen) throws IOException {
-        SatzTyp satzTyp = Importer.of(reader).readSatzTyp(satzart);
-        Version wanted = satzartVersionen.get(satzTyp);
-        if (wanted == null) {
-            return importDatensatz(reader, satzart);
+    /**
+     * Wie {@link #importSatz(PushbackLineNumberReader, Map)}, nur dass hier
+     * zusaetzlich der Bulk-Import (siehe {@link #setBulkImport(boolean)})
+     * eingeschaltet werden kann.
+     *
+     * @param reader PushbackReader mit einem Puffer von mind. 14 Zeichen
+     * @param satzartVersionen Satz-Versionen aus dem Vorsatz
+     * @param bulkImport true fuer Bulk-Import
+     * @return der importierte Satz
+     * @throws IOException falls was schief gelaufen ist
+     * @since 6.2
+     */
+    static Satz importSatz(PushbackLineNumberReader reader, Map<SatzTyp, Version> satzartVersionen,
+                           boolean bulkImport) throws IOException {
+        SatzTyp satzTyp = Importer.of(reader).readSatzTyp();
+        LOG.debug("Satzart {} wird importiert...", satzTyp);
+        Satz satz;
+        if (satzTyp.getSatzart() == 9999) {
+            satz = new Nachsatz();
+        } else {
+            Version wanted = satzartVersionen.get(satzTyp);
+            satz = (wanted == null) ? getSatz(satzTyp) : SatzRegistry.getSatz(satzTyp, wanted.getInhalt());
+        }
+        if (bulkImport) {
+            satz.importRohdaten(reader);
         } else {
-            Satz satz = SatzRegistry.getSatz(satzTyp, satzartVersionen.get(satzTyp).getInhalt());
             satz.importFrom(reader);
-            return satz;
         }
+        return satz;
     }
 
     /**
@@ -490,12 +637,12 @@ public class Datenpaket implements ImportListener {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public static Satz importSatz(final PushbackLineNumberReader reader) throws IOException {
-        int satzart = Importer.of(reader).readSatzart();
-        LOG.debug("reading Satzart " + satzart + "...");
-        if (satzart == 9999) {
+        SatzTyp satzTyp = Importer.of(reader).readSatzTyp();
+        LOG.debug("reading Satzart {}...", satzTyp);
+        if (satzTyp.getSatzart() == 9999) {
             return importNachsatzFrom(reader);
         } else {
-            return importDatensatz(reader, satzart);
+            return importDatensatz(reader, satzTyp);
         }
     }
 
@@ -505,14 +652,37 @@ public class Datenpaket implements ImportListener {
         return nachsatz;
     }
 
-    private static Satz importDatensatz(final PushbackLineNumberReader reader, final int satzart)
+    private static Satz importDatensatz(final PushbackLineNumberReader reader, final SatzTyp satzTyp)
             throws IOException {
-        SatzTyp satzTyp = Importer.of(reader).readSatzTyp(satzart);
         Satz satz = getSatz(satzTyp);
         satz.importFrom(reader);
         return satz;
     }
 
+    /**
+     * Liefert das Layout fuer den angegebenen SatzTyp. Dabei wird wie beim
+     * Import eines Satzes die im Vorsatz angegebene Version beruecksichtigt.
+     * Fuer nicht registrierte Satzarten wird (wie beim Import) ein Layout
+     * generiert.
+     *
+     * @param satzTyp          SatzTyp des Records
+     * @param satzartVersionen Satz-Versionen aus dem Vorsatz
+     * @return Layout fuer den Record
+     * @since 6.2
+     */
+    static SatzLayout getLayout(SatzTyp satzTyp, Map<SatzTyp, Version> satzartVersionen) {
+        Version wanted = satzartVersionen.get(satzTyp);
+        if (wanted != null) {
+            return SatzRegistry.getLayout(satzTyp, wanted.getInhalt());
+        }
+        try {
+            return SatzRegistry.getInstance().getLayout(satzTyp);
+        } catch (NotRegisteredException ex) {
+            LOG.debug("Layout fuer '{}' wird generiert:", satzTyp, ex);
+            return SatzLayout.of(getSatz(satzTyp));
+        }
+    }
+
     private static Satz getSatz(SatzTyp satzTyp) {
         try {
             return SatzRegistry.getInstance().getSatz(satzTyp);
@@ -550,6 +720,11 @@ public class Datenpaket implements ImportListener {
 
     /**
      * Importieren einer Datei.
+     * <p>
+     * Ist die Datei ISO-8859-1-kodiert (Normalfall), wird sie ueber einen
+     * {@link RecordScanner} blockweise direkt aus dem {@link FileChannel}
+     * gelesen.
+     * </p>
      *
      * @param file     Import-Datei
      * @param encoding z.B. "ISO-8859-1"
@@ -557,9 +732,59 @@ public class Datenpaket implements ImportListener {
      * @since 1.0
      */
     public void importFrom(final File file, final Charset encoding) throws IOException {
-        try (Reader reader = new InputStreamReader(new FileInputStream(file), encoding)) {
-            this.importFrom(reader);
+        if (StandardCharsets.ISO_8859_1.equals(encoding)) {
+            try (RecordScanner scanner = new RecordScanner(FileChannel.open(file.toPath(), StandardOpenOption.READ))) {
+                this.importRecordsFrom(scanner);
+            }
+        } else {
+            try (Reader reader = new InputStreamReader(new FileInputStream(file), encoding)) {
+                this.importFrom(reader);
+            }
+        }
+    }
+
+    /**
+     * Importiert eine (ISO-8859-1-kodierte) Datei parallel. Dazu wird die
+     * Datei ueber einen {@link DatenpaketIndex} eingeblendet und in Bloecke
+     * aufgeteilt, die jeweils an einem Satz-Anfang (Teildatensatz 1)
+     * beginnen. Die Bloecke werden im uebergebenen {@link ForkJoinPool}
+     * importiert und in der urspruenglichen Reihenfolge zusammengefuehrt.
+     * <p>
+     * Das Ergebnis ist das gleiche wie beim sequentiellen Import ueber
+     * {@link #importFrom(File)}. Getrennte Teildatensaetze werden also auch
+     * hier nicht automatisch zusammengefasst - dazu ist anschliessend
+     * {@link #pack()} aufzurufen. Und wie beim sequentiellen Import wird
+     * nur bis zum ersten Nachsatz gelesen.
+     * </p>
+     *
+     * @param file Import-Datei
+     * @param pool Pool fuer den parallelen Import, z.B.
+     *             {@link ForkJoinPool#commonPool()}
+     * @return das Datenpaket zur Weiterverarbeitung
+     * @throws IOException falls was schiefgelaufen ist
+     * @since 6.2
+     */
+    public Datenpaket importFrom(final File file, final ForkJoinPool pool) throws IOException {
+        List<Satz> saetze;
+        try (DatenpaketIndex index = DatenpaketIndex.of(file)) {
+            int nachsatz = index.indexOfSatzart(9999);
+            saetze = index.getSaetze(pool, 0, (nachsatz < 0) ? index.size() : nachsatz + 1);
+        }
+        if (saetze.isEmpty() || !(saetze.get(0) instanceof Vorsatz)) {
+            throw new ImportException("no Vorsatz found in " + file);
+        }
+        this.vorsatz = (Vorsatz) saetze.get(0);
+        for (int i = 1; i < saetze.size(); i++) {
+            Satz satz = saetze.get(i);
+            if (satz instanceof Nachsatz) {
+                this.nachsatz = (Nachsatz) satz;
+                return this;
+            } else if (!(satz instanceof Datensatz)) {
+                throw new ImportException("unexpected " + satz + " in " + file);
+            }
+            datensaetze.add((Datensatz) satz);
         }
+        throw new EOFException("no Nachsatz found in " + file);
     }
 
     /**
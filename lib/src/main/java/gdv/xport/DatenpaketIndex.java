@@ -0,0 +1,751 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport;
+
+import gdv.xport.config.Config;
+import gdv.xport.feld.Satznummer;
+import gdv.xport.feld.Version;
+import gdv.xport.io.ImportException;
+import gdv.xport.io.Importer;
+import gdv.xport.io.PushbackLineNumberReader;
+import gdv.xport.io.RecordScanner;
+import gdv.xport.satz.Satz;
+import gdv.xport.satz.SatzLayout;
+import gdv.xport.satz.SatzRecord;
+import gdv.xport.satz.Vorsatz;
+import gdv.xport.util.SatzRegistry;
+import gdv.xport.util.SatzTyp;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Der DatenpaketIndex ist fuer grosse Dateien gedacht, die nicht komplett
+ * als {@link Datenpaket} in den Speicher passen. Die Datei wird dazu ueber
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)} eingeblendet und
+ * in einem Durchgang ein Index ueber alle Records (Zeilen) aufgebaut. Dieser
+ * Index enthaelt fuer jeden Record Zeilennummer, Satzart, Sparte,
+ * Teildatensatz-Nummer und Byte-Offset.
+ * <p>
+ * Die eigentlichen Saetze werden erst beim Zugriff (z.B. ueber
+ * {@link #getSatz(int)} oder den {@link Iterator}) aus der Datei erzeugt.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class DatenpaketIndex implements Iterable<Satz>, Closeable {
+
+    private static final Logger LOG = LogManager.getLogger(DatenpaketIndex.class);
+    private static final int RECORD_LENGTH = 256;
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final int MIN_BLOCK_SIZE = 1000;
+
+    private final File file;
+    private final FileChannel channel;
+    private MappedByteBuffer[] segments;
+    private final long size;
+    private final Map<Integer, Map<SatzTyp, Version>> satzartVersionen = new HashMap<>();
+    private int records = 0;
+    private long[] offsets = new long[1024];
+    private short[] lengths = new short[1024];
+    private int[] lineNumbers = new int[1024];
+    private short[] satzarten = new short[1024];
+    private short[] sparten = new short[1024];
+    private byte[] satznummern = new byte[1024];
+    private int[] vorsaetze = new int[16];
+    private int anzahlVorsaetze = 0;
+    private int minBlockSize = MIN_BLOCK_SIZE;
+
+    private DatenpaketIndex(File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.size = channel.size();
+        int n = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        this.segments = new MappedByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+        }
+    }
+
+    /**
+     * Blendet die angegebene Datei ein und baut den Index ueber alle
+     * Records auf.
+     *
+     * @param file die GDV-Datei (ISO-8859-1-kodiert)
+     * @return der Index zur Datei
+     * @throws IOException falls die Datei nicht gelesen werden kann
+     */
+    public static DatenpaketIndex of(File file) throws IOException {
+        DatenpaketIndex index = new DatenpaketIndex(file);
+        try {
+            index.buildIndex();
+        } catch (RuntimeException ex) {
+            index.close();
+            throw ex;
+        }
+        LOG.debug("{} created.", index);
+        return index;
+    }
+
+    private void buildIndex() {
+        char[] record = new char[RECORD_LENGTH];
+        int lineNumber = 1;
+        long pos = 0;
+        while (pos < size) {
+            byte b = byteAt(pos);
+            if (b == '\n') {
+                lineNumber++;
+                pos++;
+                continue;
+            } else if (b == '\r') {
+                pos++;
+                continue;
+            }
+            long start = pos;
+            int len = 0;
+            while ((len < RECORD_LENGTH) && (pos < size)) {
+                b = byteAt(pos);
+                if ((b == '\n') || (b == '\r')) {
+                    break;
+                }
+                record[len] = (char) (b & 0xFF);
+                len++;
+                pos++;
+            }
+            Arrays.fill(record, len, RECORD_LENGTH, ' ');
+            addRecord(start, len, lineNumber, record);
+        }
+    }
+
+    private void addRecord(long offset, int len, int lineNumber, char[] record) {
+        if (records == offsets.length) {
+            int n = records * 2;
+            offsets = Arrays.copyOf(offsets, n);
+            lengths = Arrays.copyOf(lengths, n);
+            lineNumbers = Arrays.copyOf(lineNumbers, n);
+            satzarten = Arrays.copyOf(satzarten, n);
+            sparten = Arrays.copyOf(sparten, n);
+            satznummern = Arrays.copyOf(satznummern, n);
+        }
+        int satzart = parseInt(record, 0, 4);
+        offsets[records] = offset;
+        lengths[records] = (short) len;
+        lineNumbers[records] = lineNumber;
+        satzarten[records] = (short) satzart;
+        if ((satzart == 1) || (satzart == 9999) || (satzart < 0)) {
+            sparten[records] = -1;
+            satznummern[records] = (byte) record[RECORD_LENGTH - 1];
+        } else {
+            sparten[records] = (short) parseInt(record, 10, 3);
+            satznummern[records] = readSatznummer(satzart, record);
+        }
+        if (satzart == 1) {
+            if (anzahlVorsaetze == vorsaetze.length) {
+                vorsaetze = Arrays.copyOf(vorsaetze, anzahlVorsaetze * 2);
+            }
+            vorsaetze[anzahlVorsaetze++] = records;
+        }
+        records++;
+    }
+
+    private static byte readSatznummer(int satzart, char[] record) {
+        try {
+            return (byte) record[Satznummer.adresseOf(satzart, record) - 1];
+        } catch (NumberFormatException ex) {
+            LOG.debug("Satznummer of Satzart {} not found:", satzart, ex);
+            return (byte) record[RECORD_LENGTH - 1];
+        }
+    }
+
+    private static int parseInt(char[] record, int start, int len) {
+        int value = 0;
+        boolean digits = false;
+        for (int i = start; i < start + len; i++) {
+            char c = record[i];
+            if ((c >= '0') && (c <= '9')) {
+                value = value * 10 + (c - '0');
+                digits = true;
+            } else if (c != ' ') {
+                return -1;
+            }
+        }
+        return digits ? value : -1;
+    }
+
+    private byte byteAt(long pos) {
+        return getSegment(pos).get((int) (pos & (SEGMENT_SIZE - 1)));
+    }
+
+    private MappedByteBuffer getSegment(long pos) {
+        MappedByteBuffer[] mapped = segments;
+        if (mapped == null) {
+            throw new IllegalStateException(file + " is already closed");
+        }
+        return mapped[(int) (pos >>> SEGMENT_SHIFT)];
+    }
+
+    /**
+     * Liefert die Anzahl der Records (Teildatensaetze inkl. Vor- und
+     * Nachsatz) in der Datei.
+     *
+     * @return Anzahl der Records
+     */
+    public int size() {
+        return records;
+    }
+
+    /**
+     * Liefert den Byte-Offset des n-ten Records in der Datei.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return Byte-Offset
+     */
+    public long getOffset(int n) {
+        return offsets[checkIndex(n)];
+    }
+
+    /**
+     * Liefert die Zeilennummer des n-ten Records. Hat die Datei keine
+     * Zeilenumbrueche, ist die Zeilennummer fuer alle Records 1.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return Zeilennummer (beginnend bei 1)
+     */
+    public int getLineNumber(int n) {
+        return lineNumbers[checkIndex(n)];
+    }
+
+    /**
+     * Liefert die Satzart des n-ten Records.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return Satzart (z.B. 100) oder -1, falls keine gueltige Satzart
+     */
+    public int getSatzart(int n) {
+        return satzarten[checkIndex(n)];
+    }
+
+    /**
+     * Liefert die Sparte des n-ten Records.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return Sparte (z.B. 10) oder -1, falls keine Sparte vorhanden ist
+     */
+    public int getSparte(int n) {
+        return sparten[checkIndex(n)];
+    }
+
+    /**
+     * Liefert die Teildatensatz-Nummer des n-ten Records.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return Teildatensatz-Nummer (als Zeichen, i.d.R. '1' ... '9')
+     */
+    public char getTeildatensatzNummer(int n) {
+        return (char) (satznummern[checkIndex(n)] & 0xFF);
+    }
+
+    /**
+     * Liefert den Index des ersten Records mit der angegebenen Satzart.
+     *
+     * @param satzart z.B. 9999 fuer den Nachsatz
+     * @return Index des Records oder -1, falls die Satzart nicht vorkommt
+     */
+    public int indexOfSatzart(int satzart) {
+        for (int n = 0; n < records; n++) {
+            if (satzarten[n] == satzart) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    private int checkIndex(int n) {
+        if ((n < 0) || (n >= records)) {
+            throw new IllegalArgumentException("record " + n + " liegt nicht zwischen 0 und " + (records - 1));
+        }
+        return n;
+    }
+
+    /**
+     * Sucht alle Records, deren Versicherungsschein-Nummer (Byte 14 - 30)
+     * mit der angegebenen Nummer uebereinstimmt. Dazu wird direkt auf die
+     * eingeblendete Datei zugegriffen, ohne Saetze anzulegen.
+     * <p>
+     * Da die Suche auf Record-Ebene arbeitet, sind bei mehrteiligen Saetzen
+     * auch die Folge-Teildatensaetze (Teildatensatz 2 ... n) enthalten.
+     * {@link #getDatenpaket(Collection)} beruecksichtigt das und nimmt
+     * jeden Satz nur einmal auf.
+     * </p>
+     *
+     * @param vsNr Versicherungsschein-Nummer
+     * @return Liste mit den Indizes der gefundenen Records
+     */
+    public List<Integer> findVersicherungsscheinNummer(String vsNr) {
+        byte[] wanted = vsNr.trim().getBytes(StandardCharsets.ISO_8859_1);
+        List<Integer> found = new ArrayList<>();
+        if (wanted.length > 17) {
+            return found;
+        }
+        for (int n = 0; n < records; n++) {
+            if ((satzarten[n] != 1) && (satzarten[n] != 9999) && matchesVsNr(n, wanted)) {
+                found.add(n);
+            }
+        }
+        return found;
+    }
+
+    private boolean matchesVsNr(int n, byte[] wanted) {
+        long start = offsets[n] + 13;
+        int begin = 0;
+        int end = Math.min(17, lengths[n] - 13);
+        while ((begin < end) && (byteAt(start + begin) == ' ')) {
+            begin++;
+        }
+        while ((end > begin) && (byteAt(start + end - 1) == ' ')) {
+            end--;
+        }
+        if (Math.max(0, end - begin) != wanted.length) {
+            return false;
+        }
+        for (int i = 0; i < wanted.length; i++) {
+            if (byteAt(start + begin + i) != wanted[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Erzeugt den Satz, der mit dem n-ten Record beginnt. Gehoeren die
+     * folgenden Records als Teildatensaetze zum gleichen Satz, werden sie
+     * mit eingelesen. Die Satzart-Versionen werden dabei aus dem
+     * zugehoerigen Vorsatz genommen.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return der erzeugte Satz
+     * @throws IOException bei Lesefehlern
+     */
+    public Satz getSatz(int n) throws IOException {
+        PushbackLineNumberReader reader = createReader(checkIndex(n));
+        try {
+            if (satzarten[n] == 1) {
+                Vorsatz vorsatz = new Vorsatz();
+                vorsatz.importFrom(reader);
+                return vorsatz;
+            }
+            return Datenpaket.importSatz(reader, getSatzartVersionen(n));
+        } catch (NumberFormatException ex) {
+            throw new ImportException(reader, "number expected", ex);
+        }
+    }
+
+    /**
+     * Liest alle Saetze der Datei parallel ein. Dazu werden die Records in
+     * Bloecke aufgeteilt, die jeweils mit einem Teildatensatz 1 beginnen
+     * (und damit nie mitten in einem Satz anfangen). Jeder Block wird als
+     * eigene Aufgabe im uebergebenen {@link ForkJoinPool} importiert, die
+     * Ergebnisse werden anschliessend in der urspruenglichen Reihenfolge
+     * zusammengefuehrt.
+     * <p>
+     * Das Ergebnis entspricht dem sequentiellen Import ueber den
+     * {@link Iterator}: die Liste enthaelt alle Saetze (inkl. Vor- und
+     * Nachsatz) in der Reihenfolge, in der sie in der Datei stehen. Enthaelt
+     * die Datei mehrere Datenpakete, wird also auch ueber den ersten
+     * Nachsatz hinaus gelesen.
+     * </p>
+     *
+     * @param pool Pool, in dem die einzelnen Bloecke importiert werden
+     * @return alle Saetze der Datei
+     * @throws IOException bei Lesefehlern
+     */
+    public List<Satz> getSaetze(ForkJoinPool pool) throws IOException {
+        return getSaetze(pool, 0, records);
+    }
+
+    /**
+     * Liest die Saetze, die mit den Records von 'from' (inklusive) bis 'to'
+     * (exklusive) beginnen, parallel ein. Das Vorgehen ist das gleiche wie
+     * bei {@link #getSaetze(ForkJoinPool)}. So kann z.B. zusammen mit
+     * {@link #indexOfSatzart(int)} nur bis zum ersten Nachsatz gelesen
+     * werden.
+     *
+     * @param pool Pool, in dem die einzelnen Bloecke importiert werden
+     * @param from Index des ersten Records (beginnend bei 0)
+     * @param to   Index hinter dem letzten Record
+     * @return die eingelesenen Saetze
+     * @throws IOException bei Lesefehlern
+     */
+    public List<Satz> getSaetze(ForkJoinPool pool, int from, int to) throws IOException {
+        prepareSatzartVersionen();
+        int[] bloecke = getBloecke(from, to, pool.getParallelism() * 4);
+        List<ForkJoinTask<List<Satz>>> tasks = new ArrayList<>(bloecke.length);
+        for (int i = 0; i < bloecke.length - 1; i++) {
+            int start = bloecke[i];
+            int end = bloecke[i + 1];
+            tasks.add(pool.submit(() -> getSaetze(start, end)));
+        }
+        List<Satz> saetze = new ArrayList<>();
+        for (ForkJoinTask<List<Satz>> task : tasks) {
+            saetze.addAll(join(task));
+        }
+        return saetze;
+    }
+
+    /**
+     * Liest die Saetze ein, die mit den Records von 'from' (inklusive) bis
+     * 'to' (exklusive) beginnen. Ein Satz, der bei 'to' noch nicht zu Ende
+     * ist, wird dabei vollstaendig eingelesen.
+     *
+     * @param from Index des ersten Records (beginnend bei 0)
+     * @param to   Index hinter dem letzten Record
+     * @return die eingelesenen Saetze
+     * @throws IOException bei Lesefehlern
+     */
+    public List<Satz> getSaetze(int from, int to) throws IOException {
+        List<Satz> saetze = new ArrayList<>();
+        if (from >= to) {
+            return saetze;
+        }
+        PushbackLineNumberReader reader = createReader(checkIndex(from));
+        Map<SatzTyp, Version> versionen = getSatzartVersionen(from);
+        int n = from;
+        try {
+            while (n < to) {
+                Satz satz;
+                if (satzarten[n] == 1) {
+                    Vorsatz vorsatz = new Vorsatz();
+                    vorsatz.importFrom(reader);
+                    versionen = vorsatz.getSatzartVersionen();
+                    satz = vorsatz;
+                } else {
+                    satz = Datenpaket.importSatz(reader, versionen);
+                }
+                if (satz.getNumberOfTeildatensaetze() < 1) {
+                    throw new ImportException("no Teildatensatz found in line " + lineNumbers[n] + " of " + file);
+                }
+                saetze.add(satz);
+                n += satz.getNumberOfTeildatensaetze();
+            }
+        } catch (NumberFormatException ex) {
+            throw new ImportException(reader, "number expected", ex);
+        }
+        return saetze;
+    }
+
+    /**
+     * Ermittelt die Grenzen der Bloecke fuer den parallelen Import. Ein
+     * Block beginnt immer mit einem Teildatensatz 1, dessen Vorgaenger eine
+     * gueltige Satznummer hat - nur dann ist sichergestellt, dass hier ein
+     * neuer Satz anfaengt.
+     */
+    private int[] getBloecke(int from, int to, int anzahl) {
+        int blockSize = Math.max(minBlockSize, (to - from) / Math.max(1, anzahl));
+        List<Integer> bloecke = new ArrayList<>();
+        bloecke.add(from);
+        for (int n = from + blockSize; n < to; n += blockSize) {
+            n = nextSatzAnfang(n, to);
+            if (n < to) {
+                bloecke.add(n);
+            }
+        }
+        bloecke.add(to);
+        return bloecke.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int nextSatzAnfang(int n, int to) {
+        while ((n < to) && !((satznummern[n] == '1') && Character.isDigit(satznummern[n - 1]))) {
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Setzt die minimale Anzahl an Records pro Block fuer den parallelen
+     * Import (Default: 1000). Kleinere Bloecke sind v.a. zum Testen
+     * gedacht.
+     *
+     * @param minBlockSize minimale Block-Groesse (mind. 1)
+     */
+    void setMinBlockSize(int minBlockSize) {
+        if (minBlockSize < 1) {
+            throw new IllegalArgumentException("block size " + minBlockSize + " must be positive");
+        }
+        this.minBlockSize = minBlockSize;
+    }
+
+    /**
+     * Die Satzart-Versionen der Vorsaetze (und die zugehoerigen Saetze in
+     * der {@link SatzRegistry}) werden vorab ermittelt, damit waehrend des
+     * parallelen Imports nur noch lesend darauf zugegriffen wird.
+     */
+    private void prepareSatzartVersionen() throws IOException {
+        SatzRegistry.getInstance();
+        for (int i = 0; i < anzahlVorsaetze; i++) {
+            for (Map.Entry<SatzTyp, Version> entry : getSatzartVersionen(vorsaetze[i] + 1).entrySet()) {
+                SatzRegistry.getSatz(entry.getKey(), entry.getValue().getInhalt());
+            }
+        }
+    }
+
+    /**
+     * Wartet auf das Ergebnis der Aufgabe. Ist sie fehlgeschlagen, wird die
+     * urspruengliche Exception weitergereicht.
+     *
+     * @param task Aufgabe (z.B. aus einem {@link ForkJoinPool})
+     * @param <T>  Typ des Ergebnisses
+     * @return Ergebnis der Aufgabe
+     * @throws IOException falls die Aufgabe mit einer IOException abbrach
+     */
+    static <T> T join(ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted: " + ex.getMessage());
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("task failed", cause);
+        }
+    }
+
+    /**
+     * Liefert den n-ten Record als leichtgewichtigen {@link SatzRecord}.
+     * Im Gegensatz zu {@link #getSatz(int)} werden dabei keine Feld-Objekte
+     * angelegt, sondern nur die Zeilen des Satzes zusammen mit dem
+     * (gemeinsam genutzten) {@link SatzLayout} gehalten.
+     *
+     * @param n Index des Records (beginnend bei 0)
+     * @return der eingelesene Record
+     * @throws IOException bei Lesefehlern
+     */
+    public SatzRecord getRecord(int n) throws IOException {
+        PushbackLineNumberReader reader = createReader(checkIndex(n));
+        SatzTyp satzTyp = Importer.of(reader).readSatzTyp();
+        return SatzRecord.importFrom(Datenpaket.getLayout(satzTyp, getSatzartVersionen(n)), reader);
+    }
+
+    private PushbackLineNumberReader createReader(int n) {
+        RecordScanner scanner = new RecordScanner(new SegmentChannel(offsets[n]), 10 * (RECORD_LENGTH + 2));
+        PushbackLineNumberReader reader = new PushbackLineNumberReader(scanner, RECORD_LENGTH);
+        // wie beim sequentiellen Import: vor dem Record stehen lineNumber - 1 Zeilen
+        reader.setLineNumber(lineNumbers[n] - 1);
+        return reader;
+    }
+
+    private synchronized Map<SatzTyp, Version> getSatzartVersionen(int n) throws IOException {
+        int vorsatzIndex = -1;
+        for (int i = 0; i < anzahlVorsaetze && vorsaetze[i] < n; i++) {
+            vorsatzIndex = vorsaetze[i];
+        }
+        if (vorsatzIndex < 0) {
+            return Collections.emptyMap();
+        }
+        Map<SatzTyp, Version> versionen = satzartVersionen.get(vorsatzIndex);
+        if (versionen == null) {
+            versionen = ((Vorsatz) getSatz(vorsatzIndex)).getSatzartVersionen();
+            satzartVersionen.put(vorsatzIndex, versionen);
+        }
+        return versionen;
+    }
+
+    /**
+     * Liefert die Saetze der Datei in der Reihenfolge, in der sie in der
+     * Datei stehen. Die Saetze werden dabei erst beim Aufruf von
+     * {@link Iterator#next()} erzeugt.
+     *
+     * @return Iterator ueber alle Saetze (inkl. Vor- und Nachsatz)
+     */
+    @Override
+    public Iterator<Satz> iterator() {
+        return new Iterator<Satz>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < records;
+            }
+
+            @Override
+            public Satz next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("no more records in " + file);
+                }
+                try {
+                    Satz satz = getSatz(next);
+                    next += Math.max(1, satz.getNumberOfTeildatensaetze());
+                    return satz;
+                } catch (IOException ex) {
+                    throw new IllegalStateException("cannot read record " + next + " from " + file, ex);
+                }
+            }
+        };
+    }
+
+    /**
+     * Legt ein neues {@link Datenpaket} an, das nur die Saetze enthaelt, die
+     * mit den angegebenen Records beginnen. Vorsatz wird aus der Datei
+     * uebernommen, der Nachsatz wird neu berechnet. Damit laesst sich z.B.
+     * zusammen mit {@link #findVersicherungsscheinNummer(String)} ein
+     * Ausschnitt aus einer grossen Datei exportieren.
+     * <p>
+     * Records, die bereits als Teildatensatz eines vorher eingelesenen
+     * Satzes enthalten sind, werden uebersprungen. Damit taucht ein
+     * mehrteiliger Satz nur einmal (und vollstaendig) im Datenpaket auf.
+     * </p>
+     *
+     * @param recordNumbers Indizes der Records
+     * @return Datenpaket mit den ausgewaehlten Saetzen
+     * @throws IOException bei Lesefehlern
+     */
+    public Datenpaket getDatenpaket(Collection<Integer> recordNumbers) throws IOException {
+        List<Satz> saetze = new ArrayList<>();
+        if (anzahlVorsaetze > 0) {
+            saetze.add(getSatz(vorsaetze[0]));
+        }
+        BitSet eingelesen = new BitSet(records);
+        for (int n : recordNumbers) {
+            if ((satzarten[checkIndex(n)] != 1) && (satzarten[n] != 9999) && !eingelesen.get(n)) {
+                Satz satz = getSatz(n);
+                eingelesen.set(n, Math.min(records, n + Math.max(1, satz.getNumberOfTeildatensaetze())));
+                saetze.add(satz);
+            }
+        }
+        return Datenpaket.of(saetze, Config.getInstance());
+    }
+
+    /**
+     * Exportiert die Records von 'from' (inklusive) bis 'to' (exklusive)
+     * unveraendert in den angegebenen Stream. Zu kurze Records werden dabei
+     * mit Leerzeichen auf 256 Bytes aufgefuellt.
+     *
+     * @param from    Index des ersten Records
+     * @param to      Index nach dem letzten Record
+     * @param ostream Ziel
+     * @throws IOException bei Schreibfehlern
+     */
+    public void export(int from, int to, OutputStream ostream) throws IOException {
+        byte[] eod = Config.getEOD().getBytes(StandardCharsets.ISO_8859_1);
+        byte[] buffer = new byte[RECORD_LENGTH];
+        for (int n = from; n < to; n++) {
+            checkIndex(n);
+            Arrays.fill(buffer, (byte) ' ');
+            for (int i = 0; i < lengths[n]; i++) {
+                buffer[i] = byteAt(offsets[n] + i);
+            }
+            ostream.write(buffer);
+            ostream.write(eod);
+        }
+        ostream.flush();
+    }
+
+    /**
+     * Gibt die eingeblendete Datei wieder frei. Danach fuehrt jeder Zugriff
+     * auf die Records zu einer {@link IllegalStateException}.
+     * <p>
+     * Unter Java 8 gibt es keine offizielle Moeglichkeit, eine eingeblendete
+     * Datei explizit wieder auszublenden. Deswegen werden hier nur der
+     * Channel geschlossen und die Referenzen auf die Segmente entfernt - die
+     * Segmente selbst gibt die JVM erst frei, wenn sie vom Garbage Collector
+     * eingesammelt werden. Ein explizites Unmap (z.B. ueber den Cleaner)
+     * wird bewusst nicht gemacht, da ein noch laufender Lesezugriff (z.B.
+     * aus {@link #getSaetze(ForkJoinPool)}) sonst die JVM zum Absturz
+     * bringen kann.
+     * </p>
+     *
+     * @throws IOException bei Fehlern
+     */
+    @Override
+    public void close() throws IOException {
+        segments = null;
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " for " + file + " with " + records + " records";
+    }
+
+    /**
+     * Ueber diesen Channel wird ab einer bestimmten Position aus der
+     * eingeblendeten Datei gelesen.
+     */
+    private final class SegmentChannel implements ReadableByteChannel {
+
+        private long position;
+        private boolean open = true;
+
+        private SegmentChannel(long position) {
+            this.position = position;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (position >= size) {
+                return -1;
+            }
+            // als Buffer, damit auch unter Java 8 Buffer.position() und limit() aufgerufen werden
+            Buffer src = getSegment(position).duplicate();
+            src.position((int) (position & (SEGMENT_SIZE - 1)));
+            if (src.remaining() > dst.remaining()) {
+                src.limit(src.position() + dst.remaining());
+            }
+            int n = src.remaining();
+            dst.put((ByteBuffer) src);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+    }
+
+}
@@ -11,37 +11,57 @@
  */
 package gdv.xport;
 
-import gdv.xport.config.Config;
 import gdv.xport.event.ImportListener;
+import gdv.xport.event.SatzSubscriber;
 import gdv.xport.feld.Version;
 import gdv.xport.io.Importer;
 import gdv.xport.io.PushbackLineNumberReader;
 import gdv.xport.io.RecordReader;
-import gdv.xport.io.RecyclingInputStreamReader;
+import gdv.xport.io.RecordScanner;
+import gdv.xport.satz.Nachsatz;
 import gdv.xport.satz.Satz;
+import gdv.xport.satz.SatzLayout;
+import gdv.xport.satz.SatzRecord;
 import gdv.xport.satz.Vorsatz;
 import gdv.xport.util.SatzTyp;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Im Gegensatz zur {@link Datenpaket}-Klasse wird hier ein Datenpaket nicht komplett in den Speicher geladen, sondern satzweise gelesen und anschliessend
  * verworfen. Vorher werden noch die angemeldeten Listener informiert, damit diese die Daten verarbeiten (z.B. exportieren) koennen.
  *
+ * <p>
+ * Alternativ zu den Listenern koennen die Saetze auch ueber
+ * {@link #iterator()}, {@link #stream()} oder {@link #subscribe(SatzSubscriber)}
+ * abgeholt werden. Dabei wird immer nur soviel gelesen, wie auch
+ * angefordert wird.
+ * </p>
+ * <p>
+ * Werden keine kompletten Saetze benoetigt, koennen ueber {@link #records()}
+ * auch nur leichtgewichtige {@link SatzRecord}s gelesen werden.
+ * </p>
+ *
  * @author oliver
  * @since 1.0
  */
-public class DatenpaketStreamer {
+public class DatenpaketStreamer implements Iterable<Satz> {
 
     private final PushbackLineNumberReader reader;
     private final List<ImportListener> importListener = new ArrayList<>();
     private Map<SatzTyp, Version> satzartVersionen = new HashMap<>();
+    private boolean imDatenpaket;
+    private boolean bulkImport;
+    private SatzLayout vorsatzLayout;
+    private SatzLayout nachsatzLayout;
 
     /**
      * Legt einen neuen {@link DatenpaketStreamer} an.
@@ -49,7 +69,7 @@ public class DatenpaketStreamer {
      * @param istream der InputStream
      */
     public DatenpaketStreamer(final InputStream istream) {
-        this(new RecyclingInputStreamReader(istream, Config.DEFAULT_ENCODING));
+        this(new PushbackLineNumberReader(RecordScanner.of(istream), 256));
     }
 
     /**
@@ -58,7 +78,11 @@ public class DatenpaketStreamer {
      * @param reader der Reader
      */
     public DatenpaketStreamer(final Reader reader) {
-        this.reader = new PushbackLineNumberReader(new RecordReader(reader), 256);
+        this(new PushbackLineNumberReader(new RecordReader(reader), 256));
+    }
+
+    private DatenpaketStreamer(final PushbackLineNumberReader reader) {
+        this.reader = reader;
     }
 
     /**
@@ -70,6 +94,19 @@ public class DatenpaketStreamer {
         this.importListener.add(listener);
     }
 
+    /**
+     * Schaltet den Bulk-Import ein oder aus. Die Saetze werden dann nur
+     * eingelesen, ihre Felder aber erst beim ersten Zugriff gesetzt (siehe
+     * {@link Datenpaket#setBulkImport(boolean)}). Dies lohnt sich, wenn die
+     * Listener nur einen Teil der Felder benoetigen.
+     *
+     * @param bulkImport true fuer Bulk-Import
+     * @since 6.2
+     */
+    public void setBulkImport(final boolean bulkImport) {
+        this.bulkImport = bulkImport;
+    }
+
     /**
      * Hiermit wird ein einzelnes Datenpaket gelesen und die verschiedenen Listener ueber den jeweils importierten Satz informiert. Damit koennen die Listener
      * eine weitere Verarbeitung (wie z.B. Export) anstossen.
@@ -79,7 +116,7 @@ public class DatenpaketStreamer {
     public void readDatenpaket() throws IOException {
         readVorsatz();
         while (true) {
-            Satz satz = Datenpaket.importSatz(reader, satzartVersionen);
+            Satz satz = Datenpaket.importSatz(reader, satzartVersionen, bulkImport);
             notice(satz);
             if (satz.getSatzart() == 9999) {
                 break;
@@ -115,11 +152,170 @@ public class DatenpaketStreamer {
         }
     }
 
-    private void readVorsatz() throws IOException {
+    /**
+     * Liefert einen Iterator ueber alle Saetze (inkl. Vor- und Nachsatz).
+     * Enthaelt die Datei mehrere Datenpakete, werden sie nacheinander
+     * geliefert. Ein Satz wird erst gelesen, wenn er ueber
+     * {@link Iterator#hasNext()} oder {@link Iterator#next()} angefordert
+     * wird. Registrierte {@link ImportListener} werden dabei ebenfalls
+     * informiert.
+     * <p>
+     * Da der Iterator auf dem gleichen Reader arbeitet, sollte er nicht
+     * zusammen mit {@link #readDatenpaket()} verwendet werden. Lesefehler
+     * werden als {@link UncheckedIOException} weitergegeben.
+     * </p>
+     *
+     * @return Iterator ueber die (restlichen) Saetze
+     * @since 6.2
+     */
+    @Override
+    public Iterator<Satz> iterator() {
+        return new Iterator<Satz>() {
+            private Satz next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = readNextSatz();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public Satz next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("no more Saetze in " + reader);
+                }
+                Satz satz = next;
+                next = null;
+                return satz;
+            }
+        };
+    }
+
+    /**
+     * Liefert die Saetze als (sequentiellen) {@link Stream}. Da die Saetze
+     * erst beim Verarbeiten gelesen werden, lassen sich auch grosse Dateien
+     * mit konstantem Speicherbedarf filtern, umwandeln oder vorzeitig
+     * abbrechen (z.B. ueber {@link Stream#limit(long)}).
+     *
+     * @return Stream ueber die (restlichen) Saetze
+     * @since 6.2
+     */
+    public Stream<Satz> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Meldet einen {@link SatzSubscriber} an. Er bekommt die Saetze erst
+     * geliefert, wenn er sie ueber die {@link SatzSubscriber.Subscription}
+     * angefordert hat, und zwar in dem Thread, in dem er sie anfordert.
+     *
+     * @param subscriber der Subscriber
+     * @since 6.2
+     */
+    public void subscribe(final SatzSubscriber subscriber) {
+        subscriber.onSubscribe(new SatzSubscription(subscriber, iterator()));
+    }
+
+    /**
+     * Liefert alle (restlichen) Saetze als leichtgewichtige
+     * {@link SatzRecord}s. Im Gegensatz zu {@link #stream()} wird dabei
+     * nicht fuer jeden Satz eine Kopie der Vorlage mit allen Feldern
+     * angelegt, sondern nur die eingelesenen Zeilen zusammen mit dem
+     * gemeinsam genutzten {@link SatzLayout} gehalten. Lediglich der
+     * Vorsatz wird komplett importiert, um die Satz-Versionen zu ermitteln.
+     * <p>
+     * Da registrierte {@link ImportListener} einen kompletten Satz erwarten,
+     * werden sie in diesem Modus nicht informiert. Wie bei
+     * {@link #iterator()} sollte auch dieser Stream nicht zusammen mit
+     * anderen Lese-Methoden verwendet werden.
+     * </p>
+     *
+     * @return Stream ueber die (restlichen) Records
+     * @since 6.2
+     */
+    public Stream<SatzRecord> records() {
+        Iterator<SatzRecord> records = new Iterator<SatzRecord>() {
+            private SatzRecord next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = readNextRecord();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public SatzRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("no more records in " + reader);
+                }
+                SatzRecord record = next;
+                next = null;
+                return record;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private SatzRecord readNextRecord() throws IOException {
+        if (!imDatenpaket) {
+            if (!canReadDatenpaket()) {
+                return null;
+            }
+            imDatenpaket = true;
+            if (vorsatzLayout == null) {
+                vorsatzLayout = SatzLayout.of(new Vorsatz());
+            }
+            SatzRecord vorsatz = SatzRecord.importFrom(vorsatzLayout, reader);
+            satzartVersionen = ((Vorsatz) vorsatz.toSatz()).getSatzartVersionen();
+            return vorsatz;
+        }
+        SatzTyp satzTyp = Importer.of(reader).readSatzTyp();
+        if (satzTyp.getSatzart() == 9999) {
+            imDatenpaket = false;
+            if (nachsatzLayout == null) {
+                nachsatzLayout = SatzLayout.of(new Nachsatz());
+            }
+            return SatzRecord.importFrom(nachsatzLayout, reader);
+        }
+        return SatzRecord.importFrom(Datenpaket.getLayout(satzTyp, satzartVersionen), reader);
+    }
+
+    private Satz readNextSatz() throws IOException {
+        if (!imDatenpaket) {
+            if (!canReadDatenpaket()) {
+                return null;
+            }
+            imDatenpaket = true;
+            return readVorsatz();
+        }
+        Satz satz = Datenpaket.importSatz(reader, satzartVersionen, bulkImport);
+        notice(satz);
+        if (satz.getSatzart() == 9999) {
+            imDatenpaket = false;
+        }
+        return satz;
+    }
+
+    private Vorsatz readVorsatz() throws IOException {
         Vorsatz vorsatz = new Vorsatz();
         vorsatz.importFrom(reader);
         satzartVersionen = vorsatz.getSatzartVersionen();
         notice(vorsatz);
+        return vorsatz;
     }
 
     private void notice(Satz satz) {
@@ -128,4 +324,74 @@ public class DatenpaketStreamer {
         }
     }
 
+    /**
+     * Liefert die angeforderten Saetze aus. Ruft der Subscriber innerhalb
+     * von onNext(..) wieder request(..) auf, wird nicht rekursiv geliefert,
+     * sondern nur der Bedarf erhoeht.
+     */
+    private static final class SatzSubscription implements SatzSubscriber.Subscription {
+
+        private final SatzSubscriber subscriber;
+        private final Iterator<Satz> saetze;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        private SatzSubscription(SatzSubscriber subscriber, Iterator<Satz> saetze) {
+            this.subscriber = subscriber;
+            this.saetze = saetze;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("request(" + n + "): n must be positive"));
+                return;
+            }
+            demand.accumulateAndGet(n, (a, b) -> (a + b < 0) ? Long.MAX_VALUE : a + b);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && (demand.get() > 0)) {
+                    Satz satz;
+                    try {
+                        if (!saetze.hasNext()) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        satz = saetze.next();
+                    } catch (UncheckedIOException ex) {
+                        cancelled = true;
+                        subscriber.onError(ex.getCause());
+                        return;
+                    } catch (RuntimeException ex) {
+                        cancelled = true;
+                        subscriber.onError(ex);
+                        return;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    subscriber.onNext(satz);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+    }
+
 }
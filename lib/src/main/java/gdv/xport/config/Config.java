@@ -18,6 +18,7 @@
 
 package gdv.xport.config;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import gdv.xport.feld.*;
 import gdv.xport.satz.xml.FeldXml;
 import org.apache.commons.lang3.StringUtils;
@@ -91,6 +92,8 @@ public final class Config implements Serializable {
 
     private final Properties properties;
     private final Map<Class<? extends Feld>, Feld.Validator> defaultValidators = new HashMap<>();
+    private final ValidateMode validateMode;
+    private final boolean truncate;
 
     public static Config getInstance() {
         return instance;
@@ -121,6 +124,10 @@ public final class Config implements Serializable {
 
     private Config(Properties props) {
         this.properties = props;
+        // die Properties aendern sich nicht mehr, sodass die Flags, die fuer jedes Feld abgefragt werden,
+        // nur einmal ausgewertet werden muessen
+        this.validateMode = ValidateMode.of(props.getProperty("gdv.feld.validate", "off"));
+        this.truncate = Boolean.parseBoolean(props.getProperty("gdv.feld.truncate", "false"));
         this.defaultValidators.put(Feld.class, new Feld.Validator(this));
         this.defaultValidators.put(FeldXml.class, new FeldXml.Validator(this));
         this.defaultValidators.put(NumFeld.class, new NumFeld.Validator(this));
@@ -327,7 +334,20 @@ public final class Config implements Serializable {
      * @since 6.0
      */
     public ValidateMode getValidateMode() {
-        return ValidateMode.of(getProperty("gdv.feld.validate", "off"));
+        return validateMode;
+    }
+
+    /**
+     * Sollen zu lange Inhalte beim Setzen eines Feldes abgeschnitten
+     * werden? Dies kann ueber die Property "gdv.feld.truncate" eingestellt
+     * werden.
+     *
+     * @return 'true' oder 'false'
+     * @since 6.2
+     */
+    @JsonIgnore
+    public boolean isTruncate() {
+        return truncate;
     }
 
     /**
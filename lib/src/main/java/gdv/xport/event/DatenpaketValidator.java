@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.event;
+
+import gdv.xport.config.Config;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.satz.Datensatz;
+import gdv.xport.satz.Satz;
+import gdv.xport.util.SimpleConstraintViolation;
+import net.sf.oval.ConstraintViolation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Im Gegensatz zu {@link gdv.xport.Datenpaket#validate()} benoetigt der
+ * DatenpaketValidator nicht das komplette Datenpaket im Speicher. Er wird
+ * als {@link ImportListener} beim {@link gdv.xport.DatenpaketStreamer}
+ * registriert und prueft waehrend des Imports in einem Durchgang
+ * <ul>
+ *     <li>die Felder jedes Satzes (wie {@link SatzValidator}),</li>
+ *     <li>die VU-Nummer im Vorsatz,</li>
+ *     <li>die Folgenummern innerhalb eines Vertrags und</li>
+ *     <li>die Anzahl der Saetze und die Summen im Nachsatz (ueber
+ *     {@link NachsatzSummen}).</li>
+ * </ul>
+ * Gefundene Verletzungen werden nicht gesammelt, sondern sofort an den
+ * uebergebenen Consumer weitergereicht. Damit bleibt der Speicherbedarf
+ * auch bei grossen Dateien konstant.
+ * <p>
+ * Fuer die Folgenummern wird davon ausgegangen, dass die Saetze eines
+ * Vertrags (Versicherungsschein-Nummer) wie in GDV-Dateien ueblich
+ * zusammenhaengend geliefert werden - beim Wechsel der
+ * Versicherungsschein-Nummer wird die Zaehlung zurueckgesetzt.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class DatenpaketValidator implements ImportListener {
+
+    private static final Logger LOG = LogManager.getLogger();
+    private final Config config;
+    private final Consumer<ConstraintViolation> consumer;
+    private final Map<Integer, Integer> folgenummern = new HashMap<>();
+    private String versicherungsscheinNummer = "";
+    private long anzahlViolations;
+    private final NachsatzSummen summen;
+
+    /**
+     * Legt einen Validator an, der die gefundenen Verletzungen nur
+     * protokolliert.
+     *
+     * @param config z.B. {@link Config#STRICT}
+     */
+    public DatenpaketValidator(Config config) {
+        this(config, cv -> LOG.warn("\t* {}", cv));
+    }
+
+    /**
+     * Legt einen Validator an, der die gefundenen Verletzungen an den
+     * uebergebenen Consumer weiterreicht.
+     *
+     * @param config   z.B. {@link Config#STRICT}
+     * @param consumer erhaelt die gefundenen Verletzungen
+     */
+    public DatenpaketValidator(Config config, Consumer<ConstraintViolation> consumer) {
+        this.config = config;
+        this.consumer = consumer;
+        this.summen = new NachsatzSummen(this::report);
+    }
+
+    /**
+     * Validiert den uebergebenen Satz.
+     *
+     * @param satz der importierte Satz
+     */
+    @Override
+    public void notice(Satz satz) {
+        for (ConstraintViolation cv : satz.validate(config)) {
+            report(cv);
+        }
+        int satzart = satz.getSatzart();
+        if (satzart == 1) {
+            reset();
+            validateVorsatz(satz);
+        } else if (satzart == 9999) {
+            reset();
+        } else if (satz instanceof Datensatz) {
+            validateFolgenummer((Datensatz) satz);
+        }
+        summen.notice(satz);
+    }
+
+    private void validateVorsatz(Satz satz) {
+        String vuNummer = satz.getFeld(Bezeichner.VU_NUMMER).getInhalt().trim();
+        if (Config.DUMMY_VU_NUMMER.equals(vuNummer) || vuNummer.isEmpty()) {
+            report(new SimpleConstraintViolation("VU-Nummer is not set", satz, vuNummer));
+        }
+    }
+
+    private void validateFolgenummer(Datensatz datensatz) {
+        if (!datensatz.hasFeld(Bezeichner.FOLGENUMMER) || !datensatz.hasFeld(Bezeichner.VERSICHERUNGSSCHEINNUMMER)) {
+            return;
+        }
+        String nr = datensatz.getVersicherungsscheinNummer();
+        if (!nr.equals(versicherungsscheinNummer)) {
+            versicherungsscheinNummer = nr;
+            folgenummern.clear();
+        }
+        Integer key;
+        int folgenr;
+        try {
+            key = datensatz.getSatzart() * 1000 + datensatz.getSparte();
+            folgenr = datensatz.getFolgenummer();
+        } catch (NumberFormatException ex) {
+            LOG.debug("Folgenummer in {} kann nicht geprueft werden:", datensatz.toShortString(), ex);
+            report(new SimpleConstraintViolation("Sparte oder Folgenummer nicht numerisch: " + ex.getMessage(),
+                    datensatz, datensatz.getFeld(Bezeichner.FOLGENUMMER).getInhalt()));
+            return;
+        }
+        int expected = folgenummern.getOrDefault(key, 1);
+        if (folgenr == expected) {
+            folgenummern.put(key, expected);
+            return;
+        }
+        expected++;
+        folgenummern.put(key, expected);
+        if (folgenr != expected) {
+            report(new SimpleConstraintViolation("falsche Folgenummer (erwartet: " + expected + ")", datensatz,
+                    folgenr));
+        }
+    }
+
+    private void reset() {
+        folgenummern.clear();
+        versicherungsscheinNummer = "";
+    }
+
+    private void report(ConstraintViolation cv) {
+        anzahlViolations++;
+        consumer.accept(cv);
+    }
+
+    /**
+     * Liefert die Anzahl der bisher gefundenen Verletzungen.
+     *
+     * @return Anzahl der Verletzungen
+     */
+    public long getAnzahlViolations() {
+        return anzahlViolations;
+    }
+
+}
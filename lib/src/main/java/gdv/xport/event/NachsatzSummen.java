@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.event;
+
+import gdv.xport.feld.Betrag;
+import gdv.xport.feld.BetragMitVorzeichen;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.feld.NumFeld;
+import gdv.xport.satz.Nachsatz;
+import gdv.xport.satz.Satz;
+import gdv.xport.util.SimpleConstraintViolation;
+import net.sf.oval.ConstraintViolation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Die NachsatzSummen bilden waehrend eines Imports ueber den
+ * {@link gdv.xport.DatenpaketStreamer} die Summen, die im Nachsatz stehen
+ * muessen (Anzahl Saetze, Gesamtbeitrag, Gesamtbeitrag-Brutto,
+ * Gesamtprovision, Versicherungsleistungen und Schadenbearbeitungskosten),
+ * und vergleichen sie mit dem importierten Nachsatz. Im Gegensatz zu
+ * {@link gdv.xport.Datenpaket#add(gdv.xport.satz.Datensatz)} muss dazu
+ * das Datenpaket nicht im Speicher gehalten werden.
+ * <p>
+ * Gerechnet wird exakt mit Cent-Betraegen als long (Festkomma mit 2
+ * Nachkommastellen), sodass weder Rundungsfehler noch BigDecimal-Objekte
+ * anfallen. Abweichungen werden an den uebergebenen Consumer gemeldet.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class NachsatzSummen implements ImportListener {
+
+    private static final Logger LOG = LogManager.getLogger();
+    private static final int NACHKOMMASTELLEN = 2;
+    private final Consumer<ConstraintViolation> consumer;
+    private int anzahlSaetze;
+    private long gesamtBeitrag;
+    private long gesamtBeitragBrutto;
+    private long gesamtProvisionsBetrag;
+    private long versicherungsLeistungen;
+    private long schadenbearbeitungskosten;
+    private long anzahlAbweichungen;
+
+    /**
+     * Legt einen neuen Summen-Pruefer an, der Abweichungen nur
+     * protokolliert.
+     */
+    public NachsatzSummen() {
+        this(cv -> LOG.warn("\t* {}", cv));
+    }
+
+    /**
+     * Legt einen neuen Summen-Pruefer an, der Abweichungen an den
+     * uebergebenen Consumer weiterreicht.
+     *
+     * @param consumer erhaelt die gefundenen Abweichungen
+     */
+    public NachsatzSummen(Consumer<ConstraintViolation> consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Beim Vorsatz werden die Summen zurueckgesetzt, beim Nachsatz mit den
+     * dort eingetragenen Summen verglichen. Bei allen anderen Saetzen
+     * werden die Summen fortgeschrieben.
+     *
+     * @param satz der importierte Satz
+     */
+    @Override
+    public void notice(Satz satz) {
+        switch (satz.getSatzart()) {
+            case 1:
+                reset();
+                break;
+            case 9999:
+                validate(satz);
+                reset();
+                break;
+            default:
+                add(satz);
+                break;
+        }
+    }
+
+    private void add(Satz satz) {
+        anzahlSaetze += satz.getNumberOfTeildatensaetze();
+        switch (satz.getSatzart()) {
+            case 200:
+                gesamtBeitrag = add(gesamtBeitrag, satz, Bezeichner.GESAMTBEITRAG_IN_WAEHRUNGSEINHEITEN,
+                        Betrag.class);
+                break;
+            case 400:
+                gesamtBeitragBrutto = add(gesamtBeitragBrutto, satz,
+                        Bezeichner.GESAMTBEITRAG_BRUTTO_IN_WAEHRUNGSEINHEITEN, BetragMitVorzeichen.class);
+                gesamtProvisionsBetrag = add(gesamtProvisionsBetrag, satz,
+                        Bezeichner.GESAMTPROVISIONSBETRAG_IN_WAEHRUNGSEINHEITEN, BetragMitVorzeichen.class);
+                break;
+            case 500:
+                versicherungsLeistungen = add(versicherungsLeistungen, satz,
+                        Bezeichner.BETRAG_IN_WAEHRUNGSEINHEITEN_GEMAESS_ZAHLUNGSART, BetragMitVorzeichen.class);
+                schadenbearbeitungskosten = add(schadenbearbeitungskosten, satz,
+                        Bezeichner.SCHADENBEARBEITUNGSKOSTEN_IN_WAEHRUNGSEINHEITEN, BetragMitVorzeichen.class);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private long add(long summe, Satz satz, Bezeichner bezeichner, Class<? extends NumFeld> type) {
+        if (!satz.hasFeld(bezeichner)) {
+            return summe;
+        }
+        try {
+            return Math.addExact(summe, satz.getFeld(bezeichner, type).getUnscaledValue());
+        } catch (IllegalArgumentException ex) {
+            LOG.debug("{} in {} wird bei der Summenbildung ignoriert:", bezeichner, satz, ex);
+            return summe;
+        } catch (ArithmeticException ex) {
+            report(new SimpleConstraintViolation("Ueberlauf bei Summe " + bezeichner, satz, summe));
+            return summe;
+        }
+    }
+
+    private void validate(Satz satz) {
+        Nachsatz nachsatz = (satz instanceof Nachsatz) ? (Nachsatz) satz : Nachsatz.of(satz.toLongString());
+        if (nachsatz.getAnzahlSaetze() != anzahlSaetze) {
+            report(new SimpleConstraintViolation("falsche Anzahl Saetze (erwartet: " + anzahlSaetze + ")",
+                    nachsatz, nachsatz.getAnzahlSaetze()));
+        }
+        validate(nachsatz, nachsatz::getGesamtBeitrag, gesamtBeitrag);
+        validate(nachsatz, nachsatz::getGesamtBeitragBruttoMitVorzeichen, gesamtBeitragBrutto);
+        validate(nachsatz, nachsatz::getGesamtProvisionsBetragMitVorzeichen, gesamtProvisionsBetrag);
+        validate(nachsatz, nachsatz::getVersicherungsLeistungenMitVorzeichen, versicherungsLeistungen);
+        validate(nachsatz, nachsatz::getSchadenbearbeitungskostenMitVorzeichen, schadenbearbeitungskosten);
+    }
+
+    private void validate(Nachsatz nachsatz, Supplier<? extends Betrag> getter, long expected) {
+        Betrag summe;
+        long value;
+        try {
+            summe = getter.get();
+            value = summe.getUnscaledValue();
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            LOG.debug("Summe in {} ist nicht lesbar:", nachsatz, ex);
+            report(new SimpleConstraintViolation("Summe ist nicht lesbar: " + ex.getMessage(), nachsatz, null));
+            return;
+        }
+        if (value != expected) {
+            report(new SimpleConstraintViolation(summe.getBezeichnung() + " stimmt nicht (erwartet: "
+                    + toBigDecimal(expected) + ")", nachsatz, summe.toBigDecimal()));
+        }
+    }
+
+    private void reset() {
+        anzahlSaetze = 0;
+        gesamtBeitrag = 0;
+        gesamtBeitragBrutto = 0;
+        gesamtProvisionsBetrag = 0;
+        versicherungsLeistungen = 0;
+        schadenbearbeitungskosten = 0;
+    }
+
+    private void report(ConstraintViolation cv) {
+        anzahlAbweichungen++;
+        consumer.accept(cv);
+    }
+
+    private static BigDecimal toBigDecimal(long cent) {
+        return BigDecimal.valueOf(cent, NACHKOMMASTELLEN);
+    }
+
+    /**
+     * Liefert die Anzahl der bisher gefundenen Abweichungen.
+     *
+     * @return Anzahl der Abweichungen
+     */
+    public long getAnzahlAbweichungen() {
+        return anzahlAbweichungen;
+    }
+
+    /**
+     * Liefert die Anzahl der bisher gezaehlten (Teildaten-)Saetze des
+     * aktuellen Datenpakets.
+     *
+     * @return Anzahl Saetze
+     */
+    public int getAnzahlSaetze() {
+        return anzahlSaetze;
+    }
+
+    /**
+     * Liefert den bisher aufsummierten Gesamtbeitrag (Satzart 0200) des
+     * aktuellen Datenpakets.
+     *
+     * @return Gesamtbeitrag
+     */
+    public BigDecimal getGesamtBeitrag() {
+        return toBigDecimal(gesamtBeitrag);
+    }
+
+    /**
+     * Liefert den bisher aufsummierten Gesamtbeitrag-Brutto (Satzart 0400)
+     * des aktuellen Datenpakets.
+     *
+     * @return Gesamtbeitrag-Brutto
+     */
+    public BigDecimal getGesamtBeitragBrutto() {
+        return toBigDecimal(gesamtBeitragBrutto);
+    }
+
+    /**
+     * Liefert den bisher aufsummierten Gesamtprovisions-Betrag (Satzart
+     * 0400) des aktuellen Datenpakets.
+     *
+     * @return Gesamtprovisions-Betrag
+     */
+    public BigDecimal getGesamtProvisionsBetrag() {
+        return toBigDecimal(gesamtProvisionsBetrag);
+    }
+
+    /**
+     * Liefert die bisher aufsummierten Versicherungsleistungen (Satzart
+     * 0500) des aktuellen Datenpakets.
+     *
+     * @return Versicherungsleistungen
+     */
+    public BigDecimal getVersicherungsLeistungen() {
+        return toBigDecimal(versicherungsLeistungen);
+    }
+
+    /**
+     * Liefert die bisher aufsummierten Schadenbearbeitungskosten (Satzart
+     * 0500) des aktuellen Datenpakets.
+     *
+     * @return Schadenbearbeitungskosten
+     */
+    public BigDecimal getSchadenbearbeitungskosten() {
+        return toBigDecimal(schadenbearbeitungskosten);
+    }
+
+}
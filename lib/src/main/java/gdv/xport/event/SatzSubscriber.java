@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.event;
+
+import gdv.xport.satz.Satz;
+
+/**
+ * Im Gegensatz zum {@link ImportListener} bestimmt ein SatzSubscriber
+ * selbst, wieviele Saetze er verarbeiten will: er bekommt nur so viele
+ * Saetze geliefert, wie er ueber {@link Subscription#request(long)}
+ * angefordert hat. Ueber {@link Subscription#cancel()} kann er den Import
+ * auch vorzeitig beenden.
+ * <p>
+ * Die Schnittstelle entspricht der von {@code java.util.concurrent.Flow}
+ * (ab Java 9), sodass sich ein Flow-Subscriber einfach darauf abbilden
+ * laesst.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public interface SatzSubscriber {
+
+    /**
+     * Wird als erstes aufgerufen, bevor irgendein Satz geliefert wird.
+     * Ohne Aufruf von {@link Subscription#request(long)} werden keine
+     * Saetze geliefert.
+     *
+     * @param subscription zum Anfordern weiterer Saetze
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Liefert den naechsten (angeforderten) Satz.
+     *
+     * @param satz der importierte Satz
+     */
+    void onNext(Satz satz);
+
+    /**
+     * Wird aufgerufen, wenn beim Import ein Fehler aufgetreten ist. Danach
+     * werden keine weiteren Saetze mehr geliefert.
+     *
+     * @param error aufgetretener Fehler
+     */
+    void onError(Throwable error);
+
+    /**
+     * Wird aufgerufen, wenn alle Saetze geliefert wurden.
+     */
+    void onComplete();
+
+    /**
+     * Ueber die Subscription fordert der {@link SatzSubscriber} weitere
+     * Saetze an oder beendet den Import.
+     */
+    interface Subscription {
+
+        /**
+         * Fordert die naechsten n Saetze an.
+         *
+         * @param n Anzahl der Saetze (groesser 0)
+         */
+        void request(long n);
+
+        /**
+         * Beendet den Import. Danach werden keine weiteren Saetze mehr
+         * geliefert.
+         */
+        void cancel();
+
+    }
+
+}
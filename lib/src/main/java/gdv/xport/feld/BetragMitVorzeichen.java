@@ -19,6 +19,7 @@
 package gdv.xport.feld;
 
 import gdv.xport.config.Config;
+import gdv.xport.feld.internal.Zeichenklasse;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -147,6 +148,10 @@ public final class BetragMitVorzeichen extends Betrag {
      */
     @Override
     public void setInhalt(final long n) {
+        setUnscaledValue(n);
+    }
+
+    private void format(final long n) {
         String pattern = StringUtils.repeat("0", this.getAnzahlBytes()-1);
         NumberFormat format = new DecimalFormat(pattern);
         String formatted = format.format(Math.abs(n));
@@ -172,6 +177,26 @@ public final class BetragMitVorzeichen extends Betrag {
         }
     }
 
+    /**
+     * Setzt den Betrag (inkl. Vorzeichen) als Ganzzahl mit impliziten
+     * Nachkommastellen, d.h. -12345 steht fuer -123,45.
+     *
+     * @param n Betrag in Cent
+     * @since 6.2
+     */
+    @Override
+    public void setUnscaledValue(final long n) {
+        long betrag = Math.abs(n);
+        if ((n == Long.MIN_VALUE) || !fits(betrag, getAnzahlBytes() - 1)
+                || (getValidator().getClass() != Validator.class)) {
+            format(n);
+            return;
+        }
+        char vorzeichen = (n < 0) ? '-' : '+';
+        this.inhalt = (betrag == 0) ? String.valueOf(vorzeichen)
+                : new StringBuilder(getAnzahlBytes()).append(betrag).append(vorzeichen).toString();
+    }
+
     protected String truncate(String s) {
         if (s.length() <= getAnzahlBytes()) {
             return s;
@@ -180,16 +205,12 @@ public final class BetragMitVorzeichen extends Betrag {
         return number + s.charAt(s.length()-1);
     }
 
-    /* (non-Javadoc)
-     * @see gdv.xport.feld.Betrag#toDouble()
-     */
-    @Override
-    public double toDouble() {
-        return toBigDecimal().doubleValue();
-    }
-
     @Override
     public BigDecimal toBigDecimal() {
+        long unscaled = parseUnscaledValue();
+        if (unscaled != INVALID) {
+            return BigDecimal.valueOf(unscaled, getNachkommastellen());
+        }
         String s = this.getInhalt();
         String n = s.substring(0, s.length() - 1);
         if (StringUtils.isBlank(n)) {
@@ -199,24 +220,24 @@ public final class BetragMitVorzeichen extends Betrag {
         return (this.getVorzeichen() == '-') ? x.negate() : x;
     }
 
-    /* (non-Javadoc)
-     * @see gdv.xport.feld.Betrag#toInt()
-     */
-    @Override
-    public int toInt() {
-        String s = this.getInhalt();
-        int x = Integer.parseInt(s.substring(0, s.length() - 1)) / 100;
-        return (this.getVorzeichen() == '-') ? -x : x;
-    }
-
-    /* (non-Javadoc)
-     * @see gdv.xport.feld.NumFeld#toLong()
+    /**
+     * Liest den Betrag direkt (ohne Umweg ueber {@link #getInhalt()}) mit
+     * Vorzeichen ein.
+     *
+     * @return Betrag in Cent oder {@link #INVALID}
      */
     @Override
-    public long toLong() {
-        String s = this.getInhalt();
-        long x = Long.parseLong(s.substring(0, s.length() - 1)) / 100;
-        return (this.getVorzeichen() == '-') ? -x : x;
+    protected long parseUnscaledValue() {
+        int last = this.inhalt.length() - 1;
+        if (last < 0) {
+            return INVALID;
+        }
+        char vorzeichen = this.inhalt.charAt(last);
+        if ((vorzeichen != '+') && (vorzeichen != '-')) {
+            return INVALID;
+        }
+        long x = parseDigits(this.inhalt, 0, last);
+        return ((x == INVALID) || (vorzeichen == '+')) ? x : -x;
     }
 
     /* (non-Javadoc)
@@ -280,11 +301,14 @@ public final class BetragMitVorzeichen extends Betrag {
         protected String validateLax(String nummer) {
             LOG.debug("{} wird als Betrag mit Vorzeichen validiert.", nummer);
             if (StringUtils.isNotBlank(nummer)) {
-                char vorzeichen = nummer.charAt(nummer.length() - 1);
-                if ((vorzeichen != '+') && (vorzeichen != '-')) {
+                int n = nummer.length() - 1;
+                char vorzeichen = nummer.charAt(n);
+                if (!Zeichenklasse.isSign(vorzeichen)) {
                     throw new ValidationException(String.format("'%s' hat falsches Vorzeichen ('%c')", nummer, vorzeichen));
                 }
-                super.validateLax(nummer.substring(0, nummer.length()-1));
+                if (!Zeichenklasse.isDigits(nummer, 0, n)) {
+                    super.validateLax(nummer.substring(0, n));
+                }
             }
             return nummer;
         }
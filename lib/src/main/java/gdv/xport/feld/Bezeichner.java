@@ -47,8 +47,10 @@ public final class Bezeichner implements Serializable {
 
     private static final Logger LOG = LogManager.getLogger(Bezeichner.class);
     private static final Map<String, String> MAPPING = new HashMap<>();
-    private static final List<Bezeichner> CONSTANTS = new ArrayList<>();
+    private static final Map<String, Bezeichner> CONSTANTS_TECHNISCHER_NAME = new HashMap<>();
+    private static final Map<String, Bezeichner> CONSTANTS_NAME = new HashMap<>();
     private static final Map<String, Bezeichner> CACHED = new ConcurrentHashMap<>();
+    private static final Map<String, Bezeichner> INTERNED = new ConcurrentHashMap<>();
 
     /////////// Bezeichner-Konstanten (alphabetisch geordnet) /////////////////
 
@@ -1394,6 +1396,7 @@ public final class Bezeichner implements Serializable {
     private final String technischerName;
     private final int hash;
     private final Set<Bezeichner> variants = new HashSet<>();
+    private transient volatile Set<Bezeichner> allVariants;
 
     // Mapping fuer manche Bezeichner (Name <--> technischer Name)
     static {
@@ -1421,7 +1424,8 @@ public final class Bezeichner implements Serializable {
                 Object value = field.get(null);
                 if (value instanceof Bezeichner) {
                     Bezeichner bez = (Bezeichner) value;
-                    CONSTANTS.add(bez);
+                    CONSTANTS_TECHNISCHER_NAME.putIfAbsent(toKey(bez.getTechnischerName()), bez);
+                    CONSTANTS_NAME.putIfAbsent(toKey(bez.getName()), bez);
                 }
             } catch (IllegalAccessException e) {
                 LOG.debug("Will ignore field {}:", field, e);
@@ -1580,8 +1584,11 @@ public final class Bezeichner implements Serializable {
         if (!(obj instanceof Bezeichner)) {
             return false;
         }
+        if (this == obj) {
+            return true;
+        }
         Bezeichner other = (Bezeichner) obj;
-        return this.getTechnischerName().equalsIgnoreCase(other.getTechnischerName());
+        return (this.hash == other.hash) && this.getTechnischerName().equalsIgnoreCase(other.getTechnischerName());
     }
 
     /**
@@ -1589,18 +1596,27 @@ public final class Bezeichner implements Serializable {
      * auch als Variante wie "HaftungswertungssummeInWE1" (also mit
      * angehaengter "1") auftreten. Mit dieser Methode kann man sich die
      * verschiedenen Varianten eines Bezeichners geben lassen.
+     * <p>
+     * Die Varianten werden beim ersten Aufruf einmal ermittelt und als
+     * unveraenderliches Set zurueckgegeben.
+     * </p>
      *
      * @return Liste von Varianten
      * @since 5.0
      */
     @JsonIgnore
     public Set<Bezeichner> getVariants() {
-        Set<Bezeichner> vars = new HashSet<>(variants);
-        vars.add(this);
-        if (getName().startsWith("Satzart")) {
-            vars.add(Bezeichner.of("Version " + name));
-        } else if (getName().startsWith("Version")) {
-            vars.add(Bezeichner.of(getName().substring(7).trim()));
+        Set<Bezeichner> vars = allVariants;
+        if (vars == null) {
+            vars = new HashSet<>(variants);
+            vars.add(this);
+            if (getName().startsWith("Satzart")) {
+                vars.add(Bezeichner.of("Version " + name));
+            } else if (getName().startsWith("Version")) {
+                vars.add(Bezeichner.of(getName().substring(7).trim()));
+            }
+            vars = Collections.unmodifiableSet(vars);
+            allVariants = vars;
         }
         return vars;
     }
@@ -1666,16 +1682,31 @@ public final class Bezeichner implements Serializable {
         return b;
     }
 
+    /**
+     * Liefert zum Namen und technischen Namen aus den uebergebenen
+     * Properties (wie bei {@link #Bezeichner(Properties)}) einen Bezeichner.
+     * Im Gegensatz zum Konstruktor wird fuer gleiche Werte immer dieselbe
+     * Instanz geliefert, sodass z.B. die vielen Felder aus der XML-Beschreibung
+     * sich ihre Bezeichner teilen.
+     *
+     * @param props Properties mit Name und technischer Name
+     * @return Bezeichner
+     * @since 6.2
+     */
+    public static Bezeichner of(Properties props) {
+        String name = props.getProperty("name", "");
+        String technischerName = props.getProperty("technischerName", "");
+        return INTERNED.computeIfAbsent(name + '\n' + technischerName, k -> new Bezeichner(name, technischerName));
+    }
+
     private static Bezeichner getBezeichner(String name) {
-        for (Bezeichner bez : CONSTANTS) {
-            if (name.equalsIgnoreCase(bez.getTechnischerName())) {
-                return bez;
-            }
+        String key = toKey(name);
+        Bezeichner bez = CONSTANTS_TECHNISCHER_NAME.get(key);
+        if (bez == null) {
+            bez = CONSTANTS_NAME.get(key);
         }
-        for (Bezeichner bez : CONSTANTS) {
-            if (name.equalsIgnoreCase(bez.getName())) {
-                return bez;
-            }
+        if (bez != null) {
+            return bez;
         }
         if (name.endsWith("000")) {
             LOG.debug("Will look for '{}' without trailing '000'.", name);
@@ -1685,4 +1716,17 @@ public final class Bezeichner implements Serializable {
         return new Bezeichner(name);
     }
 
+    /**
+     * Normalisiert den Namen so, dass zwei Namen genau dann denselben
+     * Schluessel haben, wenn sie bei {@link String#equalsIgnoreCase(String)}
+     * gleich sind.
+     */
+    private static String toKey(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
 }
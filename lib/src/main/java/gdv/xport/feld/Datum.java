@@ -26,12 +26,10 @@ import org.apache.logging.log4j.Logger;
 
 import javax.validation.ValidationException;
 import java.math.BigDecimal;
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.List;
 
@@ -46,7 +44,7 @@ public final class Datum extends NumFeld {
 
     private static final Logger LOG = LogManager.getLogger(Feld.class);
     private static final Feld.Validator DEFAULT_VALIDATOR = new Datum.Validator(Config.getInstance());
-    private final SimpleDateFormat dateFormat;
+    private final Datumsformat datumsformat;
 
     /**
      * Dies ist der Copy-Constructor, mit dem man ein bestehendes Feld
@@ -60,7 +58,7 @@ public final class Datum extends NumFeld {
 
     private Datum(final Feld other, final Config cfg) {
         super(other, cfg);
-        dateFormat = getDateFormat(other.getAnzahlBytes());
+        datumsformat = Datumsformat.of(other.getAnzahlBytes());
     }
 
     /**
@@ -103,7 +101,7 @@ public final class Datum extends NumFeld {
      */
     public Datum(Bezeichner bezeichner, int length, int start) {
         super(bezeichner, length, start);
-        dateFormat = getDateFormat(length);
+        datumsformat = Datumsformat.of(length);
     }
 
     /**
@@ -131,7 +129,7 @@ public final class Datum extends NumFeld {
      */
     public Datum(final Datum other) {
         super(other);
-        this.dateFormat = other.dateFormat;
+        this.datumsformat = other.datumsformat;
     }
 
     /**
@@ -146,26 +144,6 @@ public final class Datum extends NumFeld {
         return new Datum(this, c);
     }
 
-    private static SimpleDateFormat getDateFormat(final int length) {
-        return getDateFormat(length, "");
-    }
-
-    private static SimpleDateFormat getDateFormat(final int length, final String separator) {
-        switch (length) {
-            case 2:
-                return new SimpleDateFormat("dd");
-            case 4:
-                return new SimpleDateFormat("MM" + separator + "yy");
-            case 6:
-                return new SimpleDateFormat("MM" + separator + "yyyy");
-            case 8:
-                return new SimpleDateFormat("dd" + separator + "MM" + separator + "yyyy");
-            default:
-                throw new IllegalArgumentException("length=" + length
-                        + " not allowed - only 2, 4, 6 or 8");
-        }
-    }
-
     /**
      * Sets the inhalt.
      *
@@ -181,14 +159,14 @@ public final class Datum extends NumFeld {
      * @param d neues Datum
      */
     public void setInhalt(final Date d) {
-        this.setInhalt(dateFormat.format(d));
+        this.setInhalt(Instant.ofEpochMilli(d.getTime()).atZone(ZoneId.systemDefault()).toLocalDate());
     }
 
     @Override
     public void setInhalt(String neuerInhalt) {
         if (!isEmpty(neuerInhalt)) {
             Datum.Validator validator = (Datum.Validator) getValidator();
-            String value = validator.verifyFormat(dateFormat, neuerInhalt);
+            validator.verifyFormat(datumsformat, neuerInhalt);
         }
         super.setInhalt(neuerInhalt);
     }
@@ -200,7 +178,7 @@ public final class Datum extends NumFeld {
      * @since 5.0
      */
     public void setInhalt(final LocalDate localDate) {
-        this.setInhalt(Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        this.setInhalt(datumsformat.format(localDate));
     }
 
     /**
@@ -224,11 +202,15 @@ public final class Datum extends NumFeld {
      * @return the date
      */
     public Date toDate() {
+        return Date.from(parse().atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private LocalDate parse() {
         try {
-            return dateFormat.parse(this.getInhalt());
-        } catch (ParseException e) {
+            return datumsformat.parse(this.getInhalt());
+        } catch (DateTimeException e) {
             throw new IllegalStateException(this + " has an invalid date (\""
-                    + this.getInhalt() + "\")");
+                    + this.getInhalt() + "\")", e);
         }
     }
 
@@ -239,8 +221,7 @@ public final class Datum extends NumFeld {
      * @since 5.0
      */
     public LocalDate toLocalDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormat.toPattern());
-        return LocalDate.parse(this.getInhalt(), formatter);
+        return datumsformat.toLocalDate(this.getInhalt());
     }
 
     /**
@@ -250,7 +231,7 @@ public final class Datum extends NumFeld {
      */
     public static Datum heute() {
         Datum d = new Datum();
-        d.setInhalt(new Date());
+        d.setInhalt(LocalDate.now());
         return d;
     }
 
@@ -301,7 +282,7 @@ public final class Datum extends NumFeld {
     private boolean hasValidDate() {
         Datum.Validator validator = (Datum.Validator) getValidator();
         try {
-            validator.validateFormat(dateFormat, this.getInhalt());
+            validator.validateFormat(datumsformat, this.getInhalt());
             return true;
         } catch (ValidationException e) {
             LOG.info(e + " -> mapped to false");
@@ -328,8 +309,7 @@ public final class Datum extends NumFeld {
      */
     @Override
     public String format() {
-        DateFormat df = getDateFormat(this.getAnzahlBytes(), ".");
-        return df.format(this.toDate());
+        return datumsformat.format(parse(), ".");
     }
 
     /**
@@ -340,7 +320,7 @@ public final class Datum extends NumFeld {
      * @since 6.2
      */
     public String getFormat() {
-        return dateFormat.toPattern().replace('y', 'J').replace('d', 'T');
+        return datumsformat.getPattern();
     }
 
     /* (non-Javadoc)
@@ -371,7 +351,7 @@ public final class Datum extends NumFeld {
             super(config);
         }
 
-        protected String verifyFormat(DateFormat format, String value) {
+        protected String verifyFormat(Datumsformat format, String value) {
             if ((getConfig().getValidateMode() == Config.ValidateMode.STRICT) && (format != null)) {
                 try {
                     return validateFormat(format, value);
@@ -382,18 +362,18 @@ public final class Datum extends NumFeld {
             return value;
         }
 
-        protected String validateFormat(DateFormat format, String value) {
+        protected String validateFormat(Datumsformat format, String value) {
+            if (format.isValid(value)) {
+                return value;
+            }
+            String converted;
             try {
-                Date date = format.parse(value);
-                String converted = format.format(date);
-                if (!value.equals(converted)) {
-                    throw new ValidationException(String.format(
-                            "'%s' ist kein korrektes Datum - ist vielleicht '%s' gemeint?", value, converted));
-                }
-            } catch (ParseException ex) {
+                converted = format.format(format.parse(value));
+            } catch (DateTimeException ex) {
                 throw new ValidationException(String.format("'%s' ist kein Datum", value), ex);
             }
-            return value;
+            throw new ValidationException(String.format(
+                    "'%s' ist kein korrektes Datum - ist vielleicht '%s' gemeint?", value, converted));
         }
 
     }
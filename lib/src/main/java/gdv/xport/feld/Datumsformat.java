@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.feld;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Die Datumsformate, die in der GDV-Beschreibung vorkommen (TT, MMJJ,
+ * MMJJJJ und TTMMJJJJ). Im Gegensatz zu {@link java.text.SimpleDateFormat}
+ * sind sie unveraenderlich und damit thread-sicher, sodass sie von allen
+ * {@link Datum}-Feldern gemeinsam genutzt werden. Die Umwandlung erfolgt
+ * direkt zwischen den Ziffern und {@link LocalDate} (bzw. dem Epoch-Tag),
+ * ohne Umweg ueber {@link java.util.Date} und Zeitzonen.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public enum Datumsformat {
+
+    /** Tag (2-stellig). */
+    TT(2),
+    /** Monat und Jahr (2-stellig). */
+    MMJJ(4),
+    /** Monat und Jahr (4-stellig). */
+    MMJJJJ(6),
+    /** Tag, Monat und Jahr (4-stellig). */
+    TTMMJJJJ(8);
+
+    /** Wie bei SimpleDateFormat liegen 2-stellige Jahre max. 80 Jahre zurueck. */
+    private static final int JAHRHUNDERT_START = LocalDate.now().getYear() - 80;
+    private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000 };
+
+    private final int length;
+
+    Datumsformat(int length) {
+        this.length = length;
+    }
+
+    /**
+     * Liefert das Datumsformat fuer die angegebene Laenge.
+     *
+     * @param length Anzahl der Ziffern (2, 4, 6 oder 8)
+     * @return Datumsformat
+     */
+    public static Datumsformat of(int length) {
+        switch (length) {
+            case 2:
+                return TT;
+            case 4:
+                return MMJJ;
+            case 6:
+                return MMJJJJ;
+            case 8:
+                return TTMMJJJJ;
+            default:
+                throw new IllegalArgumentException("length=" + length
+                        + " not allowed - only 2, 4, 6 or 8");
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Ziffern.
+     *
+     * @return 2, 4, 6 oder 8
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Liefert das Format so, wie es in der GDV-Beschreibung steht.
+     *
+     * @return z.B. "TTMMJJJJ"
+     */
+    public String getPattern() {
+        return name();
+    }
+
+    /**
+     * Prueft, ob die Ziffern ein gueltiges Datum in diesem Format sind.
+     *
+     * @param s z.B. "24122009"
+     * @return true, falls gueltig
+     */
+    public boolean isValid(CharSequence s) {
+        if (!isDigits(s)) {
+            return false;
+        }
+        int monat = getMonat(s);
+        if ((monat < 1) || (monat > 12)) {
+            return false;
+        }
+        int jahr = getJahr(s);
+        if ((this == MMJJJJ || this == TTMMJJJJ) && (jahr < 1)) {
+            return false;
+        }
+        int tag = getTag(s);
+        return (tag >= 1) && (tag <= LocalDate.of(jahr, monat, 1).lengthOfMonth());
+    }
+
+    /**
+     * Wandelt die Ziffern in ein Datum um. Dabei werden wie bei
+     * {@link java.time.format.ResolverStyle#SMART} Tage, die es im Monat
+     * nicht gibt (z.B. "31022021"), auf den letzten Tag des Monats gesetzt.
+     * Fehlt der Tag (MMJJ, MMJJJJ), wird der 1. des Monats genommen, fehlen
+     * Monat und Jahr (TT), der Januar 1970.
+     *
+     * @param s z.B. "24122009"
+     * @return Datum
+     * @throws DateTimeParseException bei ungueltigem Datum
+     */
+    public LocalDate toLocalDate(CharSequence s) {
+        checkDigits(s);
+        int monat = getMonat(s);
+        int tag = getTag(s);
+        if ((monat < 1) || (monat > 12) || (tag < 1) || (tag > 31)) {
+            throw new DateTimeParseException("kein gueltiges Datum im Format " + this, s, 0);
+        }
+        LocalDate ersterTag = LocalDate.of(getJahr(s), monat, 1);
+        return ersterTag.withDayOfMonth(Math.min(tag, ersterTag.lengthOfMonth()));
+    }
+
+    /**
+     * Wandelt die Ziffern in ein Datum um. Ungueltige Tage oder Monate
+     * werden dabei wie bei {@link java.util.Calendar} (lenient) in den
+     * naechsten Monat bzw. das naechste Jahr uebertragen, d.h. aus
+     * "32012020" wird der 1. Februar 2020.
+     *
+     * @param s z.B. "24122009"
+     * @return Datum
+     * @throws DateTimeParseException wenn s nicht aus Ziffern besteht
+     */
+    public LocalDate parse(CharSequence s) {
+        checkDigits(s);
+        return LocalDate.of(getJahr(s), 1, 1).plusMonths(getMonat(s) - 1L).plusDays(getTag(s) - 1L);
+    }
+
+    /**
+     * Liefert den Epoch-Tag (Anzahl Tage seit dem 1.1.1970) zu den Ziffern.
+     *
+     * @param s z.B. "24122009"
+     * @return Epoch-Tag
+     * @throws DateTimeParseException bei ungueltigem Datum
+     */
+    public int toEpochDay(CharSequence s) {
+        return (int) toLocalDate(s).toEpochDay();
+    }
+
+    /**
+     * Wandelt das Datum in die Ziffern dieses Formats um.
+     *
+     * @param date Datum
+     * @return z.B. "24122009"
+     */
+    public String format(LocalDate date) {
+        return format(date, "");
+    }
+
+    /**
+     * Wandelt den Epoch-Tag in die Ziffern dieses Formats um.
+     *
+     * @param epochDay Anzahl Tage seit dem 1.1.1970
+     * @return z.B. "24122009"
+     */
+    public String format(int epochDay) {
+        return format(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Wandelt das Datum mit dem angegebenen Trennzeichen in einen String.
+     *
+     * @param date      Datum
+     * @param separator z.B. "."
+     * @return z.B. "24.12.2009"
+     */
+    public String format(LocalDate date, String separator) {
+        StringBuilder buf = new StringBuilder(length + 2 * separator.length());
+        switch (this) {
+            case TT:
+                append(buf, date.getDayOfMonth(), 2);
+                break;
+            case MMJJ:
+                append(buf, date.getMonthValue(), 2).append(separator);
+                append(buf, Math.floorMod(date.getYear(), 100), 2);
+                break;
+            case MMJJJJ:
+                append(buf, date.getMonthValue(), 2).append(separator);
+                append(buf, date.getYear(), 4);
+                break;
+            default:
+                append(buf, date.getDayOfMonth(), 2).append(separator);
+                append(buf, date.getMonthValue(), 2).append(separator);
+                append(buf, date.getYear(), 4);
+                break;
+        }
+        return buf.toString();
+    }
+
+    private static StringBuilder append(StringBuilder buf, int n, int digits) {
+        for (int i = digits - 1; (i > 0) && (n < POWERS_OF_TEN[i]); i--) {
+            buf.append('0');
+        }
+        return buf.append(n);
+    }
+
+    private int getTag(CharSequence s) {
+        return (this == TT || this == TTMMJJJJ) ? toInt(s, 0, 2) : 1;
+    }
+
+    private int getMonat(CharSequence s) {
+        switch (this) {
+            case TT:
+                return 1;
+            case TTMMJJJJ:
+                return toInt(s, 2, 4);
+            default:
+                return toInt(s, 0, 2);
+        }
+    }
+
+    private int getJahr(CharSequence s) {
+        switch (this) {
+            case TT:
+                return 1970;
+            case MMJJ:
+                int jahr = JAHRHUNDERT_START - Math.floorMod(JAHRHUNDERT_START, 100) + toInt(s, 2, 4);
+                return (jahr < JAHRHUNDERT_START) ? jahr + 100 : jahr;
+            case MMJJJJ:
+                return toInt(s, 2, 6);
+            default:
+                return toInt(s, 4, 8);
+        }
+    }
+
+    private static int toInt(CharSequence s, int from, int to) {
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            n = n * 10 + (s.charAt(i) - '0');
+        }
+        return n;
+    }
+
+    private boolean isDigits(CharSequence s) {
+        if ((s == null) || (s.length() != length)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkDigits(CharSequence s) {
+        if (!isDigits(s)) {
+            throw new DateTimeParseException("kein Datum im Format " + this, String.valueOf(s), 0);
+        }
+    }
+
+}
@@ -20,8 +20,8 @@ package gdv.xport.feld;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import de.jfachwert.SimpleValidator;
-import de.jfachwert.Text;
 import gdv.xport.config.Config;
+import gdv.xport.feld.internal.Zeichenklasse;
 import gdv.xport.util.SimpleConstraintViolation;
 import net.sf.oval.ConstraintViolation;
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +35,7 @@ import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -344,7 +345,7 @@ public class Feld implements Comparable<Feld>, Cloneable, Serializable {
     public void setInhalt(final String neuerInhalt) {
         int anzahlBytes = this.getAnzahlBytes();
         String s = getValidator().verify(neuerInhalt, this);
-        s = config.getBool("gdv.feld.truncate") ? truncate(s) : s;
+        s = config.isTruncate() ? truncate(s) : s;
         if (s.length() > anzahlBytes) {
             throw new IllegalArgumentException("Feld " + this.getBezeichner() + ": Parameter \"" + s
                     + "\" ist laenger als " + anzahlBytes + " Zeichen!");
@@ -452,6 +453,46 @@ public class Feld implements Comparable<Feld>, Cloneable, Serializable {
         }
     }
 
+    /**
+     * Schreibt den Inhalt (so wie ihn {@link #getInhalt()} liefert)
+     * ISO-8859-1-kodiert in den uebergebenen Puffer, ohne dafuer einen
+     * String anzulegen. Zeichen, die sich nicht in ISO-8859-1 darstellen
+     * lassen, werden wie beim {@link java.io.OutputStreamWriter} durch '?'
+     * ersetzt.
+     *
+     * @param buffer Puffer fuer den Export
+     * @param offset Position des ersten Bytes im Puffer
+     * @since 6.2
+     */
+    public void export(final byte[] buffer, final int offset) {
+        int anzahlBytes = this.getAnzahlBytes();
+        int n = anzahlBytes - this.inhalt.length();
+        if (n <= 0) {
+            encode(this.inhalt, anzahlBytes, buffer, offset);
+        } else if (getAusrichtung() == Align.LEFT) {
+            encode(this.inhalt, this.inhalt.length(), buffer, offset);
+            Arrays.fill(buffer, offset + this.inhalt.length(), offset + anzahlBytes, (byte) ' ');
+        } else {
+            Arrays.fill(buffer, offset, offset + n, (byte) ' ');
+            encode(this.inhalt, this.inhalt.length(), buffer, offset + n);
+        }
+    }
+
+    /**
+     * Kodiert die ersten 'length' Zeichen von s als ISO-8859-1-Bytes.
+     *
+     * @param s      zu kodierender String
+     * @param length Anzahl der Zeichen
+     * @param buffer Ziel-Puffer
+     * @param offset Position im Ziel-Puffer
+     */
+    protected static void encode(final String s, final int length, final byte[] buffer, final int offset) {
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            buffer[offset + i] = (c <= 0xFF) ? (byte) c : (byte) '?';
+        }
+    }
+
     /**
      * Setzt das Feld und liefert es als Ergebnis zurueck.
      *
@@ -807,18 +848,14 @@ public class Feld implements Comparable<Feld>, Cloneable, Serializable {
          */
         protected String validateLax(String value) {
             LOG.debug("Inhalt von '{}' wird validiert.", value);
-            for (char c : value.toCharArray()) {
-                validateChar(value, c);
+            int i = Zeichenklasse.indexOfNonPrintable(value);
+            if (i >= 0) {
+                throw new ValidationException(
+                        String.format("Text '%s' enthaelt ungueltige Zeichen '%c'", value, value.charAt(i)));
             }
             return value;
         }
 
-        private void validateChar(String value, char c) {
-            if (!Text.of(Character.toString(c)).isPrintable()) {
-                throw new ValidationException(String.format("Text '%s' enthaelt ungueltige Zeichen '%c'", value, c));
-            }
-        }
-
         /**
          * Dieser validate-Methode validiert strenger und kann von Unterklassen
          * ueberschrieben werden.
@@ -17,7 +17,9 @@
  */
 package gdv.xport.feld;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import gdv.xport.config.Config;
+import gdv.xport.feld.internal.Zeichenklasse;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,6 +29,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.text.NumberFormat;
+import java.util.Arrays;
 
 import static java.math.BigDecimal.ZERO;
 
@@ -44,6 +47,16 @@ public class NumFeld extends Feld {
 
     private static final Logger LOG = LogManager.getLogger(NumFeld.class);
     private static final Feld.Validator DEFAULT_VALIDATOR =new NumFeld.Validator(Config.getInstance());
+    /** Markiert einen Inhalt, der nicht direkt als long gelesen werden kann. */
+    protected static final long INVALID = Long.MIN_VALUE;
+    private static final long MAX_PARSEABLE = (Long.MAX_VALUE - 9) / 10;
+    private static final long[] POWERS_OF_TEN = new long[19];
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
     private final int nachkommastellen;
 
     /**
@@ -235,7 +248,46 @@ public class NumFeld extends Feld {
         if (LOG.isDebugEnabled() && getNachkommastellen() > 0) {
             LOG.debug("Ab v5.1 wird hier Zahl {} mit {} 0en gesetzt.", n, getNachkommastellen());
         }
-        this.setInhalt(new BigDecimal(n));
+        if ((n >= 0) && (nachkommastellen < POWERS_OF_TEN.length)
+                && (n <= Long.MAX_VALUE / POWERS_OF_TEN[nachkommastellen])) {
+            setUnscaledValue(n * POWERS_OF_TEN[nachkommastellen]);
+        } else {
+            this.setInhalt(new BigDecimal(n));
+        }
+    }
+
+    /**
+     * Setzt den Inhalt als Ganzzahl mit impliziten Nachkommastellen, d.h.
+     * bei 2 Nachkommastellen steht 12345 fuer 123,45. Passt die Zahl in
+     * das Feld, wird der Inhalt direkt (ohne Umweg ueber
+     * {@link BigDecimal} und ohne erneute Validierung) gesetzt.
+     *
+     * @param n Zahl ohne Dezimalpunkt (z.B. Betrag in Cent)
+     * @throws IllegalArgumentException wenn n &lt; 0 oder zu gross
+     * @since 6.2
+     */
+    public void setUnscaledValue(final long n) {
+        if ((n >= 0) && fits(n) && (getValidator().getClass() == NumFeld.Validator.class)) {
+            this.inhalt = (n == 0) ? "" : Long.toString(n);
+        } else {
+            this.setInhalt(BigDecimal.valueOf(n, nachkommastellen));
+        }
+    }
+
+    /**
+     * Prueft, ob die (positive) Zahl in die angegebene Anzahl von Stellen
+     * passt.
+     *
+     * @param n     positive Zahl
+     * @param digits Anzahl Stellen
+     * @return true, wenn n hoechstens digits Stellen hat
+     */
+    protected static boolean fits(long n, int digits) {
+        return (digits >= POWERS_OF_TEN.length) || (n < POWERS_OF_TEN[digits]);
+    }
+
+    private boolean fits(long n) {
+        return fits(n, getAnzahlBytes());
     }
 
     /**
@@ -283,8 +335,33 @@ public class NumFeld extends Feld {
     }
 
     public String getInhalt() {
-        String zeroes = StringUtils.repeat('0', this.getAnzahlBytes() - this.inhalt.length());
-        return zeroes + this.inhalt;
+        int n = this.getAnzahlBytes() - this.inhalt.length();
+        if (n <= 0) {
+            return this.inhalt;
+        }
+        char[] chars = new char[this.getAnzahlBytes()];
+        Arrays.fill(chars, 0, n, '0');
+        this.inhalt.getChars(0, this.inhalt.length(), chars, n);
+        return new String(chars);
+    }
+
+    /**
+     * Schreibt den Inhalt mit fuehrenden Nullen in den Puffer (siehe
+     * {@link Feld#export(byte[], int)}).
+     *
+     * @param buffer Puffer fuer den Export
+     * @param offset Position des ersten Bytes im Puffer
+     * @since 6.2
+     */
+    @Override
+    public void export(final byte[] buffer, final int offset) {
+        int n = this.getAnzahlBytes() - this.inhalt.length();
+        if (n <= 0) {
+            encode(this.inhalt, this.getAnzahlBytes(), buffer, offset);
+        } else {
+            Arrays.fill(buffer, offset, offset + n, (byte) '0');
+            encode(this.inhalt, this.inhalt.length(), buffer, offset + n);
+        }
     }
 
     /* (non-Javadoc)
@@ -300,13 +377,15 @@ public class NumFeld extends Feld {
 
     @Override
     protected String truncate(String s) {
-        if (s.startsWith("0") && (s.length() > 1)) {
-            return truncate(s.substring(1));
-        } else if (s.length() > getAnzahlBytes()) {
+        int i = 0;
+        while ((i < s.length() - 1) && (s.charAt(i) == '0')) {
+            i++;
+        }
+        if (s.length() - i > getAnzahlBytes()) {
             LOG.info("NumFeld {} wird auf {} Ziffern gekuerzt", getBezeichner(), getAnzahlBytes());
             return StringUtils.repeat('9', getAnzahlBytes());
         }
-        return s;
+        return s.substring(i);
     }
 
     /**
@@ -316,7 +395,7 @@ public class NumFeld extends Feld {
      * @return den Inhalt als int
      */
     public int toInt() {
-        return toBigDecimal().intValue();
+        return (int) toLong();
     }
 
     /**
@@ -326,7 +405,11 @@ public class NumFeld extends Feld {
      * @return den Inhalt als long
      */
     public long toLong() {
-        return toBigDecimal().longValue();
+        long n = parseUnscaledValue();
+        if ((n == INVALID) || (nachkommastellen >= POWERS_OF_TEN.length)) {
+            return toBigDecimal().longValue();
+        }
+        return n / POWERS_OF_TEN[nachkommastellen];
     }
 
     /**
@@ -337,7 +420,12 @@ public class NumFeld extends Feld {
      * @return die Zahl als Double
      */
     public double toDouble() {
-        return toBigDecimal().doubleValue();
+        long n = parseUnscaledValue();
+        if ((n == INVALID) || (Math.abs(n) > (1L << 53)) || (nachkommastellen >= POWERS_OF_TEN.length)) {
+            return toBigDecimal().doubleValue();
+        }
+        // n und 10^k sind als double exakt darstellbar, die Division ist damit korrekt gerundet
+        return n / (double) POWERS_OF_TEN[nachkommastellen];
     }
 
     /**
@@ -359,10 +447,66 @@ public class NumFeld extends Feld {
      * @return die Zahl als {@link BigDecimal}
      */
     public BigDecimal toBigDecimal() {
+        long n = parseUnscaledValue();
+        if (n != INVALID) {
+            return BigDecimal.valueOf(n, this.nachkommastellen);
+        }
         BigDecimal d = new BigDecimal(getInhalt().trim());
         return d.movePointLeft(this.nachkommastellen);
     }
 
+    /**
+     * Liefert den Inhalt als Ganzzahl mit impliziten Nachkommastellen, d.h.
+     * bei 2 Nachkommastellen wird 123,45 als 12345 geliefert. Die Ziffern
+     * werden dabei direkt aus dem Inhalt gelesen, ohne dass (wie bei
+     * {@link #toBigDecimal()}) dafuer Objekte angelegt werden.
+     *
+     * @return Zahl ohne Dezimalpunkt (z.B. Betrag in Cent)
+     * @throws NumberFormatException bei ungueltigem Inhalt
+     * @throws ArithmeticException wenn die Zahl nicht in ein long passt
+     * @since 6.2
+     */
+    @JsonIgnore
+    public long getUnscaledValue() {
+        long n = parseUnscaledValue();
+        if (n == INVALID) {
+            return toBigDecimal().movePointRight(nachkommastellen).longValueExact();
+        }
+        return n;
+    }
+
+    /**
+     * Liest den Inhalt als Ganzzahl mit impliziten Nachkommastellen. Kann
+     * er nicht direkt gelesen werden (z.B. wegen Leerzeichen oder zu vieler
+     * Stellen), wird {@link #INVALID} zurueckgegeben.
+     *
+     * @return Zahl ohne Dezimalpunkt oder {@link #INVALID}
+     */
+    protected long parseUnscaledValue() {
+        return parseDigits(this.inhalt, 0, this.inhalt.length());
+    }
+
+    /**
+     * Liest die Ziffern im angegebenen Bereich als positive Zahl.
+     *
+     * @param s    Inhalt
+     * @param from Start-Index (inklusive)
+     * @param to   End-Index (exklusive)
+     * @return die Zahl oder {@link #INVALID}, falls nicht nur Ziffern
+     *         enthalten sind oder die Zahl zu gross ist
+     */
+    protected static long parseDigits(String s, int from, int to) {
+        long n = 0;
+        for (int i = from; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if ((digit < 0) || (digit > 9) || (n > MAX_PARSEABLE)) {
+                return INVALID;
+            }
+            n = n * 10 + digit;
+        }
+        return n;
+    }
+
     /**
      * Addiert den Summand auf und liefert die Summe zurueck.
      *
@@ -440,7 +584,7 @@ public class NumFeld extends Feld {
         protected String validateLax(String value) {
             String nummer = value.trim();
             LOG.debug("{} wird als Zahl validiert.", nummer);
-            if (StringUtils.isNotBlank(nummer)) {
+            if (!Zeichenklasse.isDigits(nummer, 0, nummer.length()) && StringUtils.isNotBlank(nummer)) {
                 try {
                     BigInteger n = new BigInteger(nummer);
                     if (n.compareTo(BigInteger.ZERO) < 0) {
@@ -78,22 +78,40 @@ public class Satznummer extends Zeichen {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public static Satznummer readSatznummer(final PushbackLineNumberReader reader) throws IOException {
-        Satznummer satznr = new Satznummer();
         int satzart = Importer.of(reader).readSatzart();
+        int n = reader.peekRecord();
+        char[] record = reader.getPeekedRecord();
+        Satznummer satznr = new Satznummer(adresseOf(satzart, record));
+        if (satznr.getByteAdresse() > n) {
+            throw new EOFException("can't read " + satznr.getByteAdresse() + " bytes from " + reader);
+        }
+        satznr.setInhalt(record[satznr.getByteAdresse() - 1]);
+        return satznr;
+    }
+
+    /**
+     * Ermittelt aus der angegebenen Satzart und dem Inhalt des Teildatensatzes
+     * die Byte-Adresse, an der die Satznummer steht. Im Normalfall ist das
+     * das letzte Byte (256), bei einigen Satzarten steht sie aber auch
+     * weiter vorne.
+     *
+     * @param satzart Satzart, z.B. 220
+     * @param record  Inhalt des Teildatensatzes (256 Zeichen)
+     * @return Byte-Adresse der Satznummer (zwischen 1 und 256)
+     * @since 6.2
+     */
+    public static int adresseOf(final int satzart, final char[] record) {
         switch (satzart) {
             case 210:
             case 211:
-                satznr = getSatznummer21x(reader);
-                break;
+                return adresseOf21x(record);
             case 220:
             case 221:
-                satznr = getSatznummer22x(reader);
-                break;
+                return adresseOf22x(record);
             case 250:
             case 251:
             case 450:
-                satznr = new Satznummer(51);
-                break;
+                return 51;
             case 270:
             case 280:
             case 291:
@@ -101,25 +119,17 @@ public class Satznummer extends Zeichen {
             case 293:
             case 294:
             case 295:
-                satznr = new Satznummer(43);
-                break;
+                return 43;
             case 500:
-                satznr.read(reader);
-                if (satznr.toChar() == '2') {
-                    return satznr;
-                }
-                satznr = new Satznummer(66);
-                break;
+                return record[255] == '2' ? 256 : 66;
             case 550:
-                satznr = new Satznummer(66);
-                break;
+                return 66;
+            default:
+                return 256;
         }
-        satznr.read(reader);
-        return satznr;
     }
 
-    private static Satznummer getSatznummer21x(PushbackLineNumberReader reader) throws IOException {
-        char[] satz = readRecord(reader, 14);
+    private static int adresseOf21x(char[] satz) {
         int sparte = Integer.parseInt(String.valueOf(satz, 10, 3));
         switch (sparte) {
             case 0:
@@ -130,62 +140,46 @@ public class Satznummer extends Zeichen {
             case 560:
             case 570:
             case 580:
-                return new Satznummer(43);
+                return 43;
             case 130:
-                return new Satznummer(251);
+                return 251;
             default:
-                return new Satznummer(256);
+                return 256;
         }
     }
 
-    private static Satznummer getSatznummer22x(PushbackLineNumberReader reader) throws IOException {
-        char[] satz = readRecord(reader, 256);
+    private static int adresseOf22x(char[] satz) {
         int sparte = Integer.parseInt(String.valueOf(satz, 10, 3));
         switch (sparte) {
             case 0:
-                return new Satznummer(47);
+                return 47;
             case 30:
                 if ((satz[48] == '2' && satz[255] == 'X') || satz[48] == '1' || satz[48] == '4') {
-                    return new Satznummer(49);
+                    return 49;
                 } else if (satz[59] == '9') {
-                    return new Satznummer(60);
+                    return 60;
                 } else if (satz[42] == '3') {
-                    return new Satznummer(43);
+                    return 43;
                 }
-                return new Satznummer(60);
+                return 60;
             case 40:
             case 140:
-                return new Satznummer(51);
+                return 51;
             case 70:
-                return new Satznummer(53);
+                return 53;
             case 80:
             case 190:
-                return new Satznummer(49);
+                return 49;
             case 170:
-                return new Satznummer(50);
+                return 50;
             case 550:
             case 560:
             case 570:
             case 580:
-                return new Satznummer(43);
+                return 43;
             default:
-                return new Satznummer(256);
-        }
-    }
-
-    private void read(PushbackReader reader) throws IOException {
-        char[] cbuf = readRecord(reader, getByteAdresse());
-        String teildatenSatz = new String(cbuf).substring(cbuf.length - 1, cbuf.length);
-        setInhalt(teildatenSatz);
-    }
-
-    private static char[] readRecord(PushbackReader reader, int size) throws IOException {
-        char[] cbuf = new char[size];
-        if (reader.read(cbuf) < 0) {
-            throw new EOFException("can't read " + size + " bytes from " + reader);
+                return 256;
         }
-        reader.unread(cbuf);
-        return cbuf;
     }
 
     /**
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.feld.internal;
+
+import de.jfachwert.Text;
+
+/**
+ * Dies ist eine interne Hilfsklasse, die fuer die Zeichen aus ISO-8859-1
+ * (also die ersten 256 Zeichen) in einer vorberechneten Tabelle festhaelt,
+ * ob sie druckbar, Ziffer, Vorzeichen oder Leerzeichen sind. Damit koennen
+ * die Validatoren den Inhalt eines Feldes Zeichen fuer Zeichen pruefen,
+ * ohne dabei Objekte anzulegen.
+ * <p>
+ * Als druckbar gilt ein Zeichen, wenn es {@link Text#isPrintable()} ist.
+ * Zeichen ausserhalb von ISO-8859-1 (wie z.B. das Euro-Zeichen) werden
+ * direkt ueber {@link Text} geprueft.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class Zeichenklasse {
+
+    private static final byte PRINTABLE = 1;
+    private static final byte DIGIT = 2;
+    private static final byte SIGN = 4;
+    private static final byte BLANK = 8;
+    private static final byte[] TABELLE = new byte[256];
+
+    static {
+        for (char c = 0; c < TABELLE.length; c++) {
+            byte klasse = 0;
+            if (Text.of(Character.toString(c)).isPrintable()) {
+                klasse |= PRINTABLE;
+            }
+            if ((c >= '0') && (c <= '9')) {
+                klasse |= DIGIT;
+            }
+            if ((c == '+') || (c == '-')) {
+                klasse |= SIGN;
+            }
+            if (c <= ' ') {
+                klasse |= BLANK;
+            }
+            TABELLE[c] = klasse;
+        }
+    }
+
+    private Zeichenklasse() {
+    }
+
+    /**
+     * Prueft, ob das uebergebene Zeichen druckbar ist.
+     *
+     * @param c Zeichen
+     * @return true, falls druckbar
+     */
+    public static boolean isPrintable(char c) {
+        if (c < TABELLE.length) {
+            return (TABELLE[c] & PRINTABLE) != 0;
+        }
+        return Text.of(Character.toString(c)).isPrintable();
+    }
+
+    /**
+     * Prueft, ob das uebergebene Zeichen eine Ziffer (0-9) ist.
+     *
+     * @param c Zeichen
+     * @return true, falls Ziffer
+     */
+    public static boolean isDigit(char c) {
+        return (c < TABELLE.length) && ((TABELLE[c] & DIGIT) != 0);
+    }
+
+    /**
+     * Prueft, ob das uebergebene Zeichen ein Vorzeichen ('+' oder '-') ist.
+     *
+     * @param c Zeichen
+     * @return true, falls Vorzeichen
+     */
+    public static boolean isSign(char c) {
+        return (c < TABELLE.length) && ((TABELLE[c] & SIGN) != 0);
+    }
+
+    /**
+     * Prueft, ob das uebergebene Zeichen ein Leer- oder Steuerzeichen ist,
+     * das (wie bei {@link String#trim()}) am Anfang oder Ende eines Feldes
+     * ignoriert wird.
+     *
+     * @param c Zeichen
+     * @return true, falls Leerzeichen
+     */
+    public static boolean isBlank(char c) {
+        return (c < TABELLE.length) && ((TABELLE[c] & BLANK) != 0);
+    }
+
+    /**
+     * Liefert die Position des ersten nicht druckbaren Zeichens.
+     *
+     * @param s zu pruefender Text
+     * @return Position oder -1, falls alle Zeichen druckbar sind
+     */
+    public static int indexOfNonPrintable(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!isPrintable(s.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Prueft, ob der angegebene Bereich (ohne fuehrende und abschliessende
+     * Leerzeichen) nur aus Ziffern besteht. Ein leerer Bereich gilt dabei
+     * ebenfalls als gueltig.
+     *
+     * @param s   zu pruefender Text
+     * @param von Anfang des Bereichs (inklusive)
+     * @param bis Ende des Bereichs (exklusive)
+     * @return true, falls nur Ziffern (oder leer)
+     */
+    public static boolean isDigits(CharSequence s, int von, int bis) {
+        while ((von < bis) && isBlank(s.charAt(von))) {
+            von++;
+        }
+        while ((bis > von) && isBlank(s.charAt(bis - 1))) {
+            bis--;
+        }
+        for (int i = von; i < bis; i++) {
+            if (!isDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -74,18 +74,40 @@ public class Importer {
      */
     public int readSatzart() throws IOException {
         reader.skipWhitespace();
-        char[] cbuf = new char[4];
-        importFrom(cbuf);
-        reader.unread(cbuf);
-        return Integer.parseInt(new String(cbuf).trim());
+        return toSatzart(peekRecord(4));
     }
 
-    private void importFrom(final char[] cbuf) throws IOException {
-        if (reader.read(cbuf) == -1) {
-            String s = new String(cbuf).trim();
-            throw new EOFException("can't read " + cbuf.length + " bytes from " + reader + ", only \""
-                    + s + "\" ("+ s.length() + " bytes)");
+    /**
+     * Liest den naechsten Record, ohne ihn zu verbrauchen. Der Record wird
+     * dabei nur einmal gelesen - weitere Aufrufe liefern den gleichen Puffer,
+     * solange nichts aus dem Reader gelesen wurde.
+     *
+     * @param minLength erwartete Mindestlaenge (nur fuer die Fehlermeldung)
+     * @return Puffer des {@link PushbackLineNumberReader}s
+     * @throws IOException bei Lesefehlern
+     */
+    private char[] peekRecord(int minLength) throws IOException {
+        try {
+            reader.peekRecord();
+        } catch (EOFException ex) {
+            throw new EOFException("can't read " + minLength + " bytes from " + reader + ", only \"\" (0 bytes)");
         }
+        return reader.getPeekedRecord();
+    }
+
+    /**
+     * Bestimmt den SatzTyp des naechsten Datensatzes. Im Gegensatz zu
+     * {@link #readSatzTyp(int)} wird hier auch die Satzart ermittelt.
+     * Dazu wird der Record nur ein einziges Mal gelesen und zurueckgestellt.
+     *
+     * @return den ermittelten SatzTyp
+     * @throws IOException bei Lesefehlern
+     * @since 6.2
+     */
+    public SatzTyp readSatzTyp() throws IOException {
+        reader.skipWhitespace();
+        char[] record = peekRecord(4);
+        return toSatzTyp(toSatzart(record), record);
     }
 
     /**
@@ -99,31 +121,101 @@ public class Importer {
         if ((satzart == 1) || (satzart == 9999)) {
             return SatzTyp.of(satzart);
         }
-        int sparte = readSparte();
-        SatzTyp satzTyp = SatzTyp.of(satzart, sparte);
+        return toSatzTyp(satzart, peekRecord(14));
+    }
+
+    /**
+     * Bestimmt den SatzTyp anhand der Satzart und des uebergebenen Records.
+     * Alle benoetigten Informationen (Sparte, Wagnisart, Satznummer,
+     * Folge-Nr., Bauspar-Art) werden direkt aus dem Puffer ermittelt, ohne
+     * dafuer erneut lesen oder Strings anlegen zu muessen.
+     *
+     * @param satzart Satzart, z.B. 100
+     * @param record  der (vorausgelesene) Record
+     * @return den ermittelten SatzTyp
+     * @throws ImportException falls die Sparte nicht lesbar ist
+     * @since 6.2
+     */
+    public static SatzTyp toSatzTyp(int satzart, char[] record) throws ImportException {
+        if ((satzart == 1) || (satzart == 9999)) {
+            return SatzTyp.of(satzart);
+        }
+        int sparte = toSparte(record);
         if (satzart >= 210 && satzart < 300) {
             if (sparte == 10 && ((satzart == 220) || (satzart == 221))) {
-                WagnisartLeben wagnisart = readWagnisart();
-                if (wagnisart.getCode() > 0) {
-                    int satznr = Satznummer.readSatznummer(reader).toInt();
-                    satzTyp = SatzTyp.of(satzart, sparte, wagnisart.getCode(), satznr > 5 ? satznr : 1);
+                int wagnisart = WagnisartLeben.isIn(record[59]).getCode();
+                if (wagnisart > 0) {
+                    int satznr = Character.getNumericValue(record[Satznummer.adresseOf(satzart, record) - 1]);
+                    return SatzTyp.of(satzart, sparte, wagnisart, satznr > 5 ? satznr : 1);
                 } else {
-                    satzTyp = SatzTyp.of(satzart, sparte, wagnisart.getCode());
+                    return SatzTyp.of(satzart, sparte, wagnisart);
                 }
             } else if (sparte == 20 && satzart == 220) {
                 // Fuer 0220.020.x ist die Krankenfolgenummer zur Identifikation der Satzart noetig
-                int krankenFolgeNr = readKrankenFolgeNr();
-                satzTyp = SatzTyp.of(satzart, sparte, krankenFolgeNr);
+                return SatzTyp.of(satzart, sparte, toKrankenFolgeNr(record));
             }  else if (sparte == 580 && satzart == 220) {
-                // Fuer 0220.580.x ist die BausparArt zur Identifikation der Satzart
-                // noetig
                 // Fuer 0220.580.x ist die BausparArt zur Identifikation der Satzart noetig
-                int bausparArt = readBausparenArt();
-                // BausparenArt nicht auslesbar -> Unbekannter Datensatz
-                satzTyp = SatzTyp.of(satzart, sparte, bausparArt);
+                return SatzTyp.of(satzart, sparte, toBausparenArt(record));
+            }
+        }
+        return SatzTyp.of(satzart, sparte);
+    }
+
+    private static int toSatzart(char[] record) {
+        int begin = 0;
+        int end = 4;
+        while ((begin < end) && (record[begin] <= ' ')) {
+            begin++;
+        }
+        while ((end > begin) && (record[end - 1] <= ' ')) {
+            end--;
+        }
+        int n = parseDigits(record, begin, end);
+        if (n < 0) {
+            throw new NumberFormatException("For input string: \"" + new String(record, begin, end - begin) + "\"");
+        }
+        return n;
+    }
+
+    private static int toSparte(char[] record) throws ImportException {
+        int sparte = parseDigits(record, 10, 13);
+        if (sparte < 0) {
+            throw new ImportException("cannot read sparte from first 14 bytes (\"" + new String(record, 0, 14) + "\")");
+        }
+        return sparte;
+    }
+
+    private static int toKrankenFolgeNr(char[] record) {
+        return parseDigits(record, 47, 48);
+    }
+
+    private static int toBausparenArt(char[] record) {
+        int art = parseDigits(record, 43, 44);
+        if (art < 0) {
+            throw new NumberFormatException("For input string: \"" + record[43] + "\"");
+        }
+        return art;
+    }
+
+    /**
+     * Wandelt die Ziffern im angegebenen Bereich in eine Zahl um.
+     *
+     * @return Zahl oder -1, falls der Bereich leer ist oder nicht nur aus
+     *         Ziffern besteht
+     */
+    private static int parseDigits(char[] record, int begin, int end) {
+        if (begin >= end) {
+            return -1;
+        }
+        int n = 0;
+        for (int i = begin; i < end; i++) {
+            char c = record[i];
+            if ((c < '0') || (c > '9')) {
+                return -1;
             }
+            n = n * 10 + (c - '0');
         }
-        return satzTyp;
+        return n;
     }
 
     /**
@@ -134,17 +226,7 @@ public class Importer {
      * @throws IOException falls was schief gegangen ist
      */
     public int readSparte() throws IOException {
-        char[] cbuf = new char[14];
-        if (reader.read(cbuf) == -1) {
-            throw new IOException("can't read 14 bytes (" + new String(cbuf) + ") from " + reader);
-        }
-        reader.unread(cbuf);
-        String intro = new String(cbuf);
-        try {
-            return Integer.parseInt(intro.substring(10, 13));
-        } catch (NumberFormatException ex) {
-            throw new ImportException("cannot read sparte from first 14 bytes (\"" + intro + "\")");
-        }
+        return toSparte(peekRecord(14));
     }
 
     /**
@@ -155,13 +237,7 @@ public class Importer {
      * @throws IOException falls was schief gegangen ist
      */
     public WagnisartLeben readWagnisart() throws IOException {
-        char[] cbuf = new char[60];
-        if (reader.read(cbuf) == -1) {
-            throw new IOException("can't read 1 bytes (" + new String(cbuf) + ") from " + reader);
-        }
-        reader.unread(cbuf);
-        String wagnisart = new String(cbuf).substring(59, 60);
-        return WagnisartLeben.isIn(wagnisart);
+        return WagnisartLeben.isIn(peekRecord(60)[59]);
     }
 
     /**
@@ -172,27 +248,15 @@ public class Importer {
      * @throws IOException falls was schief gegangen ist
      */
     public int readKrankenFolgeNr() throws IOException {
-        int satzart = Importer.of(reader).readSatzart();
+        int satzart = readSatzart();
         if (satzart != 220) {
             throw new IllegalArgumentException("can't read Kranken Folge-Nr., wrong satzart " + satzart +", must be 220");
         }
-
         int sparte = readSparte();
         if (sparte != 20) {
             throw new IllegalArgumentException("can't read Kranken Folge-Nr., wrong sparte " + sparte + ", must be 20");
         }
-
-        char[] cbuf = new char[49];
-        if (reader.read(cbuf) == -1) {
-            throw new IOException("can't read 49 bytes (" + new String(cbuf) + ") from " + reader);
-        }
-        reader.unread(cbuf);
-        String first10Fields = new String(cbuf);
-        try {
-            return Integer.parseInt(first10Fields.substring(47, 48));
-        } catch (NumberFormatException ex) {
-            return -1;
-        }
+        return toKrankenFolgeNr(peekRecord(49));
     }
 
     /**
@@ -212,13 +276,7 @@ public class Importer {
         if (sparte != 580) {
             throw new IllegalArgumentException("can't read Bauspar-Art, wrong sparte " + sparte + ", must be 580");
         }
-        char[] cbuf = new char[45];
-        if (reader.read(cbuf) == -1) {
-            throw new IOException("can't read 45 bytes (" + new String(cbuf) + ") from " + reader);
-        }
-        reader.unread(cbuf);
-        String first10Fields = new String(cbuf);
-        return Integer.parseInt(first10Fields.substring(43, 44));
+        return toBausparenArt(peekRecord(45));
     }
 
 }
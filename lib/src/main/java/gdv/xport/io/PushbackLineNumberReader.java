@@ -18,11 +18,13 @@
 
 package gdv.xport.io;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.CharBuffer;
+import java.util.Arrays;
 
 /**
  * Dies ist ein {@link PushbackReader}, der um Eigenschaften des.
@@ -39,6 +41,9 @@ import java.nio.CharBuffer;
  */
 public class PushbackLineNumberReader extends PushbackReader {
 
+    private static final int NONE = -2;
+    private final char[] record;
+    private int peeked = NONE;
     private int lineNumber = 0;
 
     /**
@@ -58,6 +63,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     public PushbackLineNumberReader(final Reader in, final int size) {
         super(in, size);
+        this.record = new char[Math.min(size, 256)];
     }
 
     /* (non-Javadoc)
@@ -65,6 +71,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     @Override
     public int read() throws IOException {
+        peeked = NONE;
         int ch = super.read();
         if (ch == '\n') {
             this.lineNumber++;
@@ -85,6 +92,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     @Override
     public int read(final CharBuffer target) throws IOException {
+        peeked = NONE;
         int ret = super.read(target);
         countLineNumber(target.array());
         return ret;
@@ -103,6 +111,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     @Override
     public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        peeked = NONE;
         int ret = super.read(cbuf, off, len);
         for (int i = 0; i < ret; i++) {
             if (cbuf[off+i] == '\n') {
@@ -112,6 +121,60 @@ public class PushbackLineNumberReader extends PushbackReader {
         return ret;
     }
 
+    /* (non-Javadoc)
+     * @see java.io.PushbackReader#skip(long)
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        peeked = NONE;
+        return super.skip(n);
+    }
+
+    /**
+     * Liest den naechsten Record (max. 256 Zeichen bzw. die Groesse des
+     * Pushback-Puffers), ohne ihn zu verbrauchen. Das Ergebnis steht anschliessend ueber {@link #getPeekedRecord()} zur
+     * Verfuegung. Solange zwischendurch nichts gelesen oder zurueckgestellt
+     * wird, wird der Record beim naechsten Aufruf nicht erneut gelesen.
+     * Damit koennen Satzart, Sparte, Satznummer usw. aus einem einzigen
+     * Lesevorgang bestimmt werden.
+     *
+     * @return Anzahl der gelesenen Zeichen (max. 256)
+     * @throws EOFException falls keine Zeichen mehr gelesen werden koennen
+     * @throws IOException bei sonstigen Lesefehlern
+     * @since 6.2
+     */
+    public int peekRecord() throws IOException {
+        if (peeked == NONE) {
+            int n = 0;
+            while (n < record.length) {
+                int r = read(record, n, record.length - n);
+                if (r < 0) {
+                    break;
+                }
+                n += r;
+            }
+            unread(record, 0, n);
+            Arrays.fill(record, n, record.length, '\0');
+            peeked = n;
+        }
+        if (peeked == 0) {
+            throw new EOFException("can't read record from " + this);
+        }
+        return peeked;
+    }
+
+    /**
+     * Liefert den Puffer, der beim letzten Aufruf von {@link #peekRecord()}
+     * gefuellt wurde. Der Puffer wird beim naechsten Lesevorgang wieder
+     * ueberschrieben und darf daher nicht veraendert oder aufgehoben werden.
+     *
+     * @return Puffer mit 256 Zeichen (bzw. der Groesse des Pushback-Puffers)
+     * @since 6.2
+     */
+    public char[] getPeekedRecord() {
+        return record;
+    }
+
     /**
      * Read line.
      *
@@ -137,6 +200,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     @Override
     public void reset() throws IOException {
+        peeked = NONE;
         super.reset();
         this.lineNumber = 0;
     }
@@ -146,6 +210,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     @Override
     public void unread(final char[] cbuf, final int off, final int len) throws IOException {
+        peeked = NONE;
         for (int i = off; i < off + len; i++) {
             if (cbuf[i] == '\n') {
                 this.lineNumber--;
@@ -167,6 +232,7 @@ public class PushbackLineNumberReader extends PushbackReader {
      */
     @Override
     public void unread(final int c) throws IOException {
+        peeked = NONE;
         if (c == '\n') {
             this.lineNumber--;
         }
@@ -182,6 +248,17 @@ public class PushbackLineNumberReader extends PushbackReader {
         return this.lineNumber;
     }
 
+    /**
+     * Setzt die aktuelle Zeilennummer. Das ist z.B. dann noetig, wenn der
+     * Reader nicht am Anfang einer Datei aufsetzt.
+     *
+     * @param lineNumber die neue Zeilennummer
+     * @since 6.2
+     */
+    public void setLineNumber(int lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
     /**
      * Wenn das naechste Zeichen das Zeilenende ist, wird es uebersprungen.
      * Ansonsten wird es wieder in den Eingabepuffer zurueckgestellt.
@@ -211,10 +288,13 @@ public class PushbackLineNumberReader extends PushbackReader {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public void skip(final char... chars) throws IOException {
-        char[] cbuf = new char[1];
-        while (this.read(cbuf) != -1) {
-            if (!isInArray(cbuf[0], chars)) {
-                this.unread(cbuf);
+        if ((peeked > 0) && !isInArray(record[0], chars)) {
+            return;
+        }
+        int ch;
+        while ((ch = this.read()) != -1) {
+            if (!isInArray((char) ch, chars)) {
+                this.unread(ch);
                 break;
             }
         }
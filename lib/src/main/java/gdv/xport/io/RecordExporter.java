@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.io;
+
+import gdv.xport.config.Config;
+import gdv.xport.satz.Satz;
+import gdv.xport.satz.Teildatensatz;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * Der RecordExporter ist das Gegenstueck zum {@link RecordScanner}: er
+ * schreibt die Teildatensaetze direkt als ISO-8859-1-kodierte Bytes in
+ * einen wiederverwendeten Block-Puffer und gibt diesen erst aus, wenn er
+ * voll ist. Im Gegensatz zum Export ueber einen
+ * {@link java.io.OutputStreamWriter} entstehen dabei pro Record weder
+ * Strings noch Arbeit fuer einen Charset-Encoder.
+ * <p>
+ * Als Ziel kann ein {@link OutputStream} oder ein
+ * {@link WritableByteChannel} (z.B. ein {@link java.nio.channels.FileChannel})
+ * angegeben werden. Als Record-Ende wird das eingestellte EOD-Zeichen
+ * ({@link Config#getEOD()}) verwendet.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class RecordExporter implements Closeable, Flushable {
+
+    private static final int RECORD_LENGTH = 256;
+    private static final int BLOCK_SIZE = 0x10000;
+
+    private final OutputStream ostream;
+    private final WritableByteChannel channel;
+    private final byte[] block;
+    private final ByteBuffer blockBuffer;
+    private final byte[] eod;
+    private int blockPos = 0;
+    private long recordNo = 0;
+
+    /**
+     * Legt einen neuen RecordExporter fuer den angegebenen OutputStream an.
+     *
+     * @param ostream Ziel des Exports
+     */
+    public RecordExporter(OutputStream ostream) {
+        this(ostream, null, BLOCK_SIZE);
+    }
+
+    /**
+     * Legt einen neuen RecordExporter fuer den angegebenen Channel (z.B.
+     * einen {@link java.nio.channels.FileChannel}) an.
+     *
+     * @param channel Ziel des Exports
+     */
+    public RecordExporter(WritableByteChannel channel) {
+        this(channel, BLOCK_SIZE);
+    }
+
+    /**
+     * Legt einen neuen RecordExporter fuer den angegebenen Channel mit der
+     * angegebenen Puffer-Groesse an.
+     *
+     * @param channel   Ziel des Exports
+     * @param blockSize Groesse des Puffers in Bytes
+     */
+    public RecordExporter(WritableByteChannel channel, int blockSize) {
+        this(null, channel, blockSize);
+    }
+
+    private RecordExporter(OutputStream ostream, WritableByteChannel channel, int blockSize) {
+        this.ostream = ostream;
+        this.channel = channel;
+        this.eod = Config.hasEOD() ? Config.getEOD().getBytes(Config.DEFAULT_ENCODING) : new byte[0];
+        this.block = new byte[Math.max(blockSize, RECORD_LENGTH + eod.length)];
+        this.blockBuffer = ByteBuffer.wrap(block);
+    }
+
+    /**
+     * Exportiert alle Teildatensaetze des uebergebenen Satzes.
+     *
+     * @param satz der zu exportierende Satz
+     * @throws IOException bei Schreibfehlern
+     */
+    public void write(Satz satz) throws IOException {
+        for (Teildatensatz tds : satz.getTeildatensaetze()) {
+            write(tds);
+        }
+    }
+
+    /**
+     * Exportiert den uebergebenen Teildatensatz.
+     *
+     * @param tds der zu exportierende Teildatensatz
+     * @throws IOException bei Schreibfehlern
+     */
+    public void write(Teildatensatz tds) throws IOException {
+        if (block.length - blockPos < RECORD_LENGTH + eod.length) {
+            writeBlock();
+        }
+        blockPos += tds.export(block, blockPos, eod);
+        recordNo++;
+    }
+
+    /**
+     * Gibt bereits exportierte Records (z.B. von {@link #toByteArray(List)})
+     * unveraendert aus.
+     *
+     * @param records Records inkl. EOD-Zeichen
+     * @throws IOException bei Schreibfehlern
+     */
+    public void write(byte[] records) throws IOException {
+        if (block.length - blockPos < records.length) {
+            writeBlock();
+        }
+        if (records.length > block.length) {
+            write(records, records.length);
+        } else {
+            System.arraycopy(records, 0, block, blockPos, records.length);
+            blockPos += records.length;
+        }
+        recordNo += records.length / (RECORD_LENGTH + eod.length);
+    }
+
+    /**
+     * Exportiert die uebergebenen Saetze in ein neues Byte-Array, ohne sie
+     * auszugeben. Da dabei der Puffer des RecordExporters nicht verwendet
+     * wird, kann diese Methode auch gleichzeitig aus mehreren Threads
+     * aufgerufen werden, um die Saetze parallel aufzubereiten. Das Ergebnis
+     * wird dann ueber {@link #write(byte[])} ausgegeben.
+     *
+     * @param saetze die zu exportierenden Saetze
+     * @return die Records inkl. EOD-Zeichen
+     */
+    public byte[] toByteArray(List<? extends Satz> saetze) {
+        int n = 0;
+        for (Satz satz : saetze) {
+            n += satz.getNumberOfTeildatensaetze();
+        }
+        byte[] records = new byte[n * (RECORD_LENGTH + eod.length)];
+        int pos = 0;
+        for (Satz satz : saetze) {
+            for (Teildatensatz tds : satz.getTeildatensaetze()) {
+                pos += tds.export(records, pos, eod);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Liefert die Anzahl der bisher exportierten Records (Teildatensaetze).
+     *
+     * @return Anzahl Records
+     */
+    public long getRecordNo() {
+        return recordNo;
+    }
+
+    private void writeBlock() throws IOException {
+        if (blockPos > 0) {
+            write(block, blockPos);
+            blockPos = 0;
+        }
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        if (channel == null) {
+            ostream.write(bytes, 0, length);
+        } else {
+            ByteBuffer buffer = (bytes == block) ? blockBuffer : ByteBuffer.wrap(bytes);
+            // als Buffer, damit auch unter Java 8 Buffer.clear() und limit() aufgerufen werden
+            ((Buffer) buffer).clear();
+            ((Buffer) buffer).limit(length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Gibt den Puffer aus.
+     *
+     * @throws IOException bei Schreibfehlern
+     */
+    @Override
+    public void flush() throws IOException {
+        writeBlock();
+        if (ostream != null) {
+            ostream.flush();
+        }
+    }
+
+    /**
+     * Gibt den Puffer aus und schliesst das Ziel.
+     *
+     * @throws IOException bei Schreibfehlern
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (channel == null) {
+                ostream.close();
+            } else {
+                channel.close();
+            }
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " (record " + recordNo + ")";
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.io;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Der RecordScanner ist der byte-orientierte Nachfolger der Kombination aus
+ * {@link java.io.InputStreamReader} und {@link RecordReader}. Er liest die
+ * (ISO-8859-1-kodierten) Bytes blockweise aus einem {@link InputStream} oder
+ * einem {@link ReadableByteChannel} und wandelt sie direkt in Zeichen um,
+ * ohne dafuer einen Charset-Decoder oder einen Methoden-Aufruf pro Zeichen
+ * zu benoetigen.
+ * <p>
+ * Die Behandlung der Records entspricht dabei exakt der des
+ * {@link RecordReader}s: ein Record enthaelt immer genau 256 Zeichen.
+ * Ist eine Zeile kuerzer, wird sie mit Leerzeichen aufgefuellt. Zeilenenden
+ * (CR/LF) werden unveraendert weitergereicht.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class RecordScanner extends Reader {
+
+    private static final Logger LOG = LogManager.getLogger(RecordScanner.class);
+    private static final StreamCache<RecordScanner> CACHED_SCANNERS = new StreamCache<>();
+    private static final int RECORD_LENGTH = 256;
+    private static final int BLOCK_SIZE = 0x10000;
+    private static final int NONE = -2;
+
+    private final InputStream istream;
+    private final ReadableByteChannel channel;
+    private final byte[] block;
+    private final ByteBuffer blockBuffer;
+    private final char[] single = new char[1];
+    private int blockPos = 0;
+    private int blockLen = 0;
+    private int column = 0;
+    private int padding = 0;
+    private int terminator = NONE;
+    private int recordNo = 0;
+
+    /**
+     * Legt einen neuen RecordScanner fuer den angegebenen InputStream an.
+     *
+     * @param istream InputStream mit ISO-8859-1-kodierten Daten
+     */
+    public RecordScanner(InputStream istream) {
+        this(istream, null, BLOCK_SIZE);
+    }
+
+    /**
+     * Legt einen neuen RecordScanner fuer den angegebenen Channel (z.B.
+     * einen {@link java.nio.channels.FileChannel}) an.
+     *
+     * @param channel Channel mit ISO-8859-1-kodierten Daten
+     */
+    public RecordScanner(ReadableByteChannel channel) {
+        this(channel, BLOCK_SIZE);
+    }
+
+    /**
+     * Legt einen neuen RecordScanner fuer den angegebenen Channel mit der
+     * angegebenen Blockgroesse an. Eine kleine Blockgroesse bietet sich an,
+     * wenn nur wenige Records gelesen werden sollen.
+     *
+     * @param channel   Channel mit ISO-8859-1-kodierten Daten
+     * @param blockSize Groesse des Lese-Puffers in Bytes
+     */
+    public RecordScanner(ReadableByteChannel channel, int blockSize) {
+        this(null, channel, blockSize);
+    }
+
+    private RecordScanner(InputStream istream, ReadableByteChannel channel, int blockSize) {
+        super();
+        this.istream = istream;
+        this.channel = channel;
+        this.block = new byte[blockSize];
+        this.blockBuffer = ByteBuffer.wrap(block);
+    }
+
+    /**
+     * Liefert einen RecordScanner fuer den angegebenen InputStream. Wurde
+     * fuer diesen Stream bereits ein Scanner angelegt, wird dieser wieder
+     * verwendet. Dies ist notwendig, da der Scanner blockweise liest und
+     * ein zweiter Scanner sonst die bereits gelesenen Bytes verpassen
+     * wuerde (analog zum {@link RecyclingInputStreamReader}).
+     *
+     * @param istream InputStream mit ISO-8859-1-kodierten Daten
+     * @return RecordScanner fuer den InputStream
+     */
+    public static RecordScanner of(InputStream istream) {
+        return CACHED_SCANNERS.computeIfAbsent(istream, RecordScanner::new);
+    }
+
+    /* (non-Javadoc)
+     * @see java.io.Reader#read()
+     */
+    @Override
+    public int read() throws IOException {
+        int n = read(single, 0, 1);
+        return n < 0 ? -1 : single[0];
+    }
+
+    /**
+     * Liest bis zu 'len' Zeichen in den uebergebenen Puffer. Im Gegensatz zu
+     * anderen Readern wird der Puffer (wie beim {@link RecordReader})
+     * komplett gefuellt, solange das Ende der Eingabe nicht erreicht ist.
+     *
+     * @param cbuf Zielpuffer
+     * @param off  Offset im Zielpuffer
+     * @param len  maximale Anzahl der zu lesenden Zeichen
+     * @return Anzahl der gelesenen Zeichen oder -1 (Ende der Eingabe)
+     * @throws IOException bei Lesefehlern
+     */
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int n = transfer(cbuf, off, len);
+        return n > 0 ? n : -1;
+    }
+
+    /**
+     * Uebertraegt bis zu 'len' Zeichen in den Puffer. Ist der Puffer null,
+     * werden die Zeichen nur uebersprungen.
+     */
+    private int transfer(final char[] cbuf, final int off, final int len) throws IOException {
+        int n = 0;
+        while (n < len) {
+            if (padding > 0) {
+                int k = Math.min(padding, len - n);
+                if (cbuf != null) {
+                    Arrays.fill(cbuf, off + n, off + n + k, ' ');
+                }
+                padding -= k;
+                n += k;
+                if (padding == 0) {
+                    column = 0;
+                }
+            } else if (terminator != NONE) {
+                if (cbuf != null) {
+                    cbuf[off + n] = (char) terminator;
+                }
+                terminator = NONE;
+                n++;
+            } else if ((blockPos >= blockLen) && !fillBlock()) {
+                if (column > 0) {
+                    startPadding(NONE);
+                } else {
+                    break;
+                }
+            } else {
+                n += scan(cbuf, off + n, len - n);
+            }
+        }
+        return n;
+    }
+
+    private int scan(final char[] cbuf, final int off, final int len) {
+        byte b = block[blockPos];
+        if ((b == '\n') || (b == '\r')) {
+            blockPos++;
+            if (column == 0) {
+                if (cbuf != null) {
+                    cbuf[off] = (char) b;
+                }
+                return 1;
+            }
+            startPadding(b);
+            return 0;
+        }
+        int max = Math.min(Math.min(RECORD_LENGTH - column, len), blockLen - blockPos);
+        int i = 0;
+        while (i < max) {
+            b = block[blockPos + i];
+            if ((b == '\n') || (b == '\r')) {
+                break;
+            }
+            if (cbuf != null) {
+                cbuf[off + i] = (char) (b & 0xFF);
+            }
+            i++;
+        }
+        blockPos += i;
+        column += i;
+        if (column == RECORD_LENGTH) {
+            column = 0;
+            recordNo++;
+        }
+        return i;
+    }
+
+    private void startPadding(int eol) {
+        recordNo++;
+        LOG.info("Record {} has only {} characters and is filled with {} spaces.", recordNo, column,
+                RECORD_LENGTH - column);
+        padding = RECORD_LENGTH - column;
+        terminator = eol;
+    }
+
+    private boolean fillBlock() throws IOException {
+        int n;
+        if (channel == null) {
+            n = istream.read(block);
+        } else {
+            // als Buffer, damit auch unter Java 8 Buffer.clear() aufgerufen wird
+            ((Buffer) blockBuffer).clear();
+            n = channel.read(blockBuffer);
+        }
+        blockPos = 0;
+        blockLen = Math.max(n, 0);
+        return n > 0;
+    }
+
+    /**
+     * Ueberspringt bis zu n Zeichen. Gezaehlt wird dabei wie beim Lesen
+     * (d.h. inkl. der Leerzeichen, mit denen kurze Zeilen aufgefuellt
+     * werden), die Zeichen werden aber direkt im gelesenen Block
+     * uebersprungen, ohne sie in einen Puffer zu kopieren.
+     *
+     * @param n Anzahl der zu ueberspringenden Zeichen
+     * @return Anzahl der tatsaechlich uebersprungenen Zeichen
+     * @throws IOException bei Lesefehlern
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n < 0L) {
+            throw new IllegalArgumentException("skip value is negative: " + n);
+        }
+        long skipped = 0;
+        while (skipped < n) {
+            int k = transfer(null, 0, (int) Math.min(n - skipped, Integer.MAX_VALUE));
+            if (k == 0) {
+                break;
+            }
+            skipped += k;
+        }
+        return skipped;
+    }
+
+    /* (non-Javadoc)
+     * @see java.io.Reader#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            CACHED_SCANNERS.remove(istream);
+            istream.close();
+        } else {
+            channel.close();
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " (record " + recordNo + ")";
+    }
+
+}
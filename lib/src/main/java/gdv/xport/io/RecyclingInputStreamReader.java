@@ -21,9 +21,6 @@ package gdv.xport.io;
 import java.io.*;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.WeakHashMap;
 
 /**
  * Im Gegensatz zum normalen InputStreamReader verwendet diese Klasse immer den
@@ -38,7 +35,8 @@ import java.util.WeakHashMap;
  */
 public class RecyclingInputStreamReader extends Reader {
 
-    private static final Map<InputStream, Reader> cachedReaders = new WeakHashMap<InputStream, Reader>();
+    private static final StreamCache<Reader> cachedReaders = new StreamCache<>();
+    private final InputStream istream;
     private final Reader reader;
 
     /**
@@ -58,7 +56,7 @@ public class RecyclingInputStreamReader extends Reader {
      * @throws UnsupportedEncodingException the unsupported encoding exception
      */
     public RecyclingInputStreamReader(final InputStream in, final String charsetName) throws UnsupportedEncodingException {
-        this.reader = getReaderFor(in, Charset.forName(charsetName));
+        this(in, Charset.forName(charsetName));
     }
 
     /**
@@ -68,25 +66,8 @@ public class RecyclingInputStreamReader extends Reader {
      * @param cs Zeichensatz-Kodierung
      */
     public RecyclingInputStreamReader(final InputStream in, final Charset cs) {
-        this.reader = getReaderFor(in, cs);
-    }
-
-    private static Reader getReaderFor(final InputStream in, final Charset cs) {
-        Reader r = cachedReaders.get(in);
-        if (r == null) {
-            r = new InputStreamReader(in, cs);
-            cachedReaders.put(in, r);
-        }
-        return r;
-    }
-
-    private synchronized void removeReader(final Reader r) {
-        for (Entry<InputStream, Reader> entry : cachedReaders.entrySet()) {
-            if (r.equals(entry.getValue())) {
-                cachedReaders.remove(entry.getKey());
-                break;
-            }
-        }
+        this.istream = in;
+        this.reader = cachedReaders.computeIfAbsent(in, is -> new InputStreamReader(is, cs));
     }
 
     /**
@@ -98,7 +79,7 @@ public class RecyclingInputStreamReader extends Reader {
      */
     @Override
     public void close() throws IOException {
-        removeReader(reader);
+        cachedReaders.remove(istream);
         if (cachedReaders.isEmpty()) {
             reader.close();
         }
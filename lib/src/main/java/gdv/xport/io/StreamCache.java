@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.io;
+
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Der StreamCache ersetzt die bisher verwendete (nicht thread-sichere)
+ * {@link java.util.WeakHashMap}, um zu einem {@link InputStream} immer das
+ * gleiche Objekt (z.B. Reader oder Scanner) zu liefern. Wie bei der
+ * WeakHashMap wird der InputStream nur schwach referenziert, die Suche
+ * erfolgt aber ueber die Identitaet des Streams und ohne Sperre.
+ *
+ * @param <V> Typ der abgelegten Objekte
+ * @author oliver
+ * @since 6.2
+ */
+final class StreamCache<V> {
+
+    private final ConcurrentMap<Key, V> cache = new ConcurrentHashMap<>();
+    private final ReferenceQueue<InputStream> queue = new ReferenceQueue<>();
+
+    /**
+     * Liefert das Objekt zum angegebenen Stream. Gibt es noch keines, wird
+     * es ueber die factory (genau einmal) angelegt.
+     *
+     * @param istream der InputStream
+     * @param factory legt das Objekt zum Stream an
+     * @return das (evtl. neu angelegte) Objekt zum Stream
+     */
+    V computeIfAbsent(InputStream istream, Function<InputStream, V> factory) {
+        V value = cache.get(new Key(istream, null));
+        if (value != null) {
+            return value;
+        }
+        expungeStaleEntries();
+        return cache.computeIfAbsent(new Key(istream, queue), k -> factory.apply(istream));
+    }
+
+    /**
+     * Entfernt den Eintrag zum angegebenen Stream.
+     *
+     * @param istream der InputStream
+     */
+    void remove(InputStream istream) {
+        cache.remove(new Key(istream, null));
+        expungeStaleEntries();
+    }
+
+    /**
+     * Prueft, ob der Cache (noch) Eintraege enthaelt.
+     *
+     * @return true, wenn keine Eintraege mehr vorhanden sind
+     */
+    boolean isEmpty() {
+        expungeStaleEntries();
+        return cache.isEmpty();
+    }
+
+    private void expungeStaleEntries() {
+        for (Reference<? extends InputStream> ref = queue.poll(); ref != null; ref = queue.poll()) {
+            cache.remove(ref);
+        }
+    }
+
+    /**
+     * Schwache Referenz auf den Stream, die ueber die Identitaet des
+     * Streams verglichen wird.
+     */
+    private static final class Key extends WeakReference<InputStream> {
+
+        private final int hash;
+
+        private Key(InputStream istream, ReferenceQueue<InputStream> queue) {
+            super(istream, queue);
+            this.hash = System.identityHashCode(istream);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            InputStream istream = get();
+            return (istream != null) && (istream == ((Key) obj).get());
+        }
+
+    }
+
+}
@@ -21,6 +21,7 @@ package gdv.xport.satz;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import gdv.xport.config.Config;
 import gdv.xport.feld.*;
+import gdv.xport.io.ImportException;
 import gdv.xport.io.Importer;
 import gdv.xport.io.PushbackLineNumberReader;
 import gdv.xport.satz.feld.common.Kopffelder1bis7;
@@ -46,7 +47,7 @@ public class Datensatz extends Satz {
 
 	private static final Logger LOG = LogManager.getLogger(Datensatz.class);
 	/** 3 Zeichen, Byte 11 - 13. */
-  	private final NumFeld sparte = new NumFeld(Kopffelder1bis7.SPARTE);
+  	private NumFeld sparte = new NumFeld(Kopffelder1bis7.SPARTE);
 
 	/**
 	 * Default-Konstruktor (wird zur Registrierung bei der {@link gdv.xport.util.SatzFactory}
@@ -539,14 +540,13 @@ public class Datensatz extends Satz {
 				//return matchesFirstTeildatensatz(reader);
 				return true;
 			} else {
-				// TODO: ugly aber ich sehe bisher noch keinen eleganten Weg in der aktuellen Struktur ohne umfangreiche Refaktorings.
-				char[] newLine = new char[256];
-				int res = reader.read(newLine);
-                if (res < 256) {
-                    return false;// EOF
+				// Der Record wurde bereits beim Lesen der Satzart vorausgelesen
+				// und wird hier fuer alle weiteren Vergleiche verwendet.
+				if (reader.peekRecord() < 256) {
+					return false;// EOF
 				}
-				reader.unread(newLine);
-				
+				char[] newLine = reader.getPeekedRecord();
+
                 // wir vergleichen teilweise die ersten 7 Felder (42 Zeichen) auf
                 // Gleichheit....wenn ein Unterschied -> neuer Datensatz,
 				for (int i = 0; i < 4; i++) {
@@ -558,34 +558,32 @@ public class Datensatz extends Satz {
 				for (int i = 30; i < 42; i++) {
 					if (lastFeld1To7[i] != newLine[i]) return false;
 				}
-				if (!matchesLastFeld(satznummer, reader)) return false;
+				if (!matchesLastFeld(satznummer, newLine, getSatzart())) return false;
 
-				return matchesNextSatztyp(reader);
+				return matchesNextSatztyp(newLine);
 			}
 		}
 		return false;
 	}
 
-	private static boolean matchesLastFeld(Character satznummer, PushbackLineNumberReader reader) throws IOException {
+	private static boolean matchesLastFeld(Character satznummer, char[] newLine, int satzart) {
 		// Das letzte Feld wird darauf verglichen, dass es groesser als das
 		// vorherige ist, falls Teildatensaetze uebersprungen werden
-		char newSatznummer = Satznummer.readSatznummer(reader).toChar();
+		char newSatznummer = newLine[Satznummer.adresseOf(satzart, newLine) - 1];
 		return !(Character.isDigit(newSatznummer) && Character.isDigit(satznummer) && newSatznummer <= satznummer);
 	}
 
 	/**
 	 * Prueft, ob die kommende Zeile noch den gleichen Satztyp hat wie der aktuelle Datensatz
 	 *
-	 * @param reader       den Reader
+	 * @param newLine die kommende Zeile
 	 * @return true, wenn der Satztyp uebereinstimmt
 	 */
-	private boolean matchesNextSatztyp(PushbackLineNumberReader reader) {
-
+	private boolean matchesNextSatztyp(char[] newLine) {
 		try {
-			int satzart = Importer.of(reader).readSatzart();
-			SatzTyp satztyp = Importer.of(reader).readSatzTyp(satzart);
-			return satztyp != null && satztyp.equals(getSatzTyp());
-		} catch (IOException ex) {
+			SatzTyp satztyp = Importer.toSatzTyp(getSatzart(), newLine);
+			return satztyp.equals(getSatzTyp());
+		} catch (ImportException ex) {
 			LOG.info("No next satztyp found ({}).", ex.getLocalizedMessage());
 			LOG.debug("Details:", ex);
 			return false;
@@ -609,4 +607,20 @@ public class Datensatz extends Satz {
 		return TeildatensatzNummer.of(satznr.toInt());
     }
 
+	/**
+	 * Beim Clonen bekommt der Datensatz auch eine eigene Sparte, damit
+	 * ein {@link #setSparte(int)} auf dem Clone nicht das Original
+	 * veraendert.
+	 *
+	 * @return Clone mit eigener Sparte
+	 * @throws CloneNotSupportedException sollte nicht auftreten
+	 * @since 6.2
+	 */
+	@Override
+	public Object clone() throws CloneNotSupportedException {
+		Datensatz cloned = (Datensatz) super.clone();
+		cloned.sparte = new NumFeld(this.sparte);
+		return cloned;
+	}
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.satz;
+
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.feld.Feld;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Der FeldIndex ist eine unveraenderliche Nachschlage-Struktur fuer die
+ * Felder eines {@link Teildatensatz}es. Er enthaelt nicht die Felder selbst,
+ * sondern nur deren Position innerhalb des Teildatensatzes. Damit kann der
+ * gleiche Index von allen Kopien eines Teildatensatzes (also allen Saetzen
+ * des gleichen SatzTyps) gemeinsam genutzt werden, solange die Kopie nicht
+ * strukturell (durch Hinzufuegen oder Entfernen von Feldern) veraendert wird.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+final class FeldIndex {
+
+    private static final int NOT_FOUND = -1;
+
+    private final Map<Bezeichner, Integer> byBezeichner = new HashMap<>();
+    private final Map<Bezeichner, Integer> byBezeichnerSorted = new HashMap<>();
+    private final Map<String, Integer> byName = new HashMap<>();
+    private final int[] byAdresse = new int[257];
+    private final int[] sorted;
+    private final int laenge;
+
+    /**
+     * Baut den Index fuer die uebergebenen Felder auf. Die Reihenfolge der
+     * Felder muss der Reihenfolge im Teildatensatz entsprechen.
+     *
+     * @param felder Felder des Teildatensatzes
+     */
+    FeldIndex(Collection<Feld> felder) {
+        Arrays.fill(byAdresse, NOT_FOUND);
+        Map<Feld, Integer> positions = new IdentityHashMap<>();
+        int pos = 0;
+        int maxEnde = 0;
+        for (Feld feld : felder) {
+            maxEnde = Math.max(maxEnde, (feld.getByteAdresse() - 1) % 256 + feld.getAnzahlBytes());
+            byBezeichner.putIfAbsent(feld.getBezeichner(), pos);
+            byName.putIfAbsent(feld.getBezeichner().getName(), pos);
+            int adresse = feld.getByteAdresse();
+            if ((adresse > 0) && (adresse < byAdresse.length) && (byAdresse[adresse] == NOT_FOUND)) {
+                byAdresse[adresse] = pos;
+            }
+            positions.put(feld, pos);
+            pos++;
+        }
+        this.laenge = maxEnde;
+        // gleiche Reihenfolge (und gleiche Duplikat-Behandlung) wie bei Teildatensatz.getFelder()
+        TreeSet<Feld> sortedFelder = new TreeSet<>(felder);
+        this.sorted = new int[sortedFelder.size()];
+        int i = 0;
+        for (Feld feld : sortedFelder) {
+            sorted[i] = positions.get(feld);
+            byBezeichnerSorted.putIfAbsent(feld.getBezeichner(), sorted[i]);
+            i++;
+        }
+    }
+
+    /**
+     * Liefert die Position des ersten Feldes mit dem angegebenen Bezeichner
+     * (bzw. technischen Namen).
+     *
+     * @param bezeichner gesuchter Bezeichner
+     * @return Position oder -1
+     */
+    int indexOf(Bezeichner bezeichner) {
+        return byBezeichner.getOrDefault(bezeichner, NOT_FOUND);
+    }
+
+    /**
+     * Wie {@link #indexOf(Bezeichner)}, nur dass hier die Felder in der
+     * Reihenfolge ihrer Byte-Adresse durchsucht werden.
+     *
+     * @param bezeichner gesuchter Bezeichner
+     * @return Position oder -1
+     */
+    int indexOfSorted(Bezeichner bezeichner) {
+        return byBezeichnerSorted.getOrDefault(bezeichner, NOT_FOUND);
+    }
+
+    /**
+     * Liefert die Position des ersten Feldes mit dem angegebenen Namen.
+     *
+     * @param name Name des Bezeichners
+     * @return Position oder -1
+     */
+    int indexOfName(String name) {
+        return byName.getOrDefault(name, NOT_FOUND);
+    }
+
+    /**
+     * Liefert die Position des Feldes mit der angegebenen Byte-Adresse.
+     *
+     * @param adresse Byte-Adresse (1 - 256)
+     * @return Position oder -1
+     */
+    int indexOfAdresse(int adresse) {
+        if ((adresse < 1) || (adresse >= byAdresse.length)) {
+            return NOT_FOUND;
+        }
+        return byAdresse[adresse];
+    }
+
+    /**
+     * Liefert die Position des Feldes mit der angegebenen Feld-Nummer (in
+     * der Reihenfolge der Byte-Adressen).
+     *
+     * @param nr Feld-Nummer (beginnend bei 1)
+     * @return Position
+     * @throws ArrayIndexOutOfBoundsException bei ungueltiger Nummer
+     */
+    int indexOfNr(int nr) {
+        return sorted[nr - 1];
+    }
+
+    /**
+     * Liefert die Anzahl der Zeichen, die ein Record mindestens haben muss,
+     * damit alle Felder darin Platz finden.
+     *
+     * @return Ende des hintersten Feldes
+     */
+    int getLaenge() {
+        return laenge;
+    }
+
+}
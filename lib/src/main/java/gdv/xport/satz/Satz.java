@@ -50,6 +50,8 @@ import static patterntesting.runtime.NullConstants.NULL_STRING;
 public abstract class Satz implements Cloneable {
 
 	private static final Logger LOG = LogManager.getLogger(Satz.class);
+	/** Der (thread-sichere) OVal-Validator wird fuer alle Saetze verwendet. */
+	private static final Validator OVAL_VALIDATOR = new Validator();
 
 	private Teildatensatz[] teildatensatz = new Teildatensatz[0];
 	private final Config config;
@@ -644,10 +646,9 @@ public abstract class Satz implements Cloneable {
      */
 	public Feld getFeld(final Bezeichner bezeichner) throws IllegalArgumentException {
 		for (Teildatensatz tds : teildatensatz) {
-			for (Feld f : tds.getFelder()) {
-				if (bezeichner.equals(f.getBezeichner())) {
-					return f;
-				}
+			Feld f = tds.findExactFeld(bezeichner);
+			if (f != null) {
+				return f;
 			}
 		}
 		return findFeld(bezeichner);
@@ -1097,6 +1098,43 @@ public abstract class Satz implements Cloneable {
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
     public final Satz importFrom(final PushbackLineNumberReader reader) throws IOException {
+        SortedSet<Integer> used = importTeildatensaetze(reader, (i, cbuf) -> teildatensatz[i].importFrom(cbuf));
+		removeUnusedTeildatensaetze(used);
+        return this;
+    }
+
+    /**
+     * Importiert den Satz fuer den Bulk-Import. Dabei werden die gleichen
+     * Zeilen wie bei {@link #importFrom(PushbackLineNumberReader)} gelesen,
+     * die Felder aber erst beim ersten Zugriff gesetzt (siehe
+     * {@link Teildatensatz#importRohdaten(char[])}).
+     *
+     * @param reader the reader
+     * @return Satz zur Weiterverabeitung
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @since 6.2
+     */
+    public final Satz importRohdaten(final PushbackLineNumberReader reader) throws IOException {
+        SortedSet<Integer> used = importTeildatensaetze(reader, (i, cbuf) -> teildatensatz[i].importRohdaten(cbuf));
+        removeUnusedTeildatensaetze(used);
+        return this;
+    }
+
+    /**
+     * Liest die Teildatensaetze des naechsten Satzes und reicht jeden
+     * gelesenen Record zusammen mit dem Index des passenden Teildatensatzes
+     * an den uebergebenen Handler weiter. Der Satz selbst wird dabei nicht
+     * veraendert, sodass diese Methode auch fuer eine (gemeinsam genutzte)
+     * Vorlage aufgerufen werden kann.
+     *
+     * @param reader  der Reader
+     * @param handler bekommt Index und Inhalt jedes gelesenen Teildatensatzes
+     * @return Indizes der gelesenen Teildatensaetze
+     * @throws IOException bei Lesefehlern
+     * @since 6.2
+     */
+    final SortedSet<Integer> importTeildatensaetze(final PushbackLineNumberReader reader,
+                                                   final TeildatensatzHandler handler) throws IOException {
     	SortedSet<Integer> used = new TreeSet<>();
         char[] feld1to7 = null;
         char satznummer = '0';
@@ -1130,11 +1168,18 @@ public abstract class Satz implements Cloneable {
 			used.add(i);
 			char[] cbuf = new char[257];
 			importFrom(reader, cbuf);
-			teildatensatz[i].importFrom(new String(cbuf));
+			handler.handle(i, cbuf);
 			feld1to7 = Arrays.copyOfRange(cbuf, 0, 42);
         }
-		removeUnusedTeildatensaetze(used);
-        return this;
+        return used;
+    }
+
+    /**
+     * Callback fuer {@link #importTeildatensaetze(PushbackLineNumberReader, TeildatensatzHandler)}.
+     */
+    @FunctionalInterface
+    interface TeildatensatzHandler {
+        void handle(int index, char[] record) throws IOException;
     }
 
 	/**
@@ -1279,8 +1324,7 @@ public abstract class Satz implements Cloneable {
 	public List<ConstraintViolation> validate(Config validationConfig) {
 		List<ConstraintViolation> violations = new ArrayList<>();
 		if (validationConfig.getValidateMode() == Config.ValidateMode.STRICT) {
-			Validator validator = new Validator();
-			violations.addAll(validator.validate(this));
+			violations.addAll(OVAL_VALIDATOR.validate(this));
 		}
 		if (!this.getSatzartFeld().isValid() || (this.getSatzart() < 1)) {
 			ConstraintViolation cv =
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.satz;
+
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.feld.Feld;
+import gdv.xport.feld.NumFeld;
+import gdv.xport.util.SatzTyp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ein SatzLayout ist die unveraenderliche, vorkompilierte Beschreibung
+ * eines Satzes: welche Felder es in welchem Teildatensatz an welcher
+ * Position gibt. Die Positionen, Laengen und Nachkommastellen liegen
+ * dabei als primitive Arrays vor.
+ * <p>
+ * Ein Layout wird nur einmal pro SatzTyp und Version angelegt (s.
+ * {@link gdv.xport.util.SatzRegistry#getLayout(SatzTyp)}) und kann von
+ * beliebig vielen {@link SatzRecord}s (auch parallel) gemeinsam genutzt
+ * werden. Feld-Objekte werden erst bei Bedarf ueber {@link #newFeld(int)}
+ * erzeugt.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class SatzLayout {
+
+    private final Satz prototype;
+    private final SatzTyp satzTyp;
+    private final char[] satznummern;
+    private final byte[] teildatensatzIndex;
+    private final short[] offsets;
+    private final short[] lengths;
+    private final byte[] nachkommastellen;
+    private final Bezeichner[] bezeichner;
+    private final Feld[] felder;
+    private final Map<Bezeichner, Integer> index = new HashMap<>();
+    private final Map<Feld, Integer> feldIndex = new IdentityHashMap<>();
+
+    private SatzLayout(Satz prototype) {
+        this.prototype = prototype;
+        this.satzTyp = prototype.getSatzTyp();
+        List<Teildatensatz> tdsList = prototype.getTeildatensaetze();
+        this.satznummern = new char[tdsList.size()];
+        List<Feld> list = new ArrayList<>();
+        List<Integer> tdsIndexes = new ArrayList<>();
+        for (int i = 0; i < tdsList.size(); i++) {
+            Teildatensatz tds = tdsList.get(i);
+            satznummern[i] = tds.getSatznummer().toChar();
+            for (Feld feld : tds.getFelder()) {
+                list.add(feld);
+                tdsIndexes.add(i);
+            }
+        }
+        int n = list.size();
+        this.teildatensatzIndex = new byte[n];
+        this.offsets = new short[n];
+        this.lengths = new short[n];
+        this.nachkommastellen = new byte[n];
+        this.bezeichner = new Bezeichner[n];
+        this.felder = list.toArray(new Feld[n]);
+        for (int i = 0; i < n; i++) {
+            Feld feld = felder[i];
+            teildatensatzIndex[i] = tdsIndexes.get(i).byteValue();
+            offsets[i] = (short) ((feld.getByteAdresse() - 1) % 256);
+            lengths[i] = (short) feld.getAnzahlBytes();
+            if (feld instanceof NumFeld) {
+                nachkommastellen[i] = (byte) ((NumFeld) feld).getNachkommastellen();
+            }
+            bezeichner[i] = feld.getBezeichner();
+            index.putIfAbsent(bezeichner[i], i);
+            feldIndex.put(feld, i);
+        }
+    }
+
+    /**
+     * Legt ein neues Layout anhand des uebergebenen Satzes an. Der Satz
+     * wird dabei kopiert, sodass spaetere Aenderungen am uebergebenen Satz
+     * keinen Einfluss auf das Layout haben.
+     *
+     * @param satz Vorlage, z.B. aus der {@link gdv.xport.util.SatzRegistry}
+     * @return Layout des Satzes
+     */
+    public static SatzLayout of(Satz satz) {
+        try {
+            return new SatzLayout((Satz) satz.clone());
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalArgumentException(satz + " laesst sich nicht clonen", ex);
+        }
+    }
+
+    /**
+     * Liefert den SatzTyp des Layouts.
+     *
+     * @return z.B. SatzTyp.of("0100")
+     */
+    public SatzTyp getSatzTyp() {
+        return satzTyp;
+    }
+
+    /**
+     * Liefert die Version des Layouts.
+     *
+     * @return z.B. "2.4"
+     */
+    public String getVersion() {
+        return prototype.getVersion();
+    }
+
+    /**
+     * Liefert die Anzahl der Teildatensaetze.
+     *
+     * @return Anzahl der Teildatensaetze
+     */
+    public int getNumberOfTeildatensaetze() {
+        return satznummern.length;
+    }
+
+    /**
+     * Liefert die Satznummer des n-ten Teildatensatzes.
+     *
+     * @param n Index (beginnend bei 0)
+     * @return Satznummer, z.B. '1'
+     */
+    public char getSatznummer(int n) {
+        return satznummern[n];
+    }
+
+    /**
+     * Liefert die Anzahl aller Felder ueber alle Teildatensaetze.
+     *
+     * @return Anzahl der Felder
+     */
+    public int size() {
+        return felder.length;
+    }
+
+    /**
+     * Liefert den Index des Feldes mit dem angegebenen Bezeichner. Die
+     * Suche entspricht der von {@link Satz#getFeld(Bezeichner)}.
+     *
+     * @param name Bezeichner des gesuchten Feldes
+     * @return Index oder -1, falls es das Feld nicht gibt
+     */
+    public int indexOf(Bezeichner name) {
+        Integer i = index.get(name);
+        if (i != null) {
+            return i;
+        }
+        if (prototype.hasFeld(name)) {
+            i = feldIndex.get(prototype.getFeld(name));
+            if (i != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Liefert den Index des Teildatensatzes, in dem das i-te Feld liegt.
+     *
+     * @param i Index des Feldes
+     * @return Index des Teildatensatzes (beginnend bei 0)
+     */
+    public int getTeildatensatzIndex(int i) {
+        return teildatensatzIndex[i];
+    }
+
+    /**
+     * Liefert die Position des i-ten Feldes innerhalb seines Teildatensatzes.
+     *
+     * @param i Index des Feldes
+     * @return Offset (beginnend bei 0)
+     */
+    public int getOffset(int i) {
+        return offsets[i];
+    }
+
+    /**
+     * Liefert die Laenge des i-ten Feldes.
+     *
+     * @param i Index des Feldes
+     * @return Anzahl Bytes
+     */
+    public int getAnzahlBytes(int i) {
+        return lengths[i];
+    }
+
+    /**
+     * Liefert die Nachkommastellen des i-ten Feldes.
+     *
+     * @param i Index des Feldes
+     * @return Nachkommastellen (0 bei nicht-numerischen Feldern)
+     */
+    public int getNachkommastellen(int i) {
+        return nachkommastellen[i];
+    }
+
+    /**
+     * Liefert den Bezeichner des i-ten Feldes.
+     *
+     * @param i Index des Feldes
+     * @return Bezeichner
+     */
+    public Bezeichner getBezeichner(int i) {
+        return bezeichner[i];
+    }
+
+    /**
+     * Erzeugt ein neues Feld (mit dem richtigen Typ) fuer das i-te Feld.
+     *
+     * @param i Index des Feldes
+     * @return neues Feld, das unabhaengig vom Layout veraendert werden darf
+     */
+    public Feld newFeld(int i) {
+        return (Feld) felder[i].clone();
+    }
+
+    /**
+     * Erzeugt einen neuen (leeren) Satz mit diesem Layout.
+     *
+     * @return neuer Satz
+     */
+    public Satz newSatz() {
+        try {
+            return (Satz) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException(prototype + " laesst sich nicht clonen", ex);
+        }
+    }
+
+    /**
+     * Dient als Vorlage fuer den Import in {@link SatzRecord}. Die Vorlage
+     * selbst wird dabei nicht veraendert.
+     *
+     * @return die (unveraenderte) Vorlage
+     */
+    Satz getPrototype() {
+        return prototype;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " " + satzTyp + " (" + felder.length + " Felder in "
+                + satznummern.length + " Teildatensaetzen)";
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.satz;
+
+import gdv.xport.config.Config;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.feld.Feld;
+import gdv.xport.io.PushbackLineNumberReader;
+import gdv.xport.util.SatzTyp;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Ein SatzRecord ist die leichtgewichtige Alternative zu einem
+ * {@link Satz}: er enthaelt nur die eingelesenen Zeilen (je 256 Zeichen)
+ * und einen Verweis auf das gemeinsam genutzte {@link SatzLayout}.
+ * Feld-Objekte werden erst erzeugt, wenn sie ueber {@link #getFeld(Bezeichner)}
+ * angefordert werden. Werden nur einzelne Inhalte benoetigt, kann man mit
+ * {@link #getFeldInhalt(Bezeichner)} auch ganz auf Feld-Objekte verzichten.
+ * <p>
+ * Wird doch der komplette Satz benoetigt, kann er ueber {@link #toSatz()}
+ * erzeugt werden.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class SatzRecord {
+
+    private final SatzLayout layout;
+    private final char[][] lines;
+
+    private SatzRecord(SatzLayout layout) {
+        this.layout = layout;
+        this.lines = new char[layout.getNumberOfTeildatensaetze()][];
+    }
+
+    /**
+     * Liest den naechsten Satz mit dem angegebenen Layout ein. Welche Zeilen
+     * zum Satz gehoeren, wird dabei genauso ermittelt wie beim Import ueber
+     * {@link Satz#importFrom(PushbackLineNumberReader)}.
+     *
+     * @param layout Layout des erwarteten Satzes
+     * @param reader Reader, der auf dem Anfang des Satzes steht
+     * @return der eingelesene Record
+     * @throws IOException bei Lesefehlern
+     */
+    public static SatzRecord importFrom(SatzLayout layout, PushbackLineNumberReader reader) throws IOException {
+        SatzRecord record = new SatzRecord(layout);
+        SortedSet<Integer> used = layout.getPrototype().importTeildatensaetze(reader,
+                (i, cbuf) -> record.lines[i] = cbuf);
+        if (used.isEmpty()) {
+            throw new IOException("no Teildatensatz for " + layout.getSatzTyp() + " found in " + reader);
+        }
+        return record;
+    }
+
+    /**
+     * Liefert das zugrundeliegende Layout.
+     *
+     * @return Layout
+     */
+    public SatzLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Liefert den SatzTyp.
+     *
+     * @return z.B. SatzTyp.of("0100")
+     */
+    public SatzTyp getSatzTyp() {
+        return layout.getSatzTyp();
+    }
+
+    /**
+     * Liefert die Anzahl der tatsaechlich eingelesenen Teildatensaetze.
+     *
+     * @return Anzahl der Teildatensaetze
+     */
+    public int getNumberOfTeildatensaetze() {
+        int n = 0;
+        for (char[] line : lines) {
+            if (line != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Liefert den Inhalt des gewuenschten Feldes, ohne dafuer ein Feld-Objekt
+     * anzulegen. Der Inhalt wird dabei so zurueckgegeben, wie er im Record
+     * steht. Wurde der Teildatensatz mit diesem Feld nicht eingelesen, wird
+     * der Inhalt des (leeren) Feldes aus dem Layout geliefert.
+     *
+     * @param bezeichner Bezeichner des Feldes
+     * @return Inhalt des Feldes
+     * @throws IllegalArgumentException falls es das Feld nicht gibt
+     */
+    public String getFeldInhalt(Bezeichner bezeichner) {
+        int i = indexOf(bezeichner);
+        char[] line = lines[layout.getTeildatensatzIndex(i)];
+        if (line == null) {
+            return layout.newFeld(i).getInhalt();
+        }
+        return new String(line, layout.getOffset(i), layout.getAnzahlBytes(i));
+    }
+
+    /**
+     * Liefert das gewuenschte Feld. Es wird dabei jedesmal ein neues
+     * Feld angelegt, sodass Aenderungen am Feld keine Auswirkung auf den
+     * Record haben.
+     *
+     * @param bezeichner Bezeichner des Feldes
+     * @return neu angelegtes Feld mit dem Inhalt aus dem Record
+     * @throws IllegalArgumentException falls es das Feld nicht gibt
+     */
+    public Feld getFeld(Bezeichner bezeichner) {
+        int i = indexOf(bezeichner);
+        Feld feld = layout.newFeld(i);
+        char[] line = lines[layout.getTeildatensatzIndex(i)];
+        if (line != null) {
+            feld.setInhalt(new String(line, layout.getOffset(i), layout.getAnzahlBytes(i)));
+        }
+        return feld;
+    }
+
+    private int indexOf(Bezeichner bezeichner) {
+        int i = layout.indexOf(bezeichner);
+        if (i < 0) {
+            throw new IllegalArgumentException("Feld \"" + bezeichner + "\" nicht in " + layout + " vorhanden!");
+        }
+        return i;
+    }
+
+    /**
+     * Erzeugt aus dem Record einen vollstaendigen Satz.
+     *
+     * @return neuer Satz
+     * @throws IOException falls eine Zeile nicht importiert werden kann
+     */
+    public Satz toSatz() throws IOException {
+        Satz satz = layout.newSatz();
+        SortedSet<Integer> used = new TreeSet<>();
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] != null) {
+                satz.getTeildatensaetze().get(i).importFrom(lines[i]);
+                used.add(i);
+            }
+        }
+        satz.removeUnusedTeildatensaetze(used);
+        return satz;
+    }
+
+    /**
+     * Exportiert die eingelesenen Zeilen unveraendert.
+     *
+     * @param writer Ziel des Exports
+     * @throws IOException bei Schreibfehlern
+     */
+    public void export(Writer writer) throws IOException {
+        for (char[] line : lines) {
+            if (line != null) {
+                writer.write(line, 0, 256);
+                writer.write(Config.getEOD());
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + " " + layout.getSatzTyp() + " ("
+                + getNumberOfTeildatensaetze() + " Teildatensaetze)";
+    }
+
+}
@@ -18,6 +18,7 @@
 
 package gdv.xport.satz;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import gdv.xport.config.Config;
 import gdv.xport.feld.*;
 import gdv.xport.io.ImportException;
@@ -45,6 +46,13 @@ public class Teildatensatz extends Satz {
     private final Collection<Feld> datenfelder = Config.getInstance().isDebug() ? new TreeSet<>() : new ArrayList<>();
     /** Dieses Feld brauchen wir, um die Satznummer abzuspeichern. */
     protected Satznummer satznummer = new Satznummer();
+    /** Wird von allen unveraenderten Kopien gemeinsam genutzt. */
+    private FeldIndex feldIndex;
+    /** Beim Bulk-Import der Record, aus dem noch nicht alle Felder gesetzt wurden. */
+    private char[] rohdaten;
+    /** Die Felder (Position in datenfelder), die noch aus den Rohdaten zu setzen sind. */
+    private boolean[] offen;
+    private int anzahlOffen;
 
     /**
      * Instantiiert einen neuen Teildatensatz mit der angegebenen Satzart.
@@ -91,11 +99,90 @@ public class Teildatensatz extends Satz {
      */
     public Teildatensatz(final Teildatensatz other) {
         super(other, 0);
+        other.uebernehmeRohdaten();
         this.satznummer = other.satznummer;
         for (Feld f : other.datenfelder) {
             Feld copy = (Feld) f.clone();
             this.datenfelder.add(copy);
         }
+        if (this.datenfelder.getClass() == other.datenfelder.getClass()) {
+            this.feldIndex = other.getFeldIndex();
+        }
+    }
+
+    /**
+     * Liefert einen Schluessel fuer das Layout (die Felder mit ihren
+     * Adressen) dieses Teildatensatzes. Kopien eines Teildatensatzes
+     * liefern dasselbe Objekt, solange bei ihnen keine Felder hinzugefuegt
+     * oder entfernt werden. Damit laesst sich ueber einen einfachen
+     * Identitaetsvergleich pruefen, ob zwei Teildatensaetze das gleiche
+     * Layout haben.
+     *
+     * @return Schluessel, der nur fuer den Identitaetsvergleich gedacht ist
+     * @since 6.2
+     */
+    @JsonIgnore
+    public Object getLayoutKey() {
+        return getFeldIndex();
+    }
+
+    private FeldIndex getFeldIndex() {
+        FeldIndex index = this.feldIndex;
+        if (index == null) {
+            index = new FeldIndex(datenfelder);
+            this.feldIndex = index;
+        }
+        return index;
+    }
+
+    private Feld feldAt(int pos) {
+        Feld feld;
+        if (datenfelder instanceof List) {
+            feld = ((List<Feld>) datenfelder).get(pos);
+        } else {
+            Iterator<Feld> it = datenfelder.iterator();
+            for (int i = 0; i < pos; i++) {
+                it.next();
+            }
+            feld = it.next();
+        }
+        if ((rohdaten != null) && offen[pos]) {
+            uebernehmeRohdaten(feld, pos);
+        }
+        return feld;
+    }
+
+    /**
+     * Setzt (beim Bulk-Import) alle Felder, die noch nicht aus den Rohdaten
+     * uebernommen wurden.
+     */
+    private void uebernehmeRohdaten() {
+        Iterator<Feld> it = datenfelder.iterator();
+        for (int pos = 0; (rohdaten != null) && it.hasNext(); pos++) {
+            Feld feld = it.next();
+            if (offen[pos]) {
+                uebernehmeRohdaten(feld, pos);
+            }
+        }
+    }
+
+    private void uebernehmeRohdaten(Feld feld, int pos) {
+        importFeld(feld, rohdaten);
+        offen[pos] = false;
+        anzahlOffen--;
+        if (anzahlOffen == 0) {
+            rohdaten = null;
+            offen = null;
+        }
+    }
+
+    private static void importFeld(Feld feld, char[] record) {
+        int begin = (feld.getByteAdresse() - 1) % 256;
+        feld.setInhalt(new String(record, begin, feld.getAnzahlBytes()));
+    }
+
+    private Optional<Feld> findFeld(final int pos) {
+        return (pos < 0) ? Optional.empty() : Optional.of(feldAt(pos));
     }
 
     /**
@@ -191,6 +278,7 @@ public class Teildatensatz extends Satz {
         }
         setUpFeld(feld);
         this.datenfelder.add(feld);
+        this.feldIndex = null;
     }
 
     private void setUpFeld(Feld feld) {
@@ -253,7 +341,9 @@ public class Teildatensatz extends Satz {
     @Override
     public void remove(final Bezeichner bezeichner) {
         if (hasFeld(bezeichner)) {
+            uebernehmeRohdaten();
             datenfelder.remove(getFeld(bezeichner));
+            this.feldIndex = null;
             LOG.debug("{} was removed from {}.", bezeichner, this);
         }
     }
@@ -319,11 +409,11 @@ public class Teildatensatz extends Satz {
      */
     @Override
     public Feld getFeld(final Bezeichner bezeichner) {
+        FeldIndex index = getFeldIndex();
         for (Bezeichner b : bezeichner.getVariants()) {
-            for (Feld feld : datenfelder) {
-                if (b.equals(feld.getBezeichner())) {
-                    return feld;
-                }
+            int pos = index.indexOf(b);
+            if (pos >= 0) {
+                return feldAt(pos);
             }
         }
         Optional<Feld> feld = findFeld(bezeichner);
@@ -338,12 +428,19 @@ public class Teildatensatz extends Satz {
         if (datenfelder == null) {
             return Optional.empty();
         }
-        for (Feld f : datenfelder) {
-            if (f.getBezeichner().getName().equals(bezeichner.getName())) {
-                return Optional.of(f);
-            }
-        }
-        return Optional.empty();
+        return findFeld(getFeldIndex().indexOfName(bezeichner.getName()));
+    }
+
+    /**
+     * Sucht das erste Feld (in der Reihenfolge der Byte-Adressen) mit genau
+     * dem angegebenen Bezeichner, ohne dabei Varianten zu beruecksichtigen.
+     *
+     * @param bezeichner gesuchter Bezeichner
+     * @return das Feld oder {@code null}
+     */
+    Feld findExactFeld(final Bezeichner bezeichner) {
+        int pos = getFeldIndex().indexOfSorted(bezeichner);
+        return (pos < 0) ? null : feldAt(pos);
     }
 
     /**
@@ -406,7 +503,7 @@ public class Teildatensatz extends Satz {
       default:
         break;
     }
-        return (Feld) getFelder().toArray()[myNr - 1];
+        return feldAt(getFeldIndex().indexOfNr(myNr));
     }
 
     /**
@@ -419,10 +516,9 @@ public class Teildatensatz extends Satz {
      * @since 5.0
      */
     public Feld getFeld(final ByteAdresse adresse) {
-        for (Feld f : datenfelder) {
-            if (adresse.intValue() == f.getByteAdresse()) {
-                return f;
-            }
+        int pos = getFeldIndex().indexOfAdresse(adresse.intValue());
+        if (pos >= 0) {
+            return feldAt(pos);
         }
         throw new IllegalArgumentException("invalid address " + adresse);
     }
@@ -437,13 +533,9 @@ public class Teildatensatz extends Satz {
      */
     @Override
     public boolean hasFeld(final Bezeichner bezeichner) {
+        FeldIndex index = getFeldIndex();
         for (Bezeichner b : bezeichner.getVariants()) {
-            for (Feld f : datenfelder) {
-                if (b.equals(f.getBezeichner())) {
-                    return true;
-                }
-            }
-            if (findFeld(b).isPresent()) {
+            if ((index.indexOf(b) >= 0) || (index.indexOfName(b.getName()) >= 0)) {
                 return true;
             }
         }
@@ -463,12 +555,7 @@ public class Teildatensatz extends Satz {
      * @since 1.0
      */
     public boolean hasFeld(final Feld feld) {
-        for (Feld f : datenfelder) {
-            if (feld.getBezeichner().equals(f.getBezeichner())) {
-                return true;
-            }
-        }
-        return false;
+        return getFeldIndex().indexOf(feld.getBezeichner()) >= 0;
     }
 
     /**
@@ -480,6 +567,7 @@ public class Teildatensatz extends Satz {
      */
     @Override
     public final Collection<Feld> getFelder() {
+        uebernehmeRohdaten();
         return new TreeSet<>(datenfelder);
     }
 
@@ -519,6 +607,7 @@ public class Teildatensatz extends Satz {
      */
     @Override
     public void export(final Writer writer, final String eod) throws IOException {
+        uebernehmeRohdaten();
         StringBuilder data = new StringBuilder(256);
         for (int i = 0; i < 256; i++) {
             data.append(' ');
@@ -533,11 +622,33 @@ public class Teildatensatz extends Satz {
         writer.write(eod);
     }
 
+    /**
+     * Exportiert den Teildatensatz direkt als ISO-8859-1-Bytes in den
+     * uebergebenen Puffer. Im Gegensatz zu {@link #export(Writer, String)}
+     * werden dabei weder Strings noch ein Charset-Encoder benoetigt.
+     *
+     * @param buffer Puffer mit Platz fuer (mind.) 256 + eod.length Bytes
+     * @param offset Position im Puffer, ab der geschrieben wird
+     * @param eod    das End-of-Datensatz-Zeichen (z.B. linefeed) als Bytes
+     * @return Anzahl der geschriebenen Bytes
+     * @since 6.2
+     */
+    public int export(final byte[] buffer, final int offset, final byte[] eod) {
+        uebernehmeRohdaten();
+        Arrays.fill(buffer, offset, offset + 256, (byte) ' ');
+        for (Feld feld : datenfelder) {
+            feld.export(buffer, offset + feld.getByteAdresse() - 1);
+        }
+        System.arraycopy(eod, 0, buffer, offset + 256, eod.length);
+        return 256 + eod.length;
+    }
+
     /* (non-Javadoc)
      * @see gdv.xport.satz.Satz#importFrom(java.lang.String)
      */
     @Override
     public Teildatensatz importFrom(final String content) throws IOException {
+        verwerfeRohdaten();
         for (Feld feld : datenfelder) {
             int begin = (feld.getByteAdresse() - 1) % 256;
             int end = begin + feld.getAnzahlBytes();
@@ -551,11 +662,70 @@ public class Teildatensatz extends Satz {
         return this;
     }
 
+    /**
+     * Importiert den Teildatensatz direkt aus dem uebergebenen Zeichen-Puffer.
+     * Im Gegensatz zu {@link #importFrom(String)} wird dabei kein String
+     * fuer die komplette Zeile angelegt, sondern nur die einzelnen Felder
+     * aus dem Puffer herausgeschnitten.
+     *
+     * @param record Puffer mit (mind.) 256 Zeichen
+     * @return der Teildatensatz selbst
+     * @throws IOException falls der Puffer zu kurz ist
+     * @since 6.2
+     */
+    public Teildatensatz importFrom(final char[] record) throws IOException {
+        verwerfeRohdaten();
+        for (Feld feld : datenfelder) {
+            int end = (feld.getByteAdresse() - 1) % 256 + feld.getAnzahlBytes();
+            if (end > record.length) {
+                throw new ImportException("input string is too short (" + (end - record.length)
+                        + " bytes missing): " + new String(record));
+            }
+            importFeld(feld, record);
+        }
+        return this;
+    }
+
+    /**
+     * Importiert den Teildatensatz fuer den Bulk-Import. Im Gegensatz zu
+     * {@link #importFrom(char[])} wird der Record hier nur vermerkt und
+     * noch nicht auf die einzelnen Felder verteilt. Erst beim ersten Zugriff
+     * auf ein Feld (bzw. beim Export oder der Validierung) wird der Inhalt
+     * genauso gesetzt (und ggf. validiert), wie es beim direkten Import der
+     * Fall gewesen waere. Felder, die nie angefasst werden, kosten damit
+     * nichts.
+     * <p>
+     * Der Puffer wird dabei nicht kopiert und darf deshalb anschliessend
+     * nicht mehr veraendert werden.
+     * </p>
+     *
+     * @param record Puffer mit (mind.) 256 Zeichen
+     * @return der Teildatensatz selbst
+     * @throws IOException falls der Puffer zu kurz ist
+     * @since 6.2
+     */
+    public Teildatensatz importRohdaten(final char[] record) throws IOException {
+        if (datenfelder.isEmpty() || (getFeldIndex().getLaenge() > record.length)) {
+            return importFrom(record);
+        }
+        this.rohdaten = record;
+        this.offen = new boolean[datenfelder.size()];
+        Arrays.fill(this.offen, true);
+        this.anzahlOffen = this.offen.length;
+        return this;
+    }
+
+    private void verwerfeRohdaten() {
+        this.rohdaten = null;
+        this.offen = null;
+    }
+
     /* (non-Javadoc)
      * @see gdv.xport.satz.Satz#isValid()
      */
     @Override
     public boolean isValid() {
+        uebernehmeRohdaten();
         if (!super.isValid()) {
             return false;
         }
@@ -570,6 +740,7 @@ public class Teildatensatz extends Satz {
 
     @Override
     public List<ConstraintViolation> validate(Config validationConfig) {
+        uebernehmeRohdaten();
         List<ConstraintViolation> violations = new ArrayList<>();
         for (Feld feld : datenfelder) {
             violations.addAll(feld.validate(validationConfig));
@@ -58,8 +58,17 @@ public enum WagnisartLeben {
 	FONDSGEBUNDENE_RENTENVERSICHERUNG(9);
 
 	private static final Logger LOG = LogManager.getLogger(WagnisartLeben.class);
+	private static final WagnisartLeben[] BY_DIGIT = new WagnisartLeben[10];
 	private final int code;
 
+	static {
+		for (WagnisartLeben existing : WagnisartLeben.values()) {
+			if (existing.getCode() >= 0) {
+				BY_DIGIT[existing.getCode()] = existing;
+			}
+		}
+	}
+
 	WagnisartLeben(final int code) {
 		this.code = code;
 	}
@@ -89,4 +98,20 @@ public enum WagnisartLeben {
 		return WagnisartLeben.NULL;
 	}
 
+	/**
+	 * Checks if is in. Im Gegensatz zu {@link #isIn(String)} wird hier
+	 * die Wagnisart direkt ueber die Ziffer ermittelt.
+	 *
+	 * @param code the code (Ziffer '0' bis '9')
+	 * @return the wagnisart leben
+	 * @since 6.2
+	 */
+	public static WagnisartLeben isIn(final char code) {
+		if ((code >= '0') && (code <= '9')) {
+			return BY_DIGIT[code - '0'];
+		}
+		LOG.warn("Unbekannte Wagnisart '{}' wird auf 'NULL' abgebildet", code);
+		return WagnisartLeben.NULL;
+	}
+
 }
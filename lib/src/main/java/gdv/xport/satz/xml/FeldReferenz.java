@@ -70,7 +70,7 @@ public final class FeldReferenz {
     public FeldReferenz(final XMLEventReader parser, final StartElement element) throws XMLStreamException {
         id = element.getAttributeByName(new QName("referenz")).getValue();
         Properties props = XmlHelper.parseSimpleElements(element.getName(), parser);
-        this.bezeichner = new Bezeichner(props);
+        this.bezeichner = Bezeichner.of(props);
         this.bemerkung = props.getProperty("bemerkung", "");
         this.auspraegung = props.getProperty("auspraegung", "");
         LOG.debug("{} created.", this);
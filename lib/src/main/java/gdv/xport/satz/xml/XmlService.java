@@ -35,11 +35,19 @@ import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * Hier wird jetzt eine XML-Beschreibung verwendet, um die Saetze fuer die
@@ -55,7 +63,7 @@ import java.util.Map;
 public class XmlService {
 
     private static final Logger LOG = LogManager.getLogger(XmlService.class);
-    private static final Map<Config, XmlService> INSTANCES = new HashMap<>();
+    private static final ConcurrentMap<Config, FutureTask<XmlService>> INSTANCES = new ConcurrentHashMap<>();
     private final Config config;
     private final List<SatzXml> saetze = new ArrayList<>();
     private final Map<SatzTyp, SatzXml> satzarten = new HashMap<>();
@@ -90,13 +98,7 @@ public class XmlService {
      * @throws IOException        bei Lesefehlern
      */
     public static XmlService getInstance(final Config cfg) throws XMLStreamException, IOException {
-        XmlService service = INSTANCES.get(cfg);
-        if (service == null) {
-            service = createXmlService(cfg);
-            INSTANCES.put(cfg, service);
-            LOG.info("{} wurde mit Resource {} angelegt.", service, cfg);
-        }
-        return service;
+        return getInstance(cfg, () -> createXmlService(cfg));
     }
 
     /**
@@ -129,13 +131,46 @@ public class XmlService {
      */
     public static XmlService getInstance(URI resource) throws XMLStreamException, IOException {
         Config cfg = Config.getInstance().withProperty("gdv.XML-Resource", resource.toString());
-        XmlService service = INSTANCES.get(cfg);
-        if (service == null) {
-            service = createXmlService(resource, cfg);
-            INSTANCES.put(cfg, service);
-            LOG.info("{} wurde mit Resource {} angelegt.", service, resource);
+        return getInstance(cfg, () -> createXmlService(resource, cfg));
+    }
+
+    /**
+     * Da das Parsen der XML-Resource teuer ist, wird es pro Config nur
+     * einmal durchgefuehrt - auch wenn mehrere Threads gleichzeitig die
+     * gleiche Instanz anfordern. Diese warten dann auf das Ergebnis des
+     * ersten Threads. Ist die Instanz einmal angelegt, erfolgt der Zugriff
+     * ohne Sperre.
+     */
+    private static XmlService getInstance(Config cfg, Callable<XmlService> factory)
+            throws XMLStreamException, IOException {
+        FutureTask<XmlService> task = INSTANCES.get(cfg);
+        if (task == null) {
+            FutureTask<XmlService> created = new FutureTask<>(factory);
+            task = INSTANCES.putIfAbsent(cfg, created);
+            if (task == null) {
+                task = created;
+                created.run();
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for XmlService of " + cfg);
+        } catch (ExecutionException ex) {
+            INSTANCES.remove(cfg, task);
+            Throwable cause = ex.getCause();
+            if (cause instanceof XMLStreamException) {
+                throw (XMLStreamException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("cannot create XmlService for " + cfg, cause);
         }
-        return service;
     }
 
     private static XmlService createXmlService(URI resource, Config cfg) throws XMLStreamException, IOException {
@@ -157,7 +192,9 @@ public class XmlService {
     private static XmlService createXmlService(InputStream istream, Config cfg) throws XMLStreamException {
         XMLEventReader parser = createXMLEventReader(istream);
         try {
-            return new XmlService(parser, cfg);
+            XmlService service = new XmlService(parser, cfg);
+            LOG.info("{} wurde mit Resource {} angelegt.", service, cfg);
+            return service;
         } finally {
             parser.close();
         }
@@ -456,6 +493,17 @@ public class XmlService {
         return copy;
     }
 
+    /**
+     * Liefert die SatzTypen der registrierten Satzarten. Im Gegensatz zu
+     * {@link #getSatzarten()} werden dabei keine Kopien der Saetze angelegt.
+     *
+     * @return unveraenderliche Menge der SatzTypen
+     * @since 6.2
+     */
+    public Set<SatzTyp> getSatzTypen() {
+        return Collections.unmodifiableSet(satzarten.keySet());
+    }
+
     /**
      * Liefert die Satzversion eines registrierten Satztyps
      *
@@ -21,27 +21,50 @@ package gdv.xport.util;
 import gdv.xport.Datenpaket;
 import gdv.xport.feld.Bezeichner;
 import gdv.xport.feld.Feld;
+import gdv.xport.feld.Version;
 import gdv.xport.satz.Datensatz;
+import gdv.xport.satz.Nachsatz;
 import gdv.xport.satz.Satz;
-import org.apache.commons.lang3.StringEscapeUtils;
+import gdv.xport.satz.Vorsatz;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.*;
 
 /**
  * Diese Klasse dient dazu, um die verschiedenen Saetze und Felder in einer
  * einzigen CSV-Datei zu exportieren.
+ * <p>
+ * Wird der CsvFormatter als {@link gdv.xport.event.ImportListener} (z.B.
+ * beim {@link gdv.xport.DatenpaketStreamer}) eingesetzt, werden die Spalten
+ * beim Vorsatz aus den Satzarten ermittelt, die dort angekuendigt sind. Die
+ * Kopfzeile wird dann einmal ausgegeben und jeder weitere Satz direkt in
+ * einem Durchgang geschrieben, ohne das Datenpaket vorher komplett
+ * einzulesen.
+ * </p>
+ * <p>
+ * Fuer jeden SatzTyp wird dazu einmal ein {@link Satzplan} berechnet,
+ * der festlegt, an welcher Byte-Position im exportierten Satz welche
+ * Spalte steht. Die Werte werden dann direkt aus dem Export-Puffer des
+ * Satzes ausgeschnitten.
+ * </p>
  *
  * @author oliver
  * @since 1.2 (06.06.2016)
  */
 public final class CsvFormatter extends AbstractFormatter {
 
-    private final Map<Bezeichner, Feld> felder = new LinkedHashMap<>();
+    private static final Logger LOG = LogManager.getLogger(CsvFormatter.class);
+
+    private final Map<Bezeichner, Integer> spalten = new LinkedHashMap<>();
+    private final Map<SatzTyp, Zeilenplan> zeilenplaene = new HashMap<>();
+    private byte[] record = new byte[Satzplan.RECORD_LENGTH];
+    private int[] zellen = new int[0];
+    private int[] laengen = new int[0];
+    private char[] zeile = new char[1024];
 
     /**
      * Instantiates a new csv formatter.
@@ -77,9 +100,19 @@ public final class CsvFormatter extends AbstractFormatter {
      */
     @Override
     public void write(final Datenpaket datenpaket) throws IOException {
-        buildHead(datenpaket);
-        this.writeHead();
-        this.writeBody(datenpaket);
+        Set<Bezeichner> kopf = new LinkedHashSet<>();
+        addSpalten(kopf, datenpaket.getVorsatz());
+        for (Datensatz satz : datenpaket.getDatensaetze()) {
+            addSpalten(kopf, satz);
+        }
+        addSpalten(kopf, datenpaket.getNachsatz());
+        this.writeHead(kopf);
+        this.writeZeile(datenpaket.getVorsatz());
+        for (Datensatz satz : datenpaket.getDatensaetze()) {
+            this.writeZeile(satz);
+        }
+        this.writeZeile(datenpaket.getNachsatz());
+        this.getWriter().flush();
     }
 
     /**
@@ -91,60 +124,184 @@ public final class CsvFormatter extends AbstractFormatter {
      */
     @Override
     public void write(Satz satz) throws IOException {
-        this.buildHead(satz);
-        this.writeHead();
-        this.writeBody(satz);
+        Set<Bezeichner> kopf = new LinkedHashSet<>(this.spalten.keySet());
+        addSpalten(kopf, satz);
+        this.writeHead(kopf);
+        this.writeZeile(satz);
+        this.getWriter().flush();
     }
 
-    private void buildHead(final Datenpaket datenpaket) {
-        this.buildHead(datenpaket.getVorsatz());
-        for (Datensatz satz : datenpaket.getDatensaetze()) {
-            this.buildHead(satz);
+    /**
+     * Als {@link gdv.xport.event.ImportListener} wird beim Vorsatz die
+     * Kopfzeile aus den angekuendigten Satzarten aufgebaut und ausgegeben.
+     * Alle Saetze werden dann (ohne erneute Kopfzeile) als eine Zeile
+     * geschrieben. Felder von Satzarten, die im Vorsatz nicht angekuendigt
+     * wurden, tauchen dabei nicht in der Ausgabe auf.
+     *
+     * @param satz der soeben importierte Satz
+     */
+    @Override
+    public void notice(final Satz satz) {
+        try {
+            if (satz instanceof Vorsatz) {
+                startDatenpaket((Vorsatz) satz);
+            }
+            this.writeZeile(satz);
+            if (satz instanceof Nachsatz) {
+                this.getWriter().flush();
+            }
+        } catch (IOException ioe) {
+            throw new FormatterException("cannot format " + satz, ioe);
         }
-        this.buildHead(datenpaket.getNachsatz());
     }
 
-    private void buildHead(Satz satz) {
-        for (Feld feld : satz.getFelder()) {
-            if (!felder.containsKey(feld.getBezeichner())) {
-                felder.put(feld.getBezeichner(), feld);
+    private void startDatenpaket(Vorsatz vorsatz) throws IOException {
+        Set<Bezeichner> kopf = new LinkedHashSet<>();
+        addSpalten(kopf, vorsatz);
+        Map<SatzTyp, Version> versionen = new TreeMap<>(Comparator.comparing(SatzTyp::toString));
+        versionen.putAll(vorsatz.getSatzartVersionen());
+        for (Map.Entry<SatzTyp, Version> entry : versionen.entrySet()) {
+            try {
+                addSpalten(kopf, SatzRegistry.getSatz(entry.getKey(), entry.getValue().getInhalt()));
+            } catch (NotRegisteredException ex) {
+                LOG.warn("Satzart {} aus Vorsatz ist nicht registriert:", entry.getKey(), ex);
             }
         }
+        addSpalten(kopf, new Nachsatz());
+        if (!kopf.equals(this.spalten.keySet())) {
+            this.writeHead(kopf);
+        }
+    }
+
+    private static void addSpalten(Set<Bezeichner> kopf, Satz satz) {
+        for (Feld feld : satz.getFelder()) {
+            kopf.add(feld.getBezeichner());
+        }
     }
 
-    private void writeHead() throws IOException {
-        for (Bezeichner bezeichner : this.felder.keySet()) {
+    private void writeHead(Set<Bezeichner> kopf) throws IOException {
+        this.spalten.clear();
+        this.zeilenplaene.clear();
+        for (Bezeichner bezeichner : kopf) {
+            this.spalten.put(bezeichner, this.spalten.size());
             this.write(bezeichner.getName());
             this.write(";");
         }
         this.write("\n");
+        this.zellen = new int[this.spalten.size()];
+        this.laengen = new int[this.spalten.size()];
     }
 
-    private void writeBody(Datenpaket datenpaket) throws IOException {
-        this.writeBody(datenpaket.getVorsatz());
-        for (Datensatz satz : datenpaket.getDatensaetze()) {
-            this.writeBody(satz);
+    private void writeZeile(Satz satz) throws IOException {
+        Zeilenplan plan = getZeilenplan(satz);
+        record = Satzplan.export(satz, record);
+        Arrays.fill(zellen, -1);
+        for (int i = 0; i < plan.spalten.length; i++) {
+            zellen[plan.spalten[i]] = plan.satzplan.getPosition(plan.felder[i]);
+            laengen[plan.spalten[i]] = plan.satzplan.getLaenge(plan.felder[i]);
+        }
+        int n = 0;
+        for (int i = 0; i < zellen.length; i++) {
+            if (zellen[i] >= 0) {
+                n = appendCsv(n, zellen[i], laengen[i]);
+            }
+            n = append(n, ';');
         }
-        this.writeBody(datenpaket.getNachsatz());
+        n = append(n, '\n');
+        this.getWriter().write(zeile, 0, n);
     }
 
-    private void writeBody(Satz satz) throws IOException {
-        this.resetFelder();
-        for (Feld feld : satz.getFelder()) {
-            this.felder.put(feld.getBezeichner(), feld);
+    private Zeilenplan getZeilenplan(Satz satz) {
+        SatzTyp satzTyp = satz.getSatzTyp();
+        Zeilenplan plan = zeilenplaene.get(satzTyp);
+        if ((plan == null) || !plan.passtZu(satz)) {
+            plan = new Zeilenplan(satz, spalten);
+            zeilenplaene.put(satzTyp, plan);
+            if (plan.unbekannteFelder > 0) {
+                LOG.warn("{} Felder von {} sind nicht in der Kopfzeile und werden nicht ausgegeben.",
+                        plan.unbekannteFelder, satzTyp);
+            }
         }
-        for (Feld feld : this.felder.values()) {
-            this.write(StringEscapeUtils.escapeCsv(feld.getInhalt().trim()));
-            this.write(";");
+        return plan;
+    }
+
+    /**
+     * Haengt den Inhalt (ohne fuehrende und abschliessende Leerzeichen) an
+     * die Zeile an. Wie bei
+     * {@link org.apache.commons.lang3.StringEscapeUtils#escapeCsv(String)}
+     * wird er in Anfuehrungszeichen gesetzt, wenn er Kommas,
+     * Anfuehrungszeichen oder Zeilenumbrueche enthaelt.
+     */
+    private int appendCsv(int n, int von, int laenge) {
+        int bis = von + laenge;
+        while ((von < bis) && ((record[von] & 0xFF) <= ' ')) {
+            von++;
         }
-        this.write("\n");
-        this.getWriter().flush();
+        while ((bis > von) && ((record[bis - 1] & 0xFF) <= ' ')) {
+            bis--;
+        }
+        boolean quoted = false;
+        for (int i = von; i < bis; i++) {
+            byte b = record[i];
+            if ((b == ',') || (b == '"') || (b == '\r') || (b == '\n')) {
+                quoted = true;
+                break;
+            }
+        }
+        if (quoted) {
+            n = append(n, '"');
+        }
+        for (int i = von; i < bis; i++) {
+            char c = (char) (record[i] & 0xFF);
+            if (quoted && (c == '"')) {
+                n = append(n, '"');
+            }
+            n = append(n, c);
+        }
+        return quoted ? append(n, '"') : n;
+    }
+
+    private int append(int n, char c) {
+        if (n == zeile.length) {
+            zeile = Arrays.copyOf(zeile, n * 2);
+        }
+        zeile[n] = c;
+        return n + 1;
     }
 
-    private void resetFelder() {
-        for (Entry<Bezeichner, Feld> entry : this.felder.entrySet()) {
-            entry.setValue(Feld.NULL_FELD);
+    /**
+     * Der Zeilenplan ordnet die Felder eines {@link Satzplan}s den Spalten
+     * der Kopfzeile zu.
+     */
+    private static final class Zeilenplan {
+
+        private final Satzplan satzplan;
+        private final int[] felder;
+        private final int[] spalten;
+        private final int unbekannteFelder;
+
+        Zeilenplan(Satz satz, Map<Bezeichner, Integer> spaltenNr) {
+            this.satzplan = new Satzplan(satz);
+            int[] f = new int[satzplan.size()];
+            int[] s = new int[satzplan.size()];
+            int n = 0;
+            for (int i = 0; i < satzplan.size(); i++) {
+                Integer spalte = spaltenNr.get(satzplan.getFeld(i).getBezeichner());
+                if (spalte != null) {
+                    f[n] = i;
+                    s[n] = spalte;
+                    n++;
+                }
+            }
+            this.felder = Arrays.copyOf(f, n);
+            this.spalten = Arrays.copyOf(s, n);
+            this.unbekannteFelder = satzplan.size() - n;
+        }
+
+        boolean passtZu(Satz satz) {
+            return satzplan.passtZu(satz);
         }
+
     }
 
 }
@@ -48,6 +48,15 @@ import java.util.*;
  * XML-basierte Beschreibungen abgeloest werden. Fuer dieses Ziel ist
  * diese Klasse ein Baustein dazu.
  * </p>
+ * <p>
+ * Die Feldreferenzen (Referenz-ID, Namen, Bemerkung, Kommentar und evtl.
+ * aufgefuellte Luecken) werden pro SatzTyp nur einmal in einer
+ * {@link Satzvorlage} ermittelt. Fuer die Felder-Definitionen am Ende
+ * werden keine Felder (und damit auch keine Inhalte) aufgehoben, sondern
+ * nur die Angaben, die fuer die Ausgabe benoetigt werden. Der Speicherbedarf
+ * haengt damit nur von der Anzahl der unterschiedlichen Felder, nicht von
+ * der Groesse der Datei ab.
+ * </p>
  *
  * @author oliver (ob@aosd.de)
  * @since 5.0 (27.03.2021)
@@ -58,7 +67,8 @@ public final class GdvXmlFormatter extends AbstractFormatter {
     private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
     private static final String DEFAULT_INFO = "(c)reated by gdv-xport at " + LocalDate.now();
     private XMLStreamWriter xmlStreamWriter;
-	private final Map<String, Feld> felder = new HashMap<>();
+    private final Map<SatzTyp, Satzvorlage> vorlagen = new HashMap<>();
+    private final Map<String, Felddefinition> felder = new TreeMap<>();
     private final String stand;
 
     /**
@@ -195,41 +205,61 @@ public final class GdvXmlFormatter extends AbstractFormatter {
     @Override
     public void write(final Satz satz) throws IOException {
         try {
+            Satzvorlage vorlage = getSatzvorlage(satz);
             writeComment(satz.toShortString());
             xmlStreamWriter.writeStartElement("satzart");
-            writeKennzeichnung(satz);
+            writeKennzeichnung(satz, vorlage);
             writeElement("version", satz.getSatzversion().getInhalt());
-            write(satz.getTeildatensaetze());
+            write(satz.getTeildatensaetze(), vorlage);
             xmlStreamWriter.writeEndElement();
         } catch (XMLStreamException ex) {
             throw new IOException("cannot format " + satz, ex);
         }
     }
 
-    private void writeKennzeichnung(Satz satz) throws XMLStreamException {
+    private Satzvorlage getSatzvorlage(Satz satz) {
+        SatzTyp satzTyp = satz.getSatzTyp();
+        Satzvorlage vorlage = vorlagen.get(satzTyp);
+        if ((vorlage == null) || !vorlage.passtZu(satz)) {
+            vorlage = new Satzvorlage(satz);
+            vorlagen.put(satzTyp, vorlage);
+            for (Feldreferenz[] referenzen : vorlage.teildatensaetze) {
+                for (Feldreferenz ref : referenzen) {
+                    felder.putIfAbsent(ref.referenz, ref.definition);
+                }
+            }
+        }
+        return vorlage;
+    }
+
+    private void writeKennzeichnung(Satz satz, Satzvorlage vorlage) throws XMLStreamException {
         xmlStreamWriter.writeStartElement("kennzeichnung");
-        writeReferenz(satz.getSatzartFeld());
-        writeSparte(satz);
-        writeSatznummer(satz);
+        writeReferenz(vorlage.satzart, satz.getSatzartFeld());
+        if (vorlage.sparte != null) {
+            writeReferenz(vorlage.sparte, vorlage.sparte.feld);
+        }
+        writeReferenz(vorlage.satznummer, vorlage.satznummer.feld);
         xmlStreamWriter.writeEndElement();
     }
 
-    private void write(List<Teildatensatz> teildatensaetze) throws XMLStreamException {
-        for (Teildatensatz tds : teildatensaetze) {
+    private void write(List<Teildatensatz> teildatensaetze, Satzvorlage vorlage) throws XMLStreamException {
+        for (int i = 0; i < teildatensaetze.size(); i++) {
+            Teildatensatz tds = teildatensaetze.get(i);
             writeComment(tds.toShortString());
             xmlStreamWriter.writeEmptyElement("satzanfang");
             xmlStreamWriter.writeAttribute("teilsatz", tds.getSatznummer().getInhalt());
-            for (Feld feld : getFelderOhneLuecken(tds)) {
-                writeComment(feld.toShortString());
-                writeReferenz(feld);
-                felder.putIfAbsent(toFeldReferenzId(feld), feld);
+            Iterator<Feld> iterator = tds.getFelder().iterator();
+            for (Feldreferenz ref : vorlage.teildatensaetze[i]) {
+                Feld feld = (ref.feld == null) ? iterator.next() : ref.feld;
+                writeComment(ref.kommentar);
+                writeReferenz(ref, feld);
             }
             xmlStreamWriter.writeEmptyElement("satzende");
             xmlStreamWriter.flush();
         }
     }
 
-    private List<Feld> getFelderOhneLuecken(Teildatensatz tds) {
+    private static List<Feld> getFelderOhneLuecken(Teildatensatz tds) {
         List<Feld> felder = new ArrayList<>();
         int adresse = 1;
         for (Feld feld : tds.getFelder()) {
@@ -243,74 +273,45 @@ public final class GdvXmlFormatter extends AbstractFormatter {
         return felder;
     }
 
-    private void writeReferenz(Feld feld) throws XMLStreamException {
-        Bezeichner bezeichner = feld.getBezeichner();
+    private void writeReferenz(Feldreferenz ref, Feld feld) throws XMLStreamException {
         xmlStreamWriter.writeStartElement("feldreferenz");
-        xmlStreamWriter.writeAttribute("referenz", toFeldReferenzId(feld));
-        writeElement("name", bezeichner.getName());
-        writeElement("technischerName", bezeichner.getTechnischerName());
+        xmlStreamWriter.writeAttribute("referenz", ref.referenz);
+        writeElement("name", ref.name);
+        writeElement("technischerName", ref.technischerName);
         if (feld.hasValue()) {
             writeElement("auspraegung", feld.getInhalt().trim());
         }
-        if (feld instanceof AlphaNumFeld) {
-            writeAlignment((AlphaNumFeld) feld);
-        } else if (feld instanceof Datum) {
-            writeElement("bemerkung", ((Datum) feld).getFormat());
+        if (ref.bemerkung != null) {
+            writeElement("bemerkung", ref.bemerkung);
         }
         xmlStreamWriter.writeEndElement();
     }
 
-    private void writeAlignment(AlphaNumFeld feld) throws XMLStreamException {
-        if (feld.getAusrichtung() == Align.RIGHT) {
-            writeElement("bemerkung", "rechtsbuendig");
-        }
-    }
-
-    private String toFeldReferenzId(Feld feld) {
+    private static String toFeldReferenzId(Feld feld) {
         return String.format("%03d-%03d-%s-%s", feld.getByteAdresse(), feld.getEndAdresse(),
                 feld.getBezeichner().getTechnischerName(), Datentyp.asString(feld));
     }
 
-    private void writeSparte(Satz satz) throws XMLStreamException {
-        if (satz.getSatzTyp().hasSparteInGdvSatzartName()) {
-            Feld sparteFeld = new Feld(Bezeichner.SPARTE, 11, satz.getSatzTyp().getSparteMitArt(), Align.LEFT);
-            writeReferenz(sparteFeld);
-        }
-    }
-
-    private void writeSatznummer(Satz satz) throws XMLStreamException {
-        Feld satznummer = new Feld(Bezeichner.SATZNUMMER, 256, satz.getGdvSatzartNummer(), Align.LEFT);
-        writeReferenz(satznummer);
-    }
-
     private void writeFelder() throws XMLStreamException {
-        TreeMap<String, Feld> sorted = new TreeMap<>(felder);
-        Set<Map.Entry<String, Feld>> mappings = sorted.entrySet();
         xmlStreamWriter.writeStartElement("felder");
-         for (Map.Entry<String, Feld> entry : mappings) {
-            write(entry.getValue());
+        for (Felddefinition definition : felder.values()) {
+            write(definition);
         }
         xmlStreamWriter.writeEndElement();
     }
 
-    private void write(Feld feld) throws XMLStreamException {
+    private void write(Felddefinition definition) throws XMLStreamException {
         xmlStreamWriter.writeStartElement("feld");
-        xmlStreamWriter.writeAttribute("referenz", toFeldReferenzId(feld));
-        writeElement("name", feld.getBezeichner().getName());
-        writeElement("bytes", Integer.toString(feld.getAnzahlBytes()));
-        writeElement("datentyp", Datentyp.asString(feld));
-        if (feld instanceof NumFeld) {
-            writeNachkommastellen((NumFeld) feld);
+        xmlStreamWriter.writeAttribute("referenz", definition.referenz);
+        writeElement("name", definition.name);
+        writeElement("bytes", Integer.toString(definition.bytes));
+        writeElement("datentyp", definition.datentyp);
+        if (definition.nachkommastellen > 0) {
+            writeElement("nachkommastellen", Integer.toString(definition.nachkommastellen));
         }
         xmlStreamWriter.writeEndElement();
     }
 
-    private void writeNachkommastellen(NumFeld feld) throws XMLStreamException {
-        if (feld.getNachkommastellen() > 0) {
-            writeElement("nachkommastellen", Integer.toString(feld.getNachkommastellen()));
-        }
-    }
-
     private void writeElement(String tag, String value) throws XMLStreamException {
         xmlStreamWriter.writeStartElement(tag);
         xmlStreamWriter.writeCharacters(value);
@@ -350,4 +351,111 @@ public final class GdvXmlFormatter extends AbstractFormatter {
         return indentWriter;
     }
 
+    /**
+     * Die Satzvorlage enthaelt fuer ein Satz-Layout die Feldreferenzen der
+     * Kennzeichnung und aller Teildatensaetze (inkl. der Luecken, die mit
+     * Leerstellen aufgefuellt werden).
+     */
+    private static final class Satzvorlage {
+
+        private final Object[] layouts;
+        private final String version;
+        private final Feldreferenz satzart;
+        private final Feldreferenz sparte;
+        private final Feldreferenz satznummer;
+        private final Feldreferenz[][] teildatensaetze;
+
+        Satzvorlage(Satz satz) {
+            List<Teildatensatz> tdsList = satz.getTeildatensaetze();
+            this.layouts = Satzplan.getLayouts(satz);
+            this.version = satz.getVersion();
+            this.satzart = new Feldreferenz(satz.getSatzartFeld(), false);
+            if (satz.getSatzTyp().hasSparteInGdvSatzartName()) {
+                this.sparte = new Feldreferenz(
+                        new Feld(Bezeichner.SPARTE, 11, satz.getSatzTyp().getSparteMitArt(), Align.LEFT), true);
+            } else {
+                this.sparte = null;
+            }
+            this.satznummer = new Feldreferenz(
+                    new Feld(Bezeichner.SATZNUMMER, 256, satz.getGdvSatzartNummer(), Align.LEFT), true);
+            this.teildatensaetze = new Feldreferenz[tdsList.size()][];
+            for (int i = 0; i < tdsList.size(); i++) {
+                Teildatensatz tds = tdsList.get(i);
+                List<Feld> felder = getFelderOhneLuecken(tds);
+                Set<Feld> tdsFelder = Collections.newSetFromMap(new IdentityHashMap<>());
+                tdsFelder.addAll(tds.getFelder());
+                teildatensaetze[i] = new Feldreferenz[felder.size()];
+                for (int j = 0; j < felder.size(); j++) {
+                    Feld feld = felder.get(j);
+                    teildatensaetze[i][j] = new Feldreferenz(feld, !tdsFelder.contains(feld));
+                }
+            }
+        }
+
+        boolean passtZu(Satz satz) {
+            return Satzplan.passtZu(satz, layouts, version);
+        }
+
+    }
+
+    /**
+     * Die Feldreferenz enthaelt die Angaben, die fuer die Ausgabe eines
+     * Felds als "feldreferenz" unabhaengig von dessen Inhalt benoetigt
+     * werden. Bei festen Feldern (Luecken, Sparte, Satznummer) wird auch
+     * das Feld selbst aufgehoben.
+     */
+    private static final class Feldreferenz {
+
+        private final String referenz;
+        private final String name;
+        private final String technischerName;
+        private final String bemerkung;
+        private final String kommentar;
+        private final Feld feld;
+        private final Felddefinition definition;
+
+        Feldreferenz(Feld feld, boolean fest) {
+            Bezeichner bezeichner = feld.getBezeichner();
+            this.referenz = toFeldReferenzId(feld);
+            this.name = bezeichner.getName();
+            this.technischerName = bezeichner.getTechnischerName();
+            this.bemerkung = toBemerkung(feld);
+            this.kommentar = feld.toShortString();
+            this.feld = fest ? feld : null;
+            this.definition = new Felddefinition(referenz, feld);
+        }
+
+        private static String toBemerkung(Feld feld) {
+            if (feld instanceof AlphaNumFeld) {
+                return (((AlphaNumFeld) feld).getAusrichtung() == Align.RIGHT) ? "rechtsbuendig" : null;
+            } else if (feld instanceof Datum) {
+                return ((Datum) feld).getFormat();
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Die Felddefinition enthaelt die Angaben fuer den "felder"-Abschnitt
+     * am Ende der Ausgabe.
+     */
+    private static final class Felddefinition {
+
+        private final String referenz;
+        private final String name;
+        private final int bytes;
+        private final String datentyp;
+        private final int nachkommastellen;
+
+        Felddefinition(String referenz, Feld feld) {
+            this.referenz = referenz;
+            this.name = feld.getBezeichner().getName();
+            this.bytes = feld.getAnzahlBytes();
+            this.datentyp = Datentyp.asString(feld);
+            this.nachkommastellen = (feld instanceof NumFeld) ? ((NumFeld) feld).getNachkommastellen() : 0;
+        }
+
+    }
+
 }
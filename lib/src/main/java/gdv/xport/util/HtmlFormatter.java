@@ -23,14 +23,23 @@ import gdv.xport.config.*;
 import gdv.xport.feld.*;
 import gdv.xport.satz.*;
 import org.apache.commons.io.*;
+import org.apache.commons.io.output.*;
 
 import javax.xml.stream.*;
 import java.io.*;
+import java.nio.charset.*;
 import java.text.*;
 import java.util.*;
 
 /**
  * Diese Klasse gibt die verschiedenen Saetze und Felder als HTML aus.
+ * <p>
+ * Die Details zu den einzelnen Saetzen erscheinen erst am Ende der
+ * HTML-Seite und muessen deshalb zwischengespeichert werden. Bis zu einer
+ * Groesse von 1 MB geschieht dies im Speicher, darueber hinaus in einer
+ * temporaeren Datei. Damit bleibt der Speicherbedarf auch bei grossen
+ * Dateien begrenzt.
+ * </p>
  *
  * @author oliver (ob@aosd.de)
  * @since 0.5.0 (23.11.2010)
@@ -40,8 +49,11 @@ public final class HtmlFormatter extends AbstractFormatter {
     private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
     private static final String HEAD;
     private static final String TAIL;
+    /** Ab dieser Groesse werden die Details in eine temporaere Datei ausgelagert. */
+    static final int MAX_DETAILS_IM_SPEICHER = 1024 * 1024;
 
-    private final StringWriter detailsWriter = new StringWriter();
+    private DeferredFileOutputStream detailsStream;
+    private Writer detailsWriter;
 
     private String title = "GDV-Datei";
     private int zeile = 1;
@@ -112,7 +124,7 @@ public final class HtmlFormatter extends AbstractFormatter {
                 this.writeHead();
             }
             this.writeSatz(satz);
-            writeDetailsTo(this.detailsWriter, satz, zeile);
+            writeDetailsTo(this.getDetailsWriter(), satz, zeile);
             zeile += satz.getTeildatensaetze().size();
             if (satz.getSatzart() == 9999) {
                 this.writeTail();
@@ -137,15 +149,77 @@ public final class HtmlFormatter extends AbstractFormatter {
         this.write(buffer.toString());
     }
 
-    private void writeTail() throws IOException, XMLStreamException {
+    private void writeTail() throws IOException {
         this.getWriter().flush();
-        this.detailsWriter.close();
-        String tail = MessageFormat.format(TAIL, this.detailsWriter.toString());
-        this.write(tail);
+        String[] tail = MessageFormat.format(TAIL, "\0").split("\0", 2);
+        this.write(tail[0]);
+        this.writeDetails();
+        this.write(tail[1]);
         this.write("<!-- (c)reated by gdv-xport at " + new Date() + " -->\n");
         this.getWriter().flush();
     }
 
+    private Writer getDetailsWriter() {
+        if (this.detailsWriter == null) {
+            this.detailsStream = new DeferredFileOutputStream(MAX_DETAILS_IM_SPEICHER, "gdv-xport-details", ".html",
+                    null);
+            // als BufferedWriter kodiert StAX (wie beim StringWriter) nicht fuer jeden Satz selbst
+            this.detailsWriter = new BufferedWriter(new OutputStreamWriter(this.detailsStream, StandardCharsets.UTF_8));
+        }
+        return this.detailsWriter;
+    }
+
+    /**
+     * Gibt die bisher gesammelten Details aus und raeumt den
+     * Zwischenspeicher (bzw. die temporaere Datei) wieder ab.
+     *
+     * @throws IOException bei Schreib- oder Lesefehlern
+     */
+    private void writeDetails() throws IOException {
+        if (this.detailsWriter == null) {
+            return;
+        }
+        this.detailsWriter.close();
+        try {
+            if (this.detailsStream.isInMemory()) {
+                this.write(new String(this.detailsStream.getData(), StandardCharsets.UTF_8));
+            } else {
+                try (Reader reader = new InputStreamReader(new FileInputStream(this.detailsStream.getFile()),
+                        StandardCharsets.UTF_8)) {
+                    IOUtils.copy(reader, this.getWriter());
+                }
+            }
+        } finally {
+            this.deleteDetails();
+        }
+    }
+
+    private void deleteDetails() {
+        if ((this.detailsStream != null) && !this.detailsStream.isInMemory()) {
+            FileUtils.deleteQuietly(this.detailsStream.getFile());
+        }
+        this.detailsStream = null;
+        this.detailsWriter = null;
+    }
+
+    /**
+     * Raeumt die evtl. noch vorhandenen Details (bzw. deren temporaere
+     * Datei) ab, ehe die Writer-Resource geschlossen wird.
+     *
+     * @throws IOException falls was schief geht
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.detailsWriter != null) {
+                this.detailsWriter.close();
+                this.deleteDetails();
+            }
+        } finally {
+            super.close();
+        }
+    }
+
     private static void writeTo(final XMLStreamWriter xmlStreamWriter, final Satz satz, final int zeile)
             throws XMLStreamException {
         xmlStreamWriter.writeStartElement("div");
@@ -15,27 +15,125 @@
  *
  * (c)reated 21.02.2017 by oboehm (ob@oasd.de)
  */
+
 package gdv.xport.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import gdv.xport.Datenpaket;
 import gdv.xport.config.Config;
+import gdv.xport.feld.*;
+import gdv.xport.satz.*;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.util.*;
 
 /**
  * Ueber diese Klassen koennen die GDV-Datensaetze als JSON formattiert
  * werden.
+ * <p>
+ * Die Ausgabe erfolgt direkt ueber einen {@link JsonGenerator}, ohne
+ * Bean-Serialisierung per Reflection. Aufbau und Attribut-Namen entsprechen
+ * dabei der bisherigen Ausgabe ueber den ObjectMapper. Alles, was sich pro
+ * Satz-Layout nicht aendert (Bezeichner, Adressen, Ausrichtung, ...), steht
+ * im {@link Satzschema} und wird nur einmal pro Layout ermittelt. Pro Satz
+ * werden nur noch Inhalt und Status der Felder abgefragt.
+ * </p>
+ * <p>
+ * Als {@link gdv.xport.event.ImportListener} (z.B. beim
+ * {@link gdv.xport.DatenpaketStreamer}) wird jeder Satz gleich nach dem
+ * Import ausgegeben. Da hier nur Vorsatz, Datensaetze und Nachsatz bekannt
+ * sind, wird dabei jedes Datenpaket mit diesen drei Attributen ausgegeben
+ * und alle Datenpakete in einem Array zusammengefasst:
+ * </p>
+ * <pre>
+ * [{"vorsatz":{...},"datensaetze":[{...},...],"nachsatz":{...}},...]
+ * </pre>
+ * <p>
+ * Die einzelnen Saetze haben dabei denselben Aufbau wie bei der Ausgabe
+ * eines kompletten Datenpakets. Das Array wird erst mit {@link #close()}
+ * geschlossen.
+ * </p>
  *
  * @author oliver
  * @since 2.1.0
  */
 public class JsonFormatter extends AbstractFormatter {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY =
+            new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final SerializedString VORSATZ = new SerializedString("vorsatz");
+    private static final SerializedString DATENSAETZE = new SerializedString("datensaetze");
+    private static final SerializedString NACHSATZ = new SerializedString("nachsatz");
+    private static final SerializedString ALL_SAETZE = new SerializedString("allSaetze");
+    private static final SerializedString CONFIG = new SerializedString("config");
+    private static final SerializedString DEBUG = new SerializedString("debug");
+    private static final SerializedString VALIDATE_MODE = new SerializedString("validateMode");
+    private static final SerializedString VUNR = new SerializedString("vunr");
+    private static final SerializedString ERSTELLUNGS_DATUM_VON = new SerializedString("erstellungsDatumVon");
+    private static final SerializedString ERSTELLUNGS_DATUM_BIS = new SerializedString("erstellungsDatumBis");
+    private static final SerializedString VU_NUMMER = new SerializedString("vuNummer");
+    private static final SerializedString VERMITTLER = new SerializedString("vermittler");
+    private static final SerializedString ABSENDER = new SerializedString("absender");
+    private static final SerializedString ADRESSAT = new SerializedString("adressat");
+    private static final SerializedString GDV_SATZART_NUMMER = new SerializedString("gdvSatzartNummer");
+    private static final SerializedString GDV_SATZART_NAME = new SerializedString("gdvSatzartName");
+    private static final SerializedString FELDER = new SerializedString("felder");
+    private static final SerializedString SATZART_VERSIONEN = new SerializedString("satzartVersionen");
+    private static final SerializedString ERSTELLUNGS_ZEITRAUM_VON = new SerializedString("erstellungsZeitraumVon");
+    private static final SerializedString ERSTELLUNGS_ZEITRAUM_BIS = new SerializedString("erstellungsZeitraumBis");
+    private static final SerializedString ERSTELLUNGS_ZEITRAUM = new SerializedString("erstellungsZeitraum");
+    private static final SerializedString GESAMT_BEITRAG = new SerializedString("gesamtBeitrag");
+    private static final SerializedString GESAMT_BEITRAG_BRUTTO_MIT_VORZEICHEN =
+            new SerializedString("gesamtBeitragBruttoMitVorzeichen");
+    private static final SerializedString GESAMT_PROVISIONS_BETRAG_MIT_VORZEICHEN =
+            new SerializedString("gesamtProvisionsBetragMitVorzeichen");
+    private static final SerializedString VERSICHERUNGS_LEISTUNGEN_MIT_VORZEICHEN =
+            new SerializedString("versicherungsLeistungenMitVorzeichen");
+    private static final SerializedString SCHADENBEARBEITUNGSKOSTEN_MIT_VORZEICHEN =
+            new SerializedString("schadenbearbeitungskostenMitVorzeichen");
+    private static final SerializedString ANZAHL_SAETZE = new SerializedString("anzahlSaetze");
+    private static final SerializedString SPARTE_FELD = new SerializedString("sparteFeld");
+    private static final SerializedString FOLGENUMMER = new SerializedString("folgenummer");
+    private static final SerializedString SATZNUMMER = new SerializedString("satznummer");
+    private static final SerializedString SATZ_IDENT = new SerializedString("satzIdent");
+    private static final SerializedString VALID = new SerializedString("valid");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString SATZVERSION = new SerializedString("satzversion");
+    private static final SerializedString NUMBER_OF_TEILDATENSAETZE = new SerializedString("numberOfTeildatensaetze");
+    private static final SerializedString SATZART = new SerializedString("satzart");
+    private static final SerializedString TEILDATENSAETZE = new SerializedString("teildatensaetze");
+    private static final SerializedString COMPLETE = new SerializedString("complete");
+    private static final SerializedString SATZART_FELD = new SerializedString("satzartFeld");
+    private static final SerializedString BEZEICHNER = new SerializedString("bezeichner");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString TECHNISCHER_NAME = new SerializedString("technischerName");
+    private static final SerializedString INHALT = new SerializedString("inhalt");
+    private static final SerializedString BYTE_ADRESSE = new SerializedString("byteAdresse");
+    private static final SerializedString AUSRICHTUNG = new SerializedString("ausrichtung");
+    private static final SerializedString NACHKOMMASTELLEN = new SerializedString("nachkommastellen");
+    private static final SerializedString BETRAG = new SerializedString("betrag");
+    private static final SerializedString VORZEICHEN = new SerializedString("vorzeichen");
+    private static final SerializedString EMPTY = new SerializedString("empty");
+    private static final SerializedString INVALID = new SerializedString("invalid");
+    private static final SerializedString FORMAT = new SerializedString("format");
+    private static final SerializedString ANZAHL_BYTES = new SerializedString("anzahlBytes");
+    private static final SerializedString END_ADRESSE = new SerializedString("endAdresse");
+    private static final SerializedString BEZEICHNUNG = new SerializedString("bezeichnung");
+
+    private final Map<SatzTyp, Satzschema> schemas = new HashMap<>();
+    private JsonGenerator generator;
+    private boolean datenpaketeOffen;
+    private boolean datenpaketOffen;
+    private Config config;
+    private boolean debug;
+    private String validateMode;
+    private VUNummer vunr;
+    private Feldschema vunrSchema;
 
     /**
      * Default-Konstruktor.
@@ -62,6 +160,26 @@ public class JsonFormatter extends AbstractFormatter {
         super(writer);
     }
 
+    /**
+     * Setzt den Ausgabekanal auf den uebergebenen Writer.
+     *
+     * @param writer Ausgabekanal
+     */
+    @Override
+    public void setWriter(final Writer writer) {
+        if (generator != null) {
+            try {
+                generator.flush();
+            } catch (IOException ioe) {
+                throw new FormatterException("cannot flush " + generator, ioe);
+            }
+            generator = null;
+            datenpaketeOffen = false;
+            datenpaketOffen = false;
+        }
+        super.setWriter(writer);
+    }
+
     /**
      * Ausgabe eines kompletten Datenpakets.
      *
@@ -70,8 +188,586 @@ public class JsonFormatter extends AbstractFormatter {
      */
     @Override
     public void write(final Datenpaket datenpaket) throws IOException {
-        String value = OBJECT_MAPPER.writeValueAsString(datenpaket);
-        this.write(value);
+        JsonGenerator gen = getGenerator();
+        gen.writeStartObject();
+        gen.writeFieldName(VORSATZ);
+        writeSatz(datenpaket.getVorsatz());
+        gen.writeFieldName(DATENSAETZE);
+        gen.writeStartArray();
+        for (Datensatz satz : datenpaket.getDatensaetze()) {
+            writeSatz(satz);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(CONFIG);
+        writeConfig(datenpaket.getConfig());
+        gen.writeFieldName(NACHSATZ);
+        writeSatz(datenpaket.getNachsatz());
+        gen.writeFieldName(ERSTELLUNGS_DATUM_VON);
+        writeFeld(null, datenpaket.getErstellungsDatumVon());
+        gen.writeFieldName(VU_NUMMER);
+        gen.writeString(datenpaket.getVuNummer());
+        gen.writeFieldName(VERMITTLER);
+        gen.writeString(datenpaket.getVermittler());
+        gen.writeFieldName(ABSENDER);
+        gen.writeString(datenpaket.getAbsender());
+        gen.writeFieldName(ADRESSAT);
+        gen.writeString(datenpaket.getAdressat());
+        gen.writeFieldName(ALL_SAETZE);
+        gen.writeStartArray();
+        for (Satz satz : datenpaket.getAllSaetze()) {
+            writeSatz(satz);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(ERSTELLUNGS_DATUM_BIS);
+        writeFeld(null, datenpaket.getErstellungsDatumBis());
+        gen.writeEndObject();
+        gen.flush();
+    }
+
+    /**
+     * Ausgabe eines einzelnen Satzes als eigenstaendiges JSON-Objekt.
+     *
+     * @param satz Satz, der ausgegeben werden soll
+     * @throws IOException bei Problemen mit der Generierung
+     * @since 6.2
+     */
+    @Override
+    public void write(final Satz satz) throws IOException {
+        writeSatz(satz);
+        getGenerator().flush();
+    }
+
+    /**
+     * Als {@link gdv.xport.event.ImportListener} wird der Vorsatz als Beginn
+     * eines neuen Datenpakets und der Nachsatz als dessen Ende ausgegeben.
+     * Alle anderen Saetze landen dazwischen unter "datensaetze".
+     *
+     * @param satz der soeben importierte Satz
+     * @since 6.2
+     */
+    @Override
+    public void notice(final Satz satz) {
+        try {
+            if (satz instanceof Vorsatz) {
+                startDatenpaket((Vorsatz) satz);
+            } else if (satz instanceof Nachsatz) {
+                endDatenpaket((Nachsatz) satz);
+            } else {
+                if (!datenpaketOffen) {
+                    startDatenpaket(null);
+                }
+                writeSatz(satz);
+            }
+        } catch (IOException ioe) {
+            throw new FormatterException("cannot format " + satz, ioe);
+        }
+    }
+
+    /**
+     * Schliesst ein noch offenes Datenpaket und das Array der Datenpakete
+     * ab, bevor die Writer-Resource geschlossen wird.
+     *
+     * @throws IOException falls was schief geht
+     */
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            if (datenpaketeOffen) {
+                if (datenpaketOffen) {
+                    endDatenpaket(null);
+                }
+                generator.writeEndArray();
+                datenpaketeOffen = false;
+            }
+            generator.close();
+            generator = null;
+        }
+        super.close();
+    }
+
+    private void startDatenpaket(Vorsatz vorsatz) throws IOException {
+        JsonGenerator gen = getGenerator();
+        if (!datenpaketeOffen) {
+            gen.writeStartArray();
+            datenpaketeOffen = true;
+        } else if (datenpaketOffen) {
+            endDatenpaket(null);
+        }
+        gen.writeStartObject();
+        if (vorsatz != null) {
+            gen.writeFieldName(VORSATZ);
+            writeSatz(vorsatz);
+        }
+        gen.writeFieldName(DATENSAETZE);
+        gen.writeStartArray();
+        datenpaketOffen = true;
+    }
+
+    private void endDatenpaket(Nachsatz nachsatz) throws IOException {
+        if (!datenpaketOffen) {
+            startDatenpaket(null);
+        }
+        JsonGenerator gen = getGenerator();
+        gen.writeEndArray();
+        if (nachsatz != null) {
+            gen.writeFieldName(NACHSATZ);
+            writeSatz(nachsatz);
+        }
+        gen.writeEndObject();
+        gen.flush();
+        datenpaketOffen = false;
+    }
+
+    private void writeSatz(Satz satz) throws IOException {
+        if (satz instanceof Teildatensatz) {
+            Teildatensatz tds = (Teildatensatz) satz;
+            Feld[] felder = tds.getFelder().toArray(new Feld[0]);
+            writeTeildatensatz(tds, felder, new Teilschema(tds, felder));
+            return;
+        }
+        List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+        Feld[][] felder = new Feld[teildatensaetze.size()][];
+        for (int i = 0; i < felder.length; i++) {
+            felder[i] = teildatensaetze.get(i).getFelder().toArray(new Feld[0]);
+        }
+        Satzschema schema = getSatzschema(satz, felder);
+        JsonGenerator gen = getGenerator();
+        gen.writeStartObject();
+        gen.writeFieldName(CONFIG);
+        writeConfig(satz.getConfig());
+        gen.writeFieldName(GDV_SATZART_NUMMER);
+        gen.writeString(satz.getGdvSatzartNummer());
+        gen.writeFieldName(GDV_SATZART_NAME);
+        gen.writeString(satz.getGdvSatzartName());
+        gen.writeFieldName(FELDER);
+        writeSatzFelder(satz, felder, schema);
+        if (satz instanceof Vorsatz) {
+            writeVorsatz((Vorsatz) satz);
+        } else if (satz instanceof Nachsatz) {
+            writeNachsatz((Nachsatz) satz);
+        } else if (satz instanceof Datensatz) {
+            Datensatz datensatz = (Datensatz) satz;
+            gen.writeFieldName(SPARTE_FELD);
+            schema.sparteFeld = writeFeld(schema.sparteFeld, datensatz.getSparteFeld());
+            gen.writeFieldName(FOLGENUMMER);
+            gen.writeNumber(datensatz.getFolgenummer());
+        }
+        gen.writeFieldName(VALID);
+        gen.writeBoolean(satz.isValid());
+        gen.writeFieldName(VERSION);
+        gen.writeString(satz.getVersion());
+        gen.writeFieldName(SATZVERSION);
+        schema.satzversion = writeFeld(schema.satzversion, satz.getSatzversion());
+        gen.writeFieldName(NUMBER_OF_TEILDATENSAETZE);
+        gen.writeNumber(satz.getNumberOfTeildatensaetze());
+        gen.writeFieldName(VERMITTLER);
+        gen.writeString(satz.getVermittler());
+        gen.writeFieldName(SATZART);
+        gen.writeNumber(satz.getSatzart());
+        gen.writeFieldName(TEILDATENSAETZE);
+        gen.writeStartArray();
+        for (int i = 0; i < felder.length; i++) {
+            writeTeildatensatz(teildatensaetze.get(i), felder[i], schema.teile[i]);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(COMPLETE);
+        gen.writeBoolean(schema.complete);
+        gen.writeFieldName(SATZART_FELD);
+        schema.satzartFeld = writeFeld(schema.satzartFeld, satz.getSatzartFeld());
+        gen.writeEndObject();
+    }
+
+    private void writeSatzFelder(Satz satz, Feld[][] felder, Satzschema schema) throws IOException {
+        JsonGenerator gen = getGenerator();
+        gen.writeStartArray();
+        if (schema.satzFelder == null) {
+            // abgeleitete Felder (wie beim Vorsatz) gibt es nur ueber getFelder()
+            for (Feld feld : satz.getFelder()) {
+                writeFeld(null, feld);
+            }
+        } else {
+            for (int i = 0; i < schema.satzFelder.length; i++) {
+                int tds = schema.satzFelder[i] >>> 16;
+                int j = schema.satzFelder[i] & 0xFFFF;
+                Teilschema teil = schema.teile[tds];
+                teil.felder[j] = writeFeld(teil.felder[j], felder[tds][j]);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private void writeVorsatz(Vorsatz vorsatz) throws IOException {
+        JsonGenerator gen = getGenerator();
+        gen.writeFieldName(VU_NUMMER);
+        gen.writeString(vorsatz.getVuNummer());
+        gen.writeFieldName(SATZART_VERSIONEN);
+        gen.writeStartObject();
+        for (Map.Entry<SatzTyp, Version> entry : vorsatz.getSatzartVersionen().entrySet()) {
+            gen.writeFieldName(entry.getKey().toString());
+            writeFeld(null, entry.getValue());
+        }
+        gen.writeEndObject();
+        gen.writeFieldName(ERSTELLUNGS_ZEITRAUM_VON);
+        writeFeld(null, vorsatz.getErstellungsZeitraumVon());
+        gen.writeFieldName(ERSTELLUNGS_ZEITRAUM_BIS);
+        writeFeld(null, vorsatz.getErstellungsZeitraumBis());
+        gen.writeFieldName(ABSENDER);
+        gen.writeString(vorsatz.getAbsender());
+        gen.writeFieldName(ADRESSAT);
+        gen.writeString(vorsatz.getAdressat());
+        gen.writeFieldName(ERSTELLUNGS_ZEITRAUM);
+        gen.writeString(vorsatz.getErstellungsZeitraum());
+    }
+
+    private void writeNachsatz(Nachsatz nachsatz) throws IOException {
+        JsonGenerator gen = getGenerator();
+        gen.writeFieldName(GESAMT_BEITRAG);
+        writeFeld(null, nachsatz.getGesamtBeitrag());
+        gen.writeFieldName(GESAMT_BEITRAG_BRUTTO_MIT_VORZEICHEN);
+        writeFeld(null, nachsatz.getGesamtBeitragBruttoMitVorzeichen());
+        gen.writeFieldName(GESAMT_PROVISIONS_BETRAG_MIT_VORZEICHEN);
+        writeFeld(null, nachsatz.getGesamtProvisionsBetragMitVorzeichen());
+        gen.writeFieldName(VERSICHERUNGS_LEISTUNGEN_MIT_VORZEICHEN);
+        writeFeld(null, nachsatz.getVersicherungsLeistungenMitVorzeichen());
+        gen.writeFieldName(SCHADENBEARBEITUNGSKOSTEN_MIT_VORZEICHEN);
+        writeFeld(null, nachsatz.getSchadenbearbeitungskostenMitVorzeichen());
+        gen.writeFieldName(ANZAHL_SAETZE);
+        gen.writeNumber(nachsatz.getAnzahlSaetze());
+    }
+
+    private void writeTeildatensatz(Teildatensatz tds, Feld[] felder, Teilschema schema) throws IOException {
+        JsonGenerator gen = getGenerator();
+        gen.writeStartObject();
+        gen.writeFieldName(CONFIG);
+        writeConfig(tds.getConfig());
+        gen.writeFieldName(GDV_SATZART_NUMMER);
+        gen.writeString(tds.getGdvSatzartNummer());
+        gen.writeFieldName(GDV_SATZART_NAME);
+        gen.writeString(tds.getGdvSatzartName());
+        gen.writeFieldName(SATZNUMMER);
+        schema.satznummer = writeFeld(schema.satznummer, tds.getSatznummer());
+        gen.writeFieldName(VALID);
+        gen.writeBoolean(tds.isValid());
+        gen.writeFieldName(FELDER);
+        gen.writeStartArray();
+        for (int j = 0; j < felder.length; j++) {
+            schema.felder[j] = writeFeld(schema.felder[j], felder[j]);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(SATZART_FELD);
+        if (schema.satzartFeld < 0) {
+            writeFeld(null, tds.getSatzartFeld());
+        } else {
+            int j = schema.satzartFeld;
+            schema.felder[j] = writeFeld(schema.felder[j], felder[j]);
+        }
+        gen.writeFieldName(SATZ_IDENT);
+        gen.writeStartArray();
+        if (schema.satzIdent == null) {
+            for (Zeichen ident : tds.getSatzIdent()) {
+                writeFeld(null, ident);
+            }
+        } else {
+            for (int j : schema.satzIdent) {
+                schema.felder[j] = writeFeld(schema.felder[j], felder[j]);
+            }
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(VERSION);
+        gen.writeString(tds.getVersion());
+        gen.writeFieldName(SATZVERSION);
+        schema.satzversion = writeFeld(schema.satzversion, tds.getSatzversion());
+        gen.writeFieldName(NUMBER_OF_TEILDATENSAETZE);
+        gen.writeNumber(tds.getNumberOfTeildatensaetze());
+        gen.writeFieldName(VERMITTLER);
+        gen.writeString(tds.getVermittler());
+        gen.writeFieldName(SATZART);
+        gen.writeNumber(tds.getSatzart());
+        gen.writeFieldName(TEILDATENSAETZE);
+        gen.writeStartArray();
+        for (Teildatensatz unterTds : tds.getTeildatensaetze()) {
+            writeSatz(unterTds);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(COMPLETE);
+        gen.writeBoolean(schema.complete);
+        gen.writeEndObject();
+    }
+
+    private void writeConfig(Config cfg) throws IOException {
+        JsonGenerator gen = getGenerator();
+        if (cfg == null) {
+            gen.writeNull();
+            return;
+        }
+        if (cfg != config) {
+            config = cfg;
+            debug = cfg.isDebug();
+            validateMode = cfg.getValidateMode() == null ? null : cfg.getValidateMode().name();
+            vunr = cfg.getVUNr();
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(DEBUG);
+        gen.writeBoolean(debug);
+        gen.writeFieldName(VALIDATE_MODE);
+        gen.writeString(validateMode);
+        gen.writeFieldName(VUNR);
+        vunrSchema = writeFeld(vunrSchema, vunr);
+        gen.writeEndObject();
+    }
+
+    /**
+     * Gibt das Feld aus. Passt das uebergebene Feldschema nicht (mehr) zum
+     * Feld, wird ein neues angelegt und zurueckgegeben, damit es der Aufrufer
+     * fuer das naechste Mal aufheben kann.
+     *
+     * @param schema bisheriges Feldschema (oder null)
+     * @param feld   Feld (oder null)
+     * @return das verwendete Feldschema
+     * @throws IOException bei Problemen mit der Generierung
+     */
+    private Feldschema writeFeld(Feldschema schema, Feld feld) throws IOException {
+        JsonGenerator gen = getGenerator();
+        if (feld == null) {
+            gen.writeNull();
+            return schema;
+        }
+        if ((schema == null) || !schema.passtZu(feld)) {
+            schema = new Feldschema(feld);
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(BEZEICHNER);
+        gen.writeStartObject();
+        gen.writeFieldName(NAME);
+        writeString(schema.name);
+        gen.writeFieldName(TECHNISCHER_NAME);
+        writeString(schema.technischerName);
+        gen.writeEndObject();
+        gen.writeFieldName(INHALT);
+        gen.writeString(feld.getInhalt());
+        gen.writeFieldName(BYTE_ADRESSE);
+        gen.writeNumber(schema.byteAdresse);
+        gen.writeFieldName(AUSRICHTUNG);
+        writeString(schema.ausrichtung);
+        if (schema.art != Feldart.TEXT) {
+            gen.writeFieldName(NACHKOMMASTELLEN);
+            gen.writeNumber(schema.nachkommastellen);
+        }
+        if (schema.art == Feldart.BETRAG_MIT_VORZEICHEN) {
+            BetragMitVorzeichen betrag = (BetragMitVorzeichen) feld;
+            gen.writeFieldName(BETRAG);
+            schema.betrag = writeFeld(schema.betrag, betrag.getBetrag());
+            gen.writeFieldName(VORZEICHEN);
+            gen.writeString(String.valueOf(betrag.getVorzeichen()));
+        }
+        gen.writeFieldName(EMPTY);
+        gen.writeBoolean(feld.isEmpty());
+        gen.writeFieldName(INVALID);
+        gen.writeBoolean(feld.isInvalid());
+        gen.writeFieldName(VALID);
+        gen.writeBoolean(feld.isValid());
+        if (schema.art == Feldart.DATUM) {
+            gen.writeFieldName(FORMAT);
+            writeString(schema.format);
+        }
+        gen.writeFieldName(ANZAHL_BYTES);
+        gen.writeNumber(schema.anzahlBytes);
+        gen.writeFieldName(END_ADRESSE);
+        gen.writeNumber(schema.endAdresse);
+        gen.writeFieldName(BEZEICHNUNG);
+        writeString(schema.bezeichnung);
+        gen.writeEndObject();
+        return schema;
+    }
+
+    private void writeString(SerializedString s) throws IOException {
+        if (s == null) {
+            getGenerator().writeNull();
+        } else {
+            getGenerator().writeString(s);
+        }
+    }
+
+    private Satzschema getSatzschema(Satz satz, Feld[][] felder) {
+        SatzTyp satzTyp = satz.getSatzTyp();
+        Satzschema schema = schemas.get(satzTyp);
+        if ((schema == null) || !schema.passtZu(satz)) {
+            schema = new Satzschema(satz, felder);
+            schemas.put(satzTyp, schema);
+        }
+        return schema;
+    }
+
+    private JsonGenerator getGenerator() throws IOException {
+        if (generator == null) {
+            generator = JSON_FACTORY.createGenerator(getWriter());
+            generator.setRootValueSeparator(null);
+        }
+        return generator;
+    }
+
+    private static SerializedString serialized(String s) {
+        return (s == null) ? null : new SerializedString(s);
+    }
+
+    /**
+     * Das Satzschema enthaelt zu einem Satz-Layout die Feldschemas aller
+     * Teildatensaetze und die Zuordnung der Satz-Felder (siehe
+     * {@link Satz#getFelder()}) zu den Feldern der Teildatensaetze. Die
+     * Feldschemas werden erst bei der Ausgabe angelegt.
+     */
+    private static final class Satzschema {
+
+        private final Object[] layouts;
+        private final String version;
+        private final Teilschema[] teile;
+        /** Teildatensatz (obere 16 Bit) und Index (untere 16 Bit) */
+        private final int[] satzFelder;
+        private final boolean complete;
+        private Feldschema satzversion;
+        private Feldschema satzartFeld;
+        private Feldschema sparteFeld;
+
+        Satzschema(Satz satz, Feld[][] felder) {
+            List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+            Map<Feld, Integer> positionen = new IdentityHashMap<>();
+            this.layouts = Satzplan.getLayouts(satz);
+            this.version = satz.getVersion();
+            this.teile = new Teilschema[felder.length];
+            for (int i = 0; i < felder.length; i++) {
+                teile[i] = new Teilschema(teildatensaetze.get(i), felder[i]);
+                for (int j = 0; j < felder[i].length; j++) {
+                    positionen.putIfAbsent(felder[i][j], (i << 16) | j);
+                }
+            }
+            this.satzFelder = toPositionen(satz.getFelder(), positionen);
+            this.complete = satz.isComplete();
+        }
+
+        private static int[] toPositionen(Collection<Feld> felder, Map<Feld, Integer> positionen) {
+            int[] indices = new int[felder.size()];
+            int i = 0;
+            for (Feld feld : felder) {
+                Integer pos = positionen.get(feld);
+                if (pos == null) {
+                    return null;
+                }
+                indices[i] = pos;
+                i++;
+            }
+            return indices;
+        }
+
+        boolean passtZu(Satz satz) {
+            return Satzplan.passtZu(satz, layouts, version);
+        }
+
+    }
+
+    /**
+     * Das Teilschema enthaelt die Feldschemas eines Teildatensatzes und die
+     * Positionen von Satzart und Satz-Ident innerhalb seiner Felder.
+     */
+    private static final class Teilschema {
+
+        private final Feldschema[] felder;
+        private final int satzartFeld;
+        private final int[] satzIdent;
+        private final boolean complete;
+        private Feldschema satznummer;
+        private Feldschema satzversion;
+
+        Teilschema(Teildatensatz tds, Feld[] tdsFelder) {
+            this.felder = new Feldschema[tdsFelder.length];
+            this.satzartFeld = indexOf(tds.getSatzartFeld(), tdsFelder);
+            List<Zeichen> ident = tds.getSatzIdent();
+            int[] indices = new int[ident.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = indexOf(ident.get(i), tdsFelder);
+            }
+            this.satzIdent = Arrays.stream(indices).anyMatch(i -> i < 0) ? null : indices;
+            this.complete = tds.isComplete();
+        }
+
+        private static int indexOf(Feld feld, Feld[] felder) {
+            for (int i = 0; i < felder.length; i++) {
+                if (felder[i] == feld) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+    }
+
+    private enum Feldart {
+        TEXT, ZAHL, DATUM, BETRAG_MIT_VORZEICHEN
+    }
+
+    /**
+     * Das Feldschema enthaelt die bereits serialisierten Namen und die
+     * Adressen eines Felds, also alles, was nicht vom Inhalt abhaengt.
+     */
+    private static final class Feldschema {
+
+        private final Class<?> typ;
+        private final Bezeichner bezeichnerVorlage;
+        private final Align align;
+        private final Feldart art;
+        private final SerializedString name;
+        private final SerializedString technischerName;
+        private final SerializedString ausrichtung;
+        private final SerializedString format;
+        private final SerializedString bezeichnung;
+        private final int byteAdresse;
+        private final int anzahlBytes;
+        private final int endAdresse;
+        private final int nachkommastellen;
+        private Feldschema betrag;
+
+        Feldschema(Feld feld) {
+            Bezeichner bezeichner = feld.getBezeichner();
+            this.typ = feld.getClass();
+            this.bezeichnerVorlage = bezeichner;
+            this.align = feld.getAusrichtung();
+            this.art = toFeldart(feld);
+            this.name = (bezeichner == null) ? null : serialized(bezeichner.getName());
+            this.technischerName = (bezeichner == null) ? null : serialized(bezeichner.getTechnischerName());
+            this.ausrichtung = (align == null) ? null : serialized(align.name());
+            this.format = (art == Feldart.DATUM) ? serialized(((Datum) feld).getFormat()) : null;
+            this.bezeichnung = serialized(feld.getBezeichnung());
+            this.byteAdresse = feld.getByteAdresse();
+            this.anzahlBytes = feld.getAnzahlBytes();
+            this.endAdresse = feld.getEndAdresse();
+            this.nachkommastellen = (feld instanceof NumFeld) ? ((NumFeld) feld).getNachkommastellen() : 0;
+        }
+
+        private static Feldart toFeldart(Feld feld) {
+            if (feld instanceof BetragMitVorzeichen) {
+                return Feldart.BETRAG_MIT_VORZEICHEN;
+            } else if (feld instanceof Datum) {
+                return Feldart.DATUM;
+            } else if (feld instanceof NumFeld) {
+                return Feldart.ZAHL;
+            } else {
+                return Feldart.TEXT;
+            }
+        }
+
+        boolean passtZu(Feld feld) {
+            return (feld.getClass() == typ) && (feld.getByteAdresse() == byteAdresse)
+                    && (feld.getAnzahlBytes() == anzahlBytes) && (feld.getAusrichtung() == align)
+                    && (feld.getBezeichner() == bezeichnerVorlage || gleicheNamen(feld.getBezeichner()))
+                    && ((art == Feldart.TEXT)
+                        || (((NumFeld) feld).getNachkommastellen() == nachkommastellen));
+        }
+
+        private boolean gleicheNamen(Bezeichner other) {
+            return (other != null) && (bezeichnerVorlage != null)
+                    && other.getName().equals(bezeichnerVorlage.getName())
+                    && other.getTechnischerName().equals(bezeichnerVorlage.getTechnischerName());
+        }
+
     }
 
 }
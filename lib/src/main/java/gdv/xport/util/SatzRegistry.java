@@ -24,6 +24,7 @@ import gdv.xport.io.PushbackLineNumberReader;
 import gdv.xport.satz.Datensatz;
 import gdv.xport.satz.Nachsatz;
 import gdv.xport.satz.Satz;
+import gdv.xport.satz.SatzLayout;
 import gdv.xport.satz.Vorsatz;
 import gdv.xport.satz.xml.SatzXml;
 import gdv.xport.satz.xml.XmlService;
@@ -39,7 +40,9 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.AbstractMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -63,9 +66,11 @@ public class SatzRegistry implements VersionHandler {
     public static final Validator VALIDATOR = new Validator();
     /** Dieser Validator akzeptiert alle Satzarten zwischen 0 und 9999. */
     public static final Validator NO_VALIDATOR = new Validator(Range.between(0, 9999));
-    private static final Map<Config, SatzRegistry> INSTANCES = new HashMap<>();
-    private static final Map<Map.Entry<SatzTyp, String>, Satz> SATZTYP_VERSIONEN = new HashMap<>();
+    private static final Map<Config, SatzRegistry> INSTANCES = new ConcurrentHashMap<>();
+    private static volatile SatzVersionen satzVersionen;
+    private static final Map<Map.Entry<SatzTyp, String>, SatzLayout> LAYOUT_VERSIONEN = new ConcurrentHashMap<>();
     private final Map<SatzTyp, Satz> registeredSaetze = new ConcurrentHashMap<>();
+    private final Map<SatzTyp, SatzLayout> layouts = new ConcurrentHashMap<>();
     private final XmlService xmlService;
 
     private SatzRegistry(XmlService xmlService) {
@@ -91,13 +96,16 @@ public class SatzRegistry implements VersionHandler {
      */
     public static SatzRegistry getInstance(final Config cfg) {
         SatzRegistry factory = INSTANCES.get(cfg);
-        try {
-            if (factory == null) {
-                factory = new SatzRegistry(XmlService.getInstance(cfg));
-                INSTANCES.put(cfg, factory);
-                LOG.info("{} wurde angelegt.", factory);
-            }
+        if (factory != null) {
             return factory;
+        }
+        try {
+            XmlService xmlService = XmlService.getInstance(cfg);
+            return INSTANCES.computeIfAbsent(cfg, c -> {
+                SatzRegistry registry = new SatzRegistry(xmlService);
+                LOG.info("{} wurde angelegt.", registry);
+                return registry;
+            });
         } catch (XMLStreamException | IOException ex) {
             throw new IllegalArgumentException("invalid config: " + cfg, ex);
         }
@@ -126,57 +134,51 @@ public class SatzRegistry implements VersionHandler {
      * @since 5.2
      */
     public static Satz getSatz(SatzTyp satzTyp, String version) {
-        Map.Entry<SatzTyp, String> satzTypVersion = new AbstractMap.SimpleEntry<>(satzTyp, version);
-        Satz satz = SATZTYP_VERSIONEN.get(satzTypVersion);
+        Satz satz = getSatzVersionen().get(satzTyp, version);
         if (satz == null) {
-            satz = getSatz(satzTypVersion);
-            SATZTYP_VERSIONEN.put(satzTypVersion, satz);
+            return getInstance().getSatz(satzTyp);
         }
         try {
-            return (Satz) satz.clone();
+            Satz copy = (Satz) satz.clone();
+            if ((copy instanceof Datensatz) && satzTyp.hasSparte()) {
+                ((Datensatz) copy).setSparte(satzTyp.getSparte());
+            }
+            return copy;
         } catch (CloneNotSupportedException ex) {
             LOG.warn("Clone von {} hat nicht geklappt:", satz, ex);
-            return getSatz(satzTypVersion);
+            return getInstance().getSatz(satzTyp);
         }
     }
 
-    private static Satz getSatz(Map.Entry<SatzTyp, String> satzTypVersion) {
-        createInstances();
-        SatzTyp satzTyp = satzTypVersion.getKey();
-        Satz satz = getInstance().getSatz(satzTyp);
-        String version = satzTypVersion.getValue();
-        float satzVersion = asFloat(satz.getVersion());
-        float requiredVersion = asFloat(version);
-        for (SatzRegistry registry : INSTANCES.values()) {
-            try {
-                Satz ds = registry.getSatz(satzTyp);
-                if (version.equals(ds.getVersion())) {
-                    return ds;
-                } else if ((asFloat(ds.getVersion()) < satzVersion) && (asFloat(ds.getVersion()) > requiredVersion)) {
-                    satz = ds;
-                    satzVersion = asFloat(ds.getVersion());
+    private static SatzVersionen getSatzVersionen() {
+        SatzRegistry standard = getInstance();
+        SatzVersionen table = satzVersionen;
+        if ((table == null) || (table.getStandard() != standard)) {
+            synchronized (SatzRegistry.class) {
+                table = satzVersionen;
+                if ((table == null) || (table.getStandard() != standard)) {
+                    createInstances();
+                    table = SatzVersionen.of(standard, INSTANCES.values());
+                    satzVersionen = table;
                 }
-            } catch (NotRegisteredException e) {
-                // satzTyp ist in dieser Version nicht registriert, gehe zur nächsten Version
-                LOG.debug("Satzart {} in {} nicht registriert, suche weiter", satzTyp, registry);
-                LOG.trace("Details:", e);
             }
         }
-        if (LOG.isDebugEnabled()) {
-            LOG.debug("Exakte Version {} fuer {} wurde nicht gefunden - verwende {} (Version {}).", version,
-                    satzTyp, satz.toShortString(), satz.getVersion());
-        }
-        return satz;
+        return table;
     }
 
-    private static float asFloat(String version) {
-        try {
-            return Float.parseFloat(version);
-        } catch (NumberFormatException ex) {
-            LOG.info("Kann aus '{}' keine Version ermitteln ({}).", version, ex);
-            LOG.debug("Details:", ex);
-            return 0.0F;
-        }
+    /**
+     * Liefert das (unveraenderliche) Layout des Satzes mit der gewuenschten
+     * Version. Im Gegensatz zu {@link #getSatz(SatzTyp, String)} wird das
+     * Layout nur einmal angelegt und nicht bei jedem Aufruf kopiert.
+     *
+     * @param satzTyp SatzTyp
+     * @param version gewuenschte Version
+     * @return Layout des Satzes mit der gewuenschten Version
+     * @since 6.2
+     */
+    public static SatzLayout getLayout(SatzTyp satzTyp, String version) {
+        return LAYOUT_VERSIONEN.computeIfAbsent(new AbstractMap.SimpleEntry<>(satzTyp, version),
+                e -> SatzLayout.of(getSatz(e.getKey(), e.getValue())));
     }
 
     private static void createInstances() {
@@ -201,9 +203,20 @@ public class SatzRegistry implements VersionHandler {
     @Deprecated
     public void reset() {
         registeredSaetze.clear();
+        layouts.clear();
+        invalidateVersionen();
         LOG.debug("{} wurde zurueckgesetzt.", this);
     }
 
+    /**
+     * Nach einer (De-)Registrierung muessen die Versions-Tabelle und die
+     * daraus abgeleiteten Layouts neu aufgebaut werden.
+     */
+    private static void invalidateVersionen() {
+        satzVersionen = null;
+        LAYOUT_VERSIONEN.clear();
+    }
+
     /**
      * Mit dieser Methode koennen eigene Klassen fuer (z.B. noch nicht
      * unterstuetzte Datensaetze) registriert werden. Die Kasse <em>muss</em>
@@ -277,6 +290,8 @@ public class SatzRegistry implements VersionHandler {
     public void register(final Satz satz, final SatzTyp satzNr, Validator validator) {
         validator.validate(satzNr);
         registeredSaetze.put(satzNr, satz);
+        layouts.remove(satzNr);
+        invalidateVersionen();
     }
 
     /**
@@ -288,7 +303,8 @@ public class SatzRegistry implements VersionHandler {
      */
     public void unregister(SatzTyp typ) {
         registeredSaetze.remove(typ);
-        SATZTYP_VERSIONEN.clear();
+        layouts.remove(typ);
+        invalidateVersionen();
     }
 
     /**
@@ -299,7 +315,10 @@ public class SatzRegistry implements VersionHandler {
      * @param satzNr the satz nr
      */
     public void register(final Class<? extends Datensatz> clazz, final SatzTyp satzNr) {
-        registeredSaetze.put(satzNr, generateDatensatz(satzNr, clazz));    }
+        registeredSaetze.put(satzNr, generateDatensatz(satzNr, clazz));
+        layouts.remove(satzNr);
+        invalidateVersionen();
+    }
 
     /**
      * Liefert einen (normalerweise) einen {@link Datensatz} zurueck.
@@ -321,6 +340,32 @@ public class SatzRegistry implements VersionHandler {
         }
     }
 
+    /**
+     * Liefert alle SatzTypen, die entweder registriert oder ueber die
+     * XML-Beschreibung bekannt sind.
+     *
+     * @return Menge der SatzTypen
+     */
+    Set<SatzTyp> getSatzTypen() {
+        Set<SatzTyp> typen = new HashSet<>(xmlService.getSatzTypen());
+        typen.addAll(registeredSaetze.keySet());
+        return typen;
+    }
+
+    /**
+     * Liefert das (unveraenderliche) Layout zum angegebenen SatzTyp. Das
+     * Layout wird nur beim ersten Aufruf aus dem registrierten Satz bzw.
+     * aus der XML-Beschreibung erzeugt und kann dann fuer beliebig viele
+     * {@link gdv.xport.satz.SatzRecord}s verwendet werden.
+     *
+     * @param satztyp der Satztyp
+     * @return Layout des angeforderten Satzes
+     * @since 6.2
+     */
+    public SatzLayout getLayout(final SatzTyp satztyp) {
+        return layouts.computeIfAbsent(satztyp, t -> SatzLayout.of(getSatz(t)));
+    }
+
     private static Satz newInstance(SatzTyp satztyp, Class<? extends Satz> clazz) {
         try {
             Satz satz = clazz.getDeclaredConstructor().newInstance();
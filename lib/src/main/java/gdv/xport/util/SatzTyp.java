@@ -26,6 +26,8 @@ import org.apache.commons.lang3.StringUtils;
 import javax.validation.ValidationException;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Der SatzTyp ist eine Repraesentation des Namens einer GDV-Satzdefinition bzw. seiner Bestandteile.
@@ -90,7 +92,10 @@ import java.util.Arrays;
 public class SatzTyp {
 
 	private static final Validator VALIDATOR = new Validator();
+	private static final Map<Long, SatzTyp> INSTANCES = new ConcurrentHashMap<>();
 	private final short[] teil;
+	private final String name;
+	private final long key;
 
   // Stand: seit Release 01.07.2013
   private static final int[] spartenIdentischZu_000 = { 60, 63, 65, 69, 160, 161, 162, 169, 233,
@@ -135,6 +140,19 @@ public class SatzTyp {
 	 * @since 5.0
 	 */
 	public static SatzTyp of(int... args) {
+		long k = encode(args);
+		if (k < 0) {
+			return create(args);
+		}
+		SatzTyp typ = INSTANCES.get(k);
+		if (typ == null) {
+			typ = create(args);
+			INSTANCES.putIfAbsent(k, typ);
+		}
+		return typ;
+	}
+
+	private static SatzTyp create(int... args) {
 		switch(args.length) {
 			case 1:
 				return of(String.format("%04d", args[0]));
@@ -178,6 +196,27 @@ public class SatzTyp {
 	@Deprecated
 	public SatzTyp(int... args) {
 		this.teil = createArray(VALIDATOR.verify(args));
+		this.name = getGdvSatzartName();
+		this.key = encode(toIntArray(name, "."));
+	}
+
+	/**
+	 * Packt bis zu 4 Zahlen zwischen 0 und 9999 (und deren Anzahl) in einen
+	 * long-Wert. Passen die Zahlen nicht hinein, wird -1 geliefert.
+	 */
+	private static long encode(int[] args) {
+		if ((args.length < 1) || (args.length > 4)) {
+			return -1;
+		}
+		long k = args.length;
+		for (int i = 0; i < 4; i++) {
+			int n = (i < args.length) ? args[i] : 0;
+			if ((n < 0) || (n > 9999)) {
+				return -1;
+			}
+			k = (k << 14) | n;
+		}
+		return k;
 	}
 
 	private static short[] createArray(int[] args) {
@@ -528,7 +567,7 @@ public class SatzTyp {
 	 */
 	@Override
 	public int hashCode() {
-		return toString().hashCode();
+		return name.hashCode();
 	}
 
 	/*
@@ -543,7 +582,7 @@ public class SatzTyp {
 		if (!(obj instanceof SatzTyp)) {
 			return false;
 		}
-		return this.toString().equals(obj.toString());
+		return this.name.equals(((SatzTyp) obj).name);
 	}
 
 	/*
@@ -553,7 +592,19 @@ public class SatzTyp {
 	 */
 	@Override
 	public String toString() {
-		return getGdvSatzartName();
+		return name;
+	}
+
+	/**
+	 * Liefert eine kompakte Darstellung des SatzTyps als long-Wert. Zwei
+	 * SatzTypen, die gleich sind (s. {@link #equals(Object)}), haben auch
+	 * den gleichen Schluessel.
+	 *
+	 * @return Schluessel (z.B. fuer Nachschlage-Tabellen)
+	 * @since 6.2
+	 */
+	long getKey() {
+		return key;
 	}
 
 	private void assertTrue(String attribute, boolean condition) {
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.util;
+
+import gdv.xport.satz.Satz;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Die SatzVersionen sind eine unveraenderliche Tabelle, die fuer jeden
+ * SatzTyp der Standard-Registry die Saetze aller geladenen XML-Releases
+ * (VUVM2009 - VUVM2018) mit ihrer Version enthaelt. Sie wird einmal
+ * aufgebaut, danach ist die Suche nach der passenden Version nur noch ein
+ * Zugriff ueber den {@link SatzTyp#getKey()} ohne weitere Objekt-Erzeugung
+ * und kann von beliebig vielen Threads gleichzeitig genutzt werden.
+ * <p>
+ * Versionen wie "2.4" werden dazu als Ganzzahl (2400) abgelegt, sodass
+ * auch beim Vergleich kein Float-Parsing mehr notwendig ist.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+final class SatzVersionen {
+
+    private static final Logger LOG = LogManager.getLogger(SatzVersionen.class);
+
+    private final SatzRegistry standard;
+    private final long[] keys;
+    private final Eintrag[] eintraege;
+    private final int mask;
+
+    private SatzVersionen(SatzRegistry standard, Map<Long, Eintrag> map) {
+        this.standard = standard;
+        int capacity = Integer.highestOneBit(Math.max(2, map.size() * 2) - 1) << 1;
+        this.keys = new long[capacity];
+        this.eintraege = new Eintrag[capacity];
+        this.mask = capacity - 1;
+        for (Map.Entry<Long, Eintrag> entry : map.entrySet()) {
+            int i = indexOf(entry.getKey());
+            keys[i] = entry.getKey();
+            eintraege[i] = entry.getValue();
+        }
+    }
+
+    /**
+     * Baut die Tabelle fuer alle SatzTypen der Standard-Registry auf.
+     * Gibt es die gleiche Version in mehreren Registries, gewinnt die
+     * Standard-Registry (und damit auch selbst registrierte Saetze).
+     *
+     * @param standard   die Standard-Registry
+     * @param registries alle Registries, die durchsucht werden
+     * @return die aufgebaute Tabelle
+     */
+    static SatzVersionen of(SatzRegistry standard, Collection<SatzRegistry> registries) {
+        List<SatzRegistry> sorted = new ArrayList<>();
+        sorted.add(standard);
+        for (SatzRegistry registry : registries) {
+            if (registry != standard) {
+                sorted.add(registry);
+            }
+        }
+        Map<Long, Eintrag> map = new LinkedHashMap<>();
+        for (SatzTyp typ : standard.getSatzTypen()) {
+            try {
+                map.put(typ.getKey(), new Eintrag(typ, sorted));
+            } catch (NotRegisteredException ex) {
+                LOG.debug("{} wird nicht in Versions-Tabelle aufgenommen:", typ, ex);
+            }
+        }
+        SatzVersionen table = new SatzVersionen(standard, map);
+        LOG.debug("{} wurde aufgebaut.", table);
+        return table;
+    }
+
+    /**
+     * Liefert die Standard-Registry, fuer die die Tabelle aufgebaut wurde.
+     *
+     * @return Standard-Registry
+     */
+    SatzRegistry getStandard() {
+        return standard;
+    }
+
+    /**
+     * Liefert die Vorlage fuer den gewuenschten SatzTyp und die gewuenschte
+     * Version. Gibt es die Version nicht, wird die naechst-hoehere Version
+     * genommen, die aelter als die aus der Standard-Registry ist - und
+     * sonst die aus der Standard-Registry.
+     * <p>
+     * <b>Achtung:</b> Die gelieferte Vorlage darf nicht veraendert werden.
+     * </p>
+     *
+     * @param typ     SatzTyp
+     * @param version gewuenschte Version, z.B. "2.4"
+     * @return Vorlage oder null, falls der SatzTyp nicht in der Tabelle ist
+     */
+    Satz get(SatzTyp typ, String version) {
+        int i = indexOf(typ.getKey());
+        Eintrag eintrag = eintraege[i];
+        return (eintrag == null) ? null : eintrag.get(toVersion(version));
+    }
+
+    private int indexOf(long key) {
+        int i = mix(key) & mask;
+        while ((eintraege[i] != null) && (keys[i] != key)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Wandelt die Version (z.B. "2.4") in eine Ganzzahl (2400) um. Es werden
+     * dabei bis zu 3 Nachkommastellen beruecksichtigt, sodass die Reihenfolge
+     * der bisherigen Float-Darstellung erhalten bleibt ("2.10" entspricht
+     * also "2.1"). Ungueltige (oder fehlende) Versionen werden als 0
+     * interpretiert.
+     *
+     * @param version z.B. "2.4"
+     * @return z.B. 2400
+     */
+    static int toVersion(CharSequence version) {
+        if (version == null) {
+            return 0;
+        }
+        int value = 0;
+        int scale = -1;
+        boolean digits = false;
+        for (int i = 0; i < version.length(); i++) {
+            char c = version.charAt(i);
+            if ((c >= '0') && (c <= '9')) {
+                digits = true;
+                if (scale < 0) {
+                    value = value * 10 + (c - '0');
+                } else if (scale < 3) {
+                    value = value * 10 + (c - '0');
+                    scale++;
+                }
+            } else if ((c == '.') && (scale < 0)) {
+                scale = 0;
+            } else if (c != ' ') {
+                return 0;
+            }
+        }
+        if (!digits) {
+            return 0;
+        }
+        for (int s = Math.max(0, scale); s < 3; s++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        int n = 0;
+        for (Eintrag eintrag : eintraege) {
+            if (eintrag != null) {
+                n++;
+            }
+        }
+        return this.getClass().getSimpleName() + " (" + n + " SatzTypen fuer " + standard + ")";
+    }
+
+    /**
+     * Alle Versionen eines SatzTyps.
+     */
+    private static final class Eintrag {
+
+        private final Satz standard;
+        private final int standardVersion;
+        private final int[] versionen;
+        private final Satz[] saetze;
+
+        private Eintrag(SatzTyp typ, List<SatzRegistry> registries) {
+            this.standard = registries.get(0).getSatz(typ);
+            this.standardVersion = toVersion(standard.getVersion());
+            List<Integer> vList = new ArrayList<>();
+            List<Satz> sList = new ArrayList<>();
+            for (SatzRegistry registry : registries) {
+                try {
+                    Satz satz = registry.getSatz(typ);
+                    int version = toVersion(satz.getVersion());
+                    if (!vList.contains(version)) {
+                        vList.add(version);
+                        sList.add(satz);
+                    }
+                } catch (NotRegisteredException ex) {
+                    LOG.trace("{} ist in {} nicht registriert:", typ, registry, ex);
+                }
+            }
+            this.versionen = vList.stream().mapToInt(Integer::intValue).toArray();
+            this.saetze = sList.toArray(new Satz[0]);
+        }
+
+        private Satz get(int wanted) {
+            Satz satz = standard;
+            int satzVersion = standardVersion;
+            for (int i = 0; i < versionen.length; i++) {
+                int v = versionen[i];
+                if (v == wanted) {
+                    return saetze[i];
+                } else if ((v < satzVersion) && (v > wanted)) {
+                    satz = saetze[i];
+                    satzVersion = v;
+                }
+            }
+            return satz;
+        }
+
+    }
+
+}
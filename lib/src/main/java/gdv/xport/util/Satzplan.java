@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.util;
+
+import gdv.xport.feld.Feld;
+import gdv.xport.satz.Satz;
+import gdv.xport.satz.Teildatensatz;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Der Satzplan legt fuer ein Satz-Layout fest, an welcher Position im
+ * exportierten Satz (Teildatensatz-Nummer * 256 + Byte-Adresse) die
+ * einzelnen Felder stehen. Wie bei {@link Satz#getFelder()} zaehlt dabei
+ * jeder Bezeichner nur beim ersten Auftreten.
+ * <p>
+ * Damit koennen Formatter den Inhalt der Felder direkt aus dem Puffer
+ * ausschneiden, in den der Satz ueber
+ * {@link Teildatensatz#export(byte[], int, byte[])} exportiert wurde,
+ * ohne fuer jeden Satz die Felder erneut zusammenzusuchen.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+final class Satzplan {
+
+    /** Laenge eines Teildatensatzes (ohne Zeilenende). */
+    static final int RECORD_LENGTH = 256;
+    private static final byte[] KEIN_EOD = new byte[0];
+
+    private final Object[] layouts;
+    private final String version;
+    private final Feld[] felder;
+    private final int[] positionen;
+
+    /**
+     * Berechnet den Satzplan fuer das Layout des uebergebenen Satzes.
+     *
+     * @param satz Satz mit dem gewuenschten Layout
+     */
+    Satzplan(Satz satz) {
+        List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+        Map<Feld, Integer> tdsNr = new IdentityHashMap<>();
+        for (int i = 0; i < teildatensaetze.size(); i++) {
+            for (Feld feld : teildatensaetze.get(i).getFelder()) {
+                tdsNr.putIfAbsent(feld, i);
+            }
+        }
+        this.layouts = getLayouts(satz);
+        this.version = satz.getVersion();
+        Collection<Feld> satzFelder = satz.getFelder();
+        this.felder = satzFelder.toArray(new Feld[0]);
+        this.positionen = new int[felder.length];
+        for (int i = 0; i < felder.length; i++) {
+            // abgeleitete Felder (wie beim Vorsatz) gehoeren zum 1. Teildatensatz
+            int tds = tdsNr.getOrDefault(felder[i], 0);
+            positionen[i] = tds * RECORD_LENGTH + felder[i].getByteAdresse() - 1;
+        }
+    }
+
+    /**
+     * Prueft, ob der uebergebene Satz (noch) zu diesem Satzplan passt.
+     *
+     * @param satz Satz
+     * @return true, wenn Version und Layout der Teildatensaetze
+     *         uebereinstimmen
+     */
+    boolean passtZu(Satz satz) {
+        return passtZu(satz, layouts, version);
+    }
+
+    /**
+     * Liefert die Layout-Schluessel (siehe {@link Teildatensatz#getLayoutKey()})
+     * aller Teildatensaetze des Satzes.
+     *
+     * @param satz Satz
+     * @return Layout-Schluessel, einer pro Teildatensatz
+     */
+    static Object[] getLayouts(Satz satz) {
+        List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+        Object[] keys = new Object[teildatensaetze.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = teildatensaetze.get(i).getLayoutKey();
+        }
+        return keys;
+    }
+
+    /**
+     * Prueft, ob der uebergebene Satz das Layout mit den angegebenen
+     * Layout-Schluesseln und die angegebene Version hat. Da Kopien eines
+     * Teildatensatzes denselben Layout-Schluessel haben, reicht dazu ein
+     * Identitaetsvergleich - die Felder selbst muessen nicht angefasst
+     * werden.
+     *
+     * @param satz    Satz
+     * @param layouts erwartete Layout-Schluessel (siehe {@link #getLayouts(Satz)})
+     * @param version erwartete Version
+     * @return true, wenn das Layout passt
+     */
+    static boolean passtZu(Satz satz, Object[] layouts, String version) {
+        List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+        if ((teildatensaetze.size() != layouts.length) || !version.equals(satz.getVersion())) {
+            return false;
+        }
+        for (int i = 0; i < layouts.length; i++) {
+            if (teildatensaetze.get(i).getLayoutKey() != layouts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Liefert die Anzahl der Felder.
+     *
+     * @return Anzahl der Felder
+     */
+    int size() {
+        return felder.length;
+    }
+
+    /**
+     * Liefert das i-te Feld des Layouts. Es dient nur als Vorlage fuer
+     * Bezeichner und Adressen, der Inhalt gehoert zu dem Satz, mit dem der
+     * Satzplan angelegt wurde.
+     *
+     * @param i Index
+     * @return Feld
+     */
+    Feld getFeld(int i) {
+        return felder[i];
+    }
+
+    /**
+     * Liefert die Position des i-ten Felds im exportierten Satz.
+     *
+     * @param i Index
+     * @return Position (beginnend bei 0)
+     */
+    int getPosition(int i) {
+        return positionen[i];
+    }
+
+    /**
+     * Liefert die Laenge des i-ten Felds.
+     *
+     * @param i Index
+     * @return Anzahl Bytes
+     */
+    int getLaenge(int i) {
+        return felder[i].getAnzahlBytes();
+    }
+
+    /**
+     * Exportiert alle Teildatensaetze (ohne Zeilenende) hintereinander in
+     * den uebergebenen Puffer. Ist er zu klein, wird ein neuer angelegt.
+     *
+     * @param satz   der zu exportierende Satz
+     * @param record Puffer
+     * @return Puffer mit dem exportierten Satz
+     */
+    static byte[] export(Satz satz, byte[] record) {
+        List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+        byte[] buffer = record;
+        if (buffer.length < teildatensaetze.size() * RECORD_LENGTH) {
+            buffer = new byte[teildatensaetze.size() * RECORD_LENGTH];
+        }
+        for (int i = 0; i < teildatensaetze.size(); i++) {
+            teildatensaetze.get(i).export(buffer, i * RECORD_LENGTH, KEIN_EOD);
+        }
+        return buffer;
+    }
+
+}
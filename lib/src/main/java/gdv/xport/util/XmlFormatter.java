@@ -28,11 +28,20 @@ import org.apache.logging.log4j.*;
 
 import javax.xml.stream.*;
 import java.io.*;
+import java.nio.charset.*;
 import java.util.*;
 
 /**
  * Diese Klasse dient dazu, um die verschiedenen Saetze und Felder in einer
  * XML-Struktur ausgeben zu koennen.
+ * <p>
+ * Fuer die Ausgabe der Saetze wird pro SatzTyp einmal eine
+ * {@link Satzvorlage} mit den (bereits maskierten) Start-Tags und
+ * Attributen aller Felder angelegt. Pro Satz muessen dann nur noch die
+ * Inhalte der Felder maskiert und geschrieben werden. Nur wenn der
+ * Formatter mit einem {@link XMLStreamWriter} angelegt wurde, erfolgt die
+ * Ausgabe wie bisher ueber den XMLStreamWriter.
+ * </p>
  *
  * @author oliver (ob@aosd.de)
  * @since 0.2 (13.11.2009)
@@ -41,7 +50,12 @@ public final class XmlFormatter extends AbstractFormatter {
 
     private static final Logger LOG = LogManager.getLogger(XmlFormatter.class);
     private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+    private final Map<SatzTyp, Satzvorlage> vorlagen = new HashMap<>();
+    private final StringBuilder puffer = new StringBuilder();
+    private char[] zeichen = new char[0];
     private XMLStreamWriter xmlStreamWriter;
+    private boolean direkt;
+    private CharsetEncoder encoder;
 
     /**
      * Default-Konstruktor.
@@ -61,6 +75,11 @@ public final class XmlFormatter extends AbstractFormatter {
         super(writer);
         try {
             this.xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(writer);
+            if (writer instanceof OutputStreamWriter) {
+                setDirekt(Charset.forName(((OutputStreamWriter) writer).getEncoding()));
+            } else {
+                setDirekt(null);
+            }
         } catch (XMLStreamException ex) {
             throw new ShitHappenedException("you should never see this", ex);
         } catch (FactoryConfigurationError ex) {
@@ -87,6 +106,7 @@ public final class XmlFormatter extends AbstractFormatter {
         super(new OutputStreamWriter(ostream, Config.DEFAULT_ENCODING));
         try {
             this.xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(ostream, Config.DEFAULT_ENCODING.name());
+            setDirekt(Config.DEFAULT_ENCODING);
         } catch (XMLStreamException ex) {
             throw new ShitHappenedException("you should never see this", ex);
         } catch (FactoryConfigurationError ex) {
@@ -106,6 +126,7 @@ public final class XmlFormatter extends AbstractFormatter {
             this.xmlStreamWriter = XML_OUTPUT_FACTORY
                     .createXMLStreamWriter(new WriterOutputStream(writer, Config.DEFAULT_ENCODING),
                             Config.DEFAULT_ENCODING.name());
+            setDirekt(Config.DEFAULT_ENCODING);
         } catch (XMLStreamException ex) {
             throw new IllegalArgumentException("can't create XmlStreamWriter with " + writer, ex);
         }
@@ -121,11 +142,26 @@ public final class XmlFormatter extends AbstractFormatter {
         super.setWriter(ostream);
         try {
             this.xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(ostream, Config.DEFAULT_ENCODING.name());
+            setDirekt(Config.DEFAULT_ENCODING);
         } catch (XMLStreamException ex) {
             throw new IllegalArgumentException("can't create XmlStreamWriter with " + ostream, ex);
         }
     }
 
+    /**
+     * Die Saetze koennen direkt (ueber die {@link Satzvorlage}) in den
+     * Writer geschrieben werden. Zeichen, die im angegebenen Encoding nicht
+     * darstellbar sind, werden dabei wie beim XMLStreamWriter als
+     * Zeichenreferenz ausgegeben.
+     *
+     * @param charset Encoding des Writers (oder null)
+     */
+    private void setDirekt(Charset charset) {
+        this.direkt = true;
+        this.encoder = (charset == null) ? null : charset.newEncoder();
+        this.vorlagen.clear();
+    }
+
     /**
      * Ausgabe eines Feldes als XML.
      *
@@ -190,7 +226,11 @@ public final class XmlFormatter extends AbstractFormatter {
             if (satz.getSatzart() == 1) {
                 this.writeHead();
             }
-            write(satz, 1);
+            if (direkt) {
+                writeVorlage(satz);
+            } else {
+                write(satz, 1);
+            }
             if (satz.getSatzart() == 9999) {
                 this.writeTail();
             }
@@ -199,6 +239,87 @@ public final class XmlFormatter extends AbstractFormatter {
         }
     }
 
+    private void writeVorlage(final Satz satz) throws IOException {
+        Satzvorlage vorlage = getSatzvorlage(satz);
+        puffer.setLength(0);
+        puffer.append("  <satz satzart=\"");
+        escape(satz.getSatzartFeld().getInhalt(), true);
+        if (satz instanceof Datensatz) {
+            puffer.append("\" sparte=\"");
+            escape(((Datensatz) satz).getSparteFeld().getInhalt(), true);
+        }
+        puffer.append("\">\n");
+        List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+        for (int i = 0; i < teildatensaetze.size(); i++) {
+            Teildatensatz teildatensatz = teildatensaetze.get(i);
+            puffer.append("    <teildatensatz nr=\"");
+            escape(teildatensatz.getSatznummer().getInhalt(), true);
+            puffer.append("\">\n");
+            String[] feldAnfaenge = vorlage.feldAnfaenge[i];
+            int j = 0;
+            for (Feld feld : teildatensatz.getFelder()) {
+                puffer.append(feldAnfaenge[j]);
+                escape(feld.getInhalt(), false);
+                puffer.append("</feld>\n");
+                j++;
+            }
+            puffer.append("    </teildatensatz>\n");
+        }
+        puffer.append("  </satz>\n");
+        int length = puffer.length();
+        if (zeichen.length < length) {
+            zeichen = new char[length];
+        }
+        puffer.getChars(0, length, zeichen, 0);
+        getWriter().write(zeichen, 0, length);
+        getWriter().flush();
+    }
+
+    private Satzvorlage getSatzvorlage(final Satz satz) {
+        SatzTyp satzTyp = satz.getSatzTyp();
+        Satzvorlage vorlage = vorlagen.get(satzTyp);
+        if ((vorlage == null) || !vorlage.passtZu(satz)) {
+            vorlage = new Satzvorlage(satz, encoder);
+            vorlagen.put(satzTyp, vorlage);
+        }
+        return vorlage;
+    }
+
+    private void escape(final String s, final boolean attribute) {
+        escape(puffer, s, attribute, encoder);
+    }
+
+    /**
+     * Maskiert die Zeichen so, wie es auch der XMLStreamWriter macht.
+     */
+    private static void escape(final StringBuilder buf, final String s, final boolean attribute,
+                               final CharsetEncoder encoder) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '&':
+                    buf.append("&amp;");
+                    break;
+                case '<':
+                    buf.append("&lt;");
+                    break;
+                case '>':
+                    buf.append("&gt;");
+                    break;
+                case '"':
+                    buf.append(attribute ? "&quot;" : "\"");
+                    break;
+                default:
+                    if ((c >= 0x80) && (encoder != null) && !encoder.canEncode(c)) {
+                        buf.append("&#x").append(Integer.toHexString(c)).append(';');
+                    } else {
+                        buf.append(c);
+                    }
+                    break;
+            }
+        }
+    }
+
     private void write(final Satz satz, final int level) throws XMLStreamException {
         writeIndent(level);
         xmlStreamWriter.writeStartElement("satz");
@@ -226,6 +347,7 @@ public final class XmlFormatter extends AbstractFormatter {
         xmlStreamWriter.writeNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
         xmlStreamWriter.writeNamespace("schemaLocation", "https://raw.githubusercontent.com/oboehm/gdv.xport/master/lib/src/main/resources/xsd/datenpaket.xsd");
         xmlStreamWriter.writeCharacters("\n");
+        xmlStreamWriter.flush();
     }
 
     private void writeTail() throws XMLStreamException {
@@ -325,4 +447,45 @@ public final class XmlFormatter extends AbstractFormatter {
         }
     }
 
+    /**
+     * Die Satzvorlage enthaelt zu einem Satz-Layout fuer jedes Feld das
+     * bereits maskierte Start-Tag mit den Attributen "bytes" und
+     * "bezeichnung", die sonst fuer jedes Feld neu formattiert werden
+     * muessten.
+     */
+    private static final class Satzvorlage {
+
+        private final Object[] layouts;
+        private final String version;
+        private final String[][] feldAnfaenge;
+
+        Satzvorlage(Satz satz, CharsetEncoder encoder) {
+            List<Teildatensatz> teildatensaetze = satz.getTeildatensaetze();
+            this.layouts = Satzplan.getLayouts(satz);
+            this.version = satz.getVersion();
+            this.feldAnfaenge = new String[teildatensaetze.size()][];
+            StringBuilder buf = new StringBuilder();
+            for (int i = 0; i < teildatensaetze.size(); i++) {
+                Collection<Feld> felder = teildatensaetze.get(i).getFelder();
+                feldAnfaenge[i] = new String[felder.size()];
+                int j = 0;
+                for (Feld feld : felder) {
+                    buf.setLength(0);
+                    buf.append("      <feld bytes=\"");
+                    escape(buf, String.format("%3d-%3d", feld.getByteAdresse(), feld.getEndAdresse()), true, encoder);
+                    buf.append("\" bezeichnung=\"");
+                    escape(buf, String.format("%-30.30s", feld.getBezeichnung()), true, encoder);
+                    buf.append("\">");
+                    feldAnfaenge[i][j] = buf.toString();
+                    j++;
+                }
+            }
+        }
+
+        boolean passtZu(Satz satz) {
+            return Satzplan.passtZu(satz, layouts, version);
+        }
+
+    }
+
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport;
+
+import gdv.xport.io.ImportException;
+import gdv.xport.satz.Datensatz;
+import gdv.xport.satz.Satz;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Unit-Tests fuer {@link DatenpaketIndex}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class DatenpaketIndexTest {
+
+    private static final File MUSTERDATEI = new File("src/test/resources/musterdatei_041222.txt");
+
+    @Test
+    public void testIndex() throws IOException {
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            assertThat(index.size(), greaterThan(2));
+            assertEquals(1, index.getSatzart(0));
+            assertEquals(1, index.getLineNumber(0));
+            assertEquals(0L, index.getOffset(0));
+            assertEquals(9999, index.getSatzart(index.size() - 1));
+            assertEquals(index.size(), index.getLineNumber(index.size() - 1));
+            assertEquals('1', index.getTeildatensatzNummer(0));
+            assertEquals('2', index.getTeildatensatzNummer(1));
+        }
+    }
+
+    @Test
+    public void testIterator() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.importFrom(MUSTERDATEI);
+        List<Satz> saetze = new ArrayList<>();
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            index.forEach(saetze::add);
+        }
+        assertEquals(datenpaket.getAllSaetze(), saetze);
+    }
+
+    @Test
+    public void testGetSaetzeInBloecken() throws IOException {
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            List<Satz> expected = new ArrayList<>();
+            index.forEach(expected::add);
+            int mitte = index.size() / 2;
+            while (index.getTeildatensatzNummer(mitte) != '1') {
+                mitte++;
+            }
+            List<Satz> saetze = new ArrayList<>(index.getSaetze(0, mitte));
+            saetze.addAll(index.getSaetze(mitte, index.size()));
+            assertEquals(expected, saetze);
+        }
+    }
+
+    @Test
+    public void testGetSaetzeParallel() throws IOException {
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            List<Satz> expected = new ArrayList<>();
+            index.forEach(expected::add);
+            assertEquals(expected, index.getSaetze(ForkJoinPool.commonPool()));
+        }
+    }
+
+    @Test
+    public void testGetSaetzeInKleinenBloecken() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(64);
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            List<Satz> expected = new ArrayList<>();
+            index.forEach(expected::add);
+            // Record 3 ist Teildatensatz 2 von Satzart 0100, d.h. bei einer
+            // Block-Groesse von 3 liegt die erste Block-Grenze mitten im Satz
+            assertEquals('2', index.getTeildatensatzNummer(3));
+            for (int blockSize = 1; blockSize <= 5; blockSize++) {
+                index.setMinBlockSize(blockSize);
+                assertEquals("block size " + blockSize, expected, index.getSaetze(pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIndexOfSatzart() throws IOException {
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            assertEquals(0, index.indexOfSatzart(1));
+            assertEquals(index.size() - 1, index.indexOfSatzart(9999));
+            assertEquals(-1, index.indexOfSatzart(4711));
+        }
+    }
+
+    @Test
+    public void testFindVersicherungsscheinNummer() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.importFrom(MUSTERDATEI);
+        Datensatz datensatz = datenpaket.getDatensaetze().get(0);
+        String vsNr = datensatz.getVersicherungsscheinNummer();
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            List<Integer> found = index.findVersicherungsscheinNummer(vsNr);
+            assertThat(found, not(empty()));
+            assertEquals(datensatz, index.getSatz(found.get(0)));
+            Datenpaket subset = index.getDatenpaket(found);
+            for (Datensatz ds : subset.getDatensaetze()) {
+                assertEquals(vsNr.trim(), ds.getVersicherungsscheinNummer().trim());
+            }
+            List<Satz> saetze = new ArrayList<>();
+            saetze.add(datenpaket.getVorsatz());
+            datenpaket.getDatensaetze().stream()
+                    .filter(ds -> vsNr.trim().equals(ds.getVersicherungsscheinNummer().trim()))
+                    .forEach(saetze::add);
+            Datenpaket expected = Datenpaket.of(saetze);
+            assertThat(found.size(), greaterThan(saetze.size() - 1));
+            assertEquals(saetze.size() - 1, subset.getDatensaetze().size());
+            assertEquals(expected.getNachsatz().getAnzahlSaetze(), subset.getNachsatz().getAnzahlSaetze());
+            assertEquals(expected.getNachsatz(), subset.getNachsatz());
+        }
+    }
+
+    @Test
+    public void testGetRecord() throws IOException {
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            for (int n = 0; n < index.size(); n += index.getSatz(n).getNumberOfTeildatensaetze()) {
+                assertEquals(index.getSatz(n), index.getRecord(n).toSatz());
+            }
+        }
+    }
+
+    @Test
+    public void testExport() throws IOException {
+        try (DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI)) {
+            ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+            index.export(0, 1, ostream);
+            String exported = new String(ostream.toByteArray(), StandardCharsets.ISO_8859_1);
+            assertEquals(index.getSatz(0).getTeildatensatz(1).toLongString().trim(), exported.trim());
+        }
+    }
+
+    @Test
+    public void testLineNumberInImportException() throws IOException {
+        List<String> lines = Files.readAllLines(MUSTERDATEI.toPath(), StandardCharsets.ISO_8859_1);
+        lines.set(9, "02X0" + lines.get(9).substring(4));
+        File corrupt = File.createTempFile("corrupt", ".gdv");
+        corrupt.deleteOnExit();
+        Files.write(corrupt.toPath(), lines, StandardCharsets.ISO_8859_1);
+        try (DatenpaketIndex index = DatenpaketIndex.of(corrupt)) {
+            assertEquals(10, index.getLineNumber(9));
+            ImportException ex = assertThrows(ImportException.class, () -> index.getSatz(9));
+            assertThat(ex.getMessage(), startsWith("line 9:"));
+            ex = assertThrows(ImportException.class, () -> index.getSaetze(5, 12));
+            assertThat(ex.getMessage(), startsWith("line 9:"));
+        }
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        DatenpaketIndex index = DatenpaketIndex.of(MUSTERDATEI);
+        index.close();
+        assertThrows(IllegalStateException.class, () -> index.getSatz(0));
+    }
+
+}
@@ -14,6 +14,10 @@ package gdv.xport;
 
 import gdv.xport.config.Config;
 import gdv.xport.event.ImportStatistic;
+import gdv.xport.event.SatzSubscriber;
+import gdv.xport.satz.Satz;
+import gdv.xport.satz.SatzRecord;
+import gdv.xport.satz.Vorsatz;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hamcrest.MatcherAssert;
@@ -22,8 +26,15 @@ import patterntesting.runtime.annotation.IntegrationTest;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -89,6 +100,128 @@ public final class DatenpaketStreamerTest {
         MatcherAssert.assertThat("drei_datenpakete.txt hat drei Datenpakete, also drei Nachsaetze", statistic.getImportedNachsaetze(), is(3));
     }
 
+    @Test
+    public void testStream() throws IOException {
+        try (InputStream istream = this.getClass().getResourceAsStream("/drei_datenpakete.txt")) {
+            ImportStatistic statistic = new ImportStatistic();
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(statistic);
+            List<Satz> vorsaetze = streamer.stream().filter(s -> s instanceof Vorsatz).collect(Collectors.toList());
+            assertEquals(3, vorsaetze.size());
+            assertEquals(15, statistic.getImportedSaetze());
+        }
+    }
+
+    @Test
+    public void testStreamLimit() throws IOException {
+        try (InputStream istream = this.getClass().getResourceAsStream("/drei_datenpakete.txt")) {
+            ImportStatistic statistic = new ImportStatistic();
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(statistic);
+            assertEquals(2, streamer.stream().limit(2).count());
+            assertEquals(2, statistic.getImportedSaetze());
+        }
+    }
+
+    /**
+     * Im Record-Modus sollen dieselben Saetze wie ueber {@link DatenpaketStreamer#stream()}
+     * gelesen werden, ohne dass Listener informiert werden.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testRecords() throws IOException {
+        List<Satz> saetze;
+        try (InputStream istream = this.getClass().getResourceAsStream("/drei_datenpakete.txt")) {
+            saetze = new DatenpaketStreamer(istream).stream().collect(Collectors.toList());
+        }
+        try (InputStream istream = this.getClass().getResourceAsStream("/drei_datenpakete.txt")) {
+            ImportStatistic statistic = new ImportStatistic();
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(statistic);
+            List<SatzRecord> records = streamer.records().collect(Collectors.toList());
+            assertEquals(saetze.size(), records.size());
+            for (int i = 0; i < saetze.size(); i++) {
+                assertEquals(saetze.get(i).getSatzTyp(), records.get(i).getSatzTyp());
+                assertEquals(saetze.get(i).toLongString(), records.get(i).toSatz().toLongString());
+            }
+            assertEquals(0, statistic.getImportedSaetze());
+        }
+    }
+
+    @Test
+    public void testSubscribe() throws IOException {
+        try (InputStream istream = this.getClass().getResourceAsStream("/drei_datenpakete.txt")) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            List<Satz> saetze = new ArrayList<>();
+            AtomicBoolean completed = new AtomicBoolean();
+            streamer.subscribe(new SatzSubscriber() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Satz satz) {
+                    saetze.add(satz);
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    throw new AssertionError(error);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.set(true);
+                }
+            });
+            assertEquals(15, saetze.size());
+            assertTrue(completed.get());
+        }
+    }
+
+    @Test
+    public void testSubscribeCancel() throws IOException {
+        try (InputStream istream = this.getClass().getResourceAsStream("/drei_datenpakete.txt")) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            List<Satz> saetze = new ArrayList<>();
+            streamer.subscribe(new SatzSubscriber() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Satz satz) {
+                    saetze.add(satz);
+                    if (satz.getSatzart() == 9999) {
+                        subscription.cancel();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    throw new AssertionError(error);
+                }
+
+                @Override
+                public void onComplete() {
+                    throw new AssertionError("cancelled subscription should not complete");
+                }
+            });
+            assertEquals(5, saetze.size());
+            assertThat(saetze.get(0), instanceOf(Vorsatz.class));
+        }
+    }
+
     @Test
     public void testImportKlausTest() throws IOException {
         importStrict("/datenpakete/Klaus_Test.gdv");
@@ -46,9 +46,12 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
@@ -325,6 +328,7 @@ public final class DatenpaketTest {
         List<ConstraintViolation> violations = datenpaket.validate();
         LOG.info("violations = {}", violations);
         assertTrue(datenpaket.isValid());
+        assertEquals(30, datenpaket.getDatensaetze().get(0).getSparte());
 
         // test that every teildatensatz of all datensaetze has the correct satznummer (according to the identified
         // teildatensatz
@@ -347,6 +351,58 @@ public final class DatenpaketTest {
         assertEquals("BRBRIENNEE,J\u00dcRGEN", datenpaket.getAdressat());
     }
 
+    @Test
+    public void testImportFromFileParallel() throws IOException {
+        File file = new File("src/test/resources", "musterdatei_041222.txt");
+        datenpaket.importFrom(file);
+        Datenpaket parallel = new Datenpaket().importFrom(file, ForkJoinPool.commonPool());
+        assertEquals(datenpaket.getAllSaetze(), parallel.getAllSaetze());
+        assertEquals(datenpaket.pack().getAllSaetze(), parallel.pack().getAllSaetze());
+    }
+
+    @Test
+    public void testImportFromFileParallelBisNachsatz() throws IOException {
+        File musterdatei = new File("src/test/resources", "musterdatei_041222.txt");
+        File file = new File("target/export", "zwei-datenpakete.txt");
+        file.getParentFile().mkdirs();
+        byte[] content = Files.readAllBytes(musterdatei.toPath());
+        Files.write(file.toPath(), content);
+        Files.write(file.toPath(), content, StandardOpenOption.APPEND);
+        datenpaket.importFrom(file);
+        Datenpaket parallel = new Datenpaket().importFrom(file, ForkJoinPool.commonPool());
+        assertEquals(datenpaket.getAllSaetze(), parallel.getAllSaetze());
+    }
+
+    @Test
+    public void testBulkImport() throws IOException {
+        String content = getResourceAsString("/musterdatei_041222.txt");
+        datenpaket.setBulkImport(true);
+        datenpaket.importFrom(content);
+        checkExportWith(content);
+        Datenpaket eager = new Datenpaket().importFrom(content);
+        assertEquals(eager.getAllSaetze(), datenpaket.getAllSaetze());
+        assertEquals(eager.validate().toString(), datenpaket.validate().toString());
+    }
+
+    @Test
+    public void testExportFileParallel() throws IOException {
+        datenpaket.importFrom(new File("src/test/resources", "musterdatei_041222.txt"));
+        List<Datensatz> datensaetze = new ArrayList<>(datenpaket.getDatensaetze());
+        while (datenpaket.getDatensaetze().size() < 5000) {
+            datensaetze.forEach(datenpaket::add);
+        }
+        File sequentiell = new File("target/export", "sequentiell.txt");
+        File parallel = new File("target/export", "parallel.txt");
+        datenpaket.export(sequentiell);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            datenpaket.export(parallel, pool);
+        } finally {
+            pool.shutdown();
+        }
+        FileTester.assertContentEquals(sequentiell, parallel);
+    }
+
     /**
      * Der Test wurde als IntegrationTest markiert, da dazu eine Online-Verbindung
      * noetig ist (die nicht immer vorausgesetzt werden kann).
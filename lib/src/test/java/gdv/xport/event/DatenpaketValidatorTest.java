@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.event;
+
+import gdv.xport.Datenpaket;
+import gdv.xport.DatenpaketStreamer;
+import gdv.xport.config.Config;
+import net.sf.oval.ConstraintViolation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link DatenpaketValidator}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class DatenpaketValidatorTest {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    @Test
+    public void testMusterdatei() throws IOException {
+        List<ConstraintViolation> violations = validate("/musterdatei_041222.txt", Config.LAX);
+        LOG.info("violations = {}", violations);
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    public void testZweiDatenpakete() throws IOException {
+        List<ConstraintViolation> violations = validate("/zwei_datenpakete.txt", Config.STRICT);
+        LOG.info("violations = {}", violations);
+        assertTrue(violations.size() > 0);
+    }
+
+    @Test
+    public void testFalscheFolgenummer() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        try (InputStream istream = getClass().getResourceAsStream("/musterdatei_041222.txt")) {
+            datenpaket.importFrom(istream);
+        }
+        datenpaket.getDatensaetze().get(1).setFolgenummer(5);
+        List<ConstraintViolation> violations = new ArrayList<>();
+        DatenpaketValidator validator = new DatenpaketValidator(Config.LAX, violations::add);
+        validator.notice(datenpaket.getVorsatz());
+        datenpaket.getDatensaetze().forEach(validator::notice);
+        validator.notice(datenpaket.getNachsatz());
+        LOG.info("violations = {}", violations);
+        assertEquals(1, violations.size());
+        assertEquals(1, validator.getAnzahlViolations());
+    }
+
+    @Test
+    public void testFolgenummerNichtNumerisch() throws IOException {
+        for (String folgenummer : new String[]{"  ", "xx"}) {
+            String content = readMusterdatei();
+            int pos = content.indexOf("\n0200") + 31;
+            content = content.substring(0, pos) + folgenummer + content.substring(pos + 2);
+            List<ConstraintViolation> violations = new ArrayList<>();
+            DatenpaketStreamer streamer = new DatenpaketStreamer(new StringReader(content));
+            streamer.register(new DatenpaketValidator(Config.LAX, violations::add));
+            streamer.readDatenpaket();
+            LOG.info("violations = {}", violations);
+            assertThat(violations, hasItem(hasProperty("invalidValue", is(folgenummer))));
+        }
+    }
+
+    private static String readMusterdatei() throws IOException {
+        try (InputStream istream = DatenpaketValidatorTest.class.getResourceAsStream("/musterdatei_041222.txt")) {
+            return IOUtils.toString(istream, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private static List<ConstraintViolation> validate(String resource, Config config) throws IOException {
+        List<ConstraintViolation> violations = new ArrayList<>();
+        try (InputStream istream = DatenpaketValidatorTest.class.getResourceAsStream(resource)) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(new DatenpaketValidator(config, violations::add));
+            while (streamer.canReadDatenpaket()) {
+                streamer.readDatenpaket();
+            }
+        }
+        return violations;
+    }
+
+}
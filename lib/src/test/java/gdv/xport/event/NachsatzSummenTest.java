@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.event;
+
+import gdv.xport.Datenpaket;
+import gdv.xport.DatenpaketStreamer;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.satz.Datensatz;
+import gdv.xport.satz.Nachsatz;
+import gdv.xport.util.SatzRegistry;
+import gdv.xport.util.SatzTyp;
+import net.sf.oval.ConstraintViolation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link NachsatzSummen}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class NachsatzSummenTest {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    @Test
+    public void testMusterdatei() throws IOException {
+        List<ConstraintViolation> violations = new ArrayList<>();
+        NachsatzSummen summen = new NachsatzSummen(violations::add);
+        try (InputStream istream = getClass().getResourceAsStream("/musterdatei_041222.txt")) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(summen);
+            streamer.readDatenpaket();
+        }
+        LOG.info("violations = {}", violations);
+        assertTrue(violations.isEmpty());
+        assertEquals(0, summen.getAnzahlAbweichungen());
+    }
+
+    @Test
+    public void testSummen() throws IOException {
+        Datenpaket datenpaket = importMusterdatei();
+        NachsatzSummen summen = new NachsatzSummen();
+        summen.notice(datenpaket.getVorsatz());
+        datenpaket.getDatensaetze().forEach(summen::notice);
+        Nachsatz nachsatz = datenpaket.getNachsatz();
+        assertEquals(nachsatz.getAnzahlSaetze(), summen.getAnzahlSaetze());
+        assertEquals(nachsatz.getGesamtBeitrag().toBigDecimal(), summen.getGesamtBeitrag());
+        assertNachsatzSummen(nachsatz, summen);
+    }
+
+    @Test
+    public void testNegativeBetraege() {
+        Datenpaket datenpaket = new Datenpaket();
+        Datensatz inkasso = SatzRegistry.getInstance().getDatensatz(SatzTyp.of("0400"));
+        setBetrag(inkasso, Bezeichner.GESAMTBEITRAG_BRUTTO_IN_WAEHRUNGSEINHEITEN, Bezeichner.VORZEICHEN4, "-123.45");
+        setBetrag(inkasso, Bezeichner.GESAMTPROVISIONSBETRAG_IN_WAEHRUNGSEINHEITEN, Bezeichner.VORZEICHEN5, "-12.34");
+        datenpaket.add(inkasso);
+        Datensatz schaden = SatzRegistry.getInstance().getDatensatz(SatzTyp.of("0500"));
+        setBetrag(schaden, Bezeichner.BETRAG_IN_WAEHRUNGSEINHEITEN_GEMAESS_ZAHLUNGSART, Bezeichner.VORZEICHEN,
+                "-500.00");
+        setBetrag(schaden, Bezeichner.SCHADENBEARBEITUNGSKOSTEN_IN_WAEHRUNGSEINHEITEN, Bezeichner.VORZEICHEN2,
+                "-50.00");
+        datenpaket.add(schaden);
+        List<ConstraintViolation> violations = new ArrayList<>();
+        NachsatzSummen summen = new NachsatzSummen(violations::add);
+        summen.notice(datenpaket.getVorsatz());
+        datenpaket.getDatensaetze().forEach(summen::notice);
+        Nachsatz nachsatz = datenpaket.getNachsatz();
+        assertEquals(new BigDecimal("-123.45"), summen.getGesamtBeitragBrutto());
+        assertEquals(new BigDecimal("-12.34"), summen.getGesamtProvisionsBetrag());
+        assertEquals(new BigDecimal("-500.00"), summen.getVersicherungsLeistungen());
+        assertEquals(new BigDecimal("-50.00"), summen.getSchadenbearbeitungskosten());
+        assertNachsatzSummen(nachsatz, summen);
+        summen.notice(nachsatz);
+        LOG.info("violations = {}", violations);
+        assertTrue(violations.isEmpty());
+    }
+
+    private static void setBetrag(Datensatz datensatz, Bezeichner betrag, Bezeichner vorzeichen, String wert) {
+        BigDecimal value = new BigDecimal(wert);
+        datensatz.getFeld(betrag).setInhalt(value.abs());
+        datensatz.getFeld(vorzeichen).setInhalt((value.signum() < 0) ? "-" : "+");
+    }
+
+    private static void assertNachsatzSummen(Nachsatz nachsatz, NachsatzSummen summen) {
+        assertEquals(nachsatz.getGesamtBeitragBruttoMitVorzeichen().toBigDecimal(),
+                summen.getGesamtBeitragBrutto());
+        assertEquals(nachsatz.getGesamtProvisionsBetragMitVorzeichen().toBigDecimal(),
+                summen.getGesamtProvisionsBetrag());
+        assertEquals(nachsatz.getVersicherungsLeistungenMitVorzeichen().toBigDecimal(),
+                summen.getVersicherungsLeistungen());
+        assertEquals(nachsatz.getSchadenbearbeitungskostenMitVorzeichen().toBigDecimal(),
+                summen.getSchadenbearbeitungskosten());
+    }
+
+    @Test
+    public void testFalscherGesamtBeitrag() throws IOException {
+        Datenpaket datenpaket = importMusterdatei();
+        Nachsatz nachsatz = datenpaket.getNachsatz();
+        nachsatz.setGesamtBeitrag(nachsatz.getGesamtBeitrag().toBigDecimal().add(new BigDecimal("0.01")));
+        List<ConstraintViolation> violations = new ArrayList<>();
+        NachsatzSummen summen = new NachsatzSummen(violations::add);
+        summen.notice(datenpaket.getVorsatz());
+        datenpaket.getDatensaetze().forEach(summen::notice);
+        summen.notice(nachsatz);
+        LOG.info("violations = {}", violations);
+        assertEquals(1, violations.size());
+        assertEquals(BigDecimal.ZERO.setScale(2), summen.getGesamtBeitrag());
+    }
+
+    @Test
+    public void testFalscheAnzahlSaetze() throws IOException {
+        Datenpaket datenpaket = importMusterdatei();
+        Nachsatz nachsatz = datenpaket.getNachsatz();
+        nachsatz.setAnzahlSaetze(nachsatz.getAnzahlSaetze() + 1);
+        NachsatzSummen summen = new NachsatzSummen();
+        summen.notice(datenpaket.getVorsatz());
+        datenpaket.getDatensaetze().forEach(summen::notice);
+        summen.notice(nachsatz);
+        assertEquals(1, summen.getAnzahlAbweichungen());
+    }
+
+    private static Datenpaket importMusterdatei() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        try (InputStream istream = NachsatzSummenTest.class.getResourceAsStream("/musterdatei_041222.txt")) {
+            datenpaket.importFrom(istream);
+        }
+        return datenpaket;
+    }
+
+}
@@ -149,4 +149,30 @@ public final class BetragMitVorzeichenTest extends AbstractFeldTest {
         betragMitVz.setInhalt(wert);
     }
 
+    @Test
+    public void testUnscaledValue() {
+        betrag.setUnscaledValue(-120);
+        assertEquals("0120-", betrag.getInhalt());
+        assertEquals(-120L, betrag.getUnscaledValue());
+        assertEquals(-1L, betrag.toLong());
+        assertEquals(-1.2, betrag.toDouble(), 0.0);
+        assertEquals(new BigDecimal("-1.20"), betrag.toBigDecimal());
+    }
+
+    @Test
+    public void testUnscaledValueNull() {
+        betrag.setUnscaledValue(0);
+        assertEquals("0000+", betrag.getInhalt());
+        assertEquals(0L, betrag.getUnscaledValue());
+    }
+
+    @Test
+    public void testUnscaledValueWieSetInhalt() {
+        BetragMitVorzeichen other = new BetragMitVorzeichen(Bezeichner.of("Test"), 5, 1);
+        other.setInhalt("0999+");
+        betrag.setUnscaledValue(999);
+        assertEquals(other.getInhalt(), betrag.getInhalt());
+        assertEquals(other.toBigDecimal(), betrag.toBigDecimal());
+    }
+
 }
@@ -28,6 +28,7 @@ import patterntesting.runtime.junit.ObjectTester;
 import patterntesting.runtime.junit.SerializableTester;
 
 import java.io.NotSerializableException;
+import java.util.Properties;
 import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -277,6 +278,30 @@ public class BezeichnerTest {
         assertThat(variants.size(), greaterThan(1));
     }
 
+    @Test
+    public void testGetVariantsCached() {
+        Set<Bezeichner> variants = Bezeichner.SATZART_0100.getVariants();
+        assertSame(variants, Bezeichner.SATZART_0100.getVariants());
+        assertThrows(UnsupportedOperationException.class, () -> variants.add(Bezeichner.ABLAUF));
+    }
+
+    @Test
+    public void testOfIgnoreCase() {
+        assertSame(Bezeichner.ZUZAHLUNGSDAT, Bezeichner.of("zuzahlungsdat"));
+        assertSame(Bezeichner.ZUZAHLUNGSDAT, Bezeichner.of("ZUZAHLUNGSDATUM"));
+    }
+
+    @Test
+    public void testOfProperties() {
+        Properties props = new Properties();
+        props.setProperty("name", "Zuzahlungsdatum");
+        props.setProperty("technischerName", "Zuzahlungsdat");
+        Bezeichner bezeichner = Bezeichner.of(props);
+        assertEquals(Bezeichner.ZUZAHLUNGSDAT, bezeichner);
+        assertEquals("Zuzahlungsdatum", bezeichner.getName());
+        assertSame(bezeichner, Bezeichner.of((Properties) props.clone()));
+    }
+
     @Test
     public void testgetVersionVariants() {
         assertThat(Bezeichner.SATZART_0100.getVariants(), hasItem(Bezeichner.VERSION_SATZART_0100));
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.feld;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link Datumsformat}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class DatumsformatTest {
+
+    @Test
+    public void testOf() {
+        assertEquals(Datumsformat.TT, Datumsformat.of(2));
+        assertEquals(Datumsformat.MMJJ, Datumsformat.of(4));
+        assertEquals(Datumsformat.MMJJJJ, Datumsformat.of(6));
+        assertEquals(Datumsformat.TTMMJJJJ, Datumsformat.of(8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOfInvalid() {
+        Datumsformat.of(3);
+    }
+
+    @Test
+    public void testIsValid() {
+        assertTrue(Datumsformat.TTMMJJJJ.isValid("29022020"));
+        assertFalse(Datumsformat.TTMMJJJJ.isValid("29022021"));
+        assertFalse(Datumsformat.TTMMJJJJ.isValid("2402202x"));
+        assertFalse(Datumsformat.TTMMJJJJ.isValid("240220"));
+        assertTrue(Datumsformat.MMJJJJ.isValid("122009"));
+        assertFalse(Datumsformat.MMJJJJ.isValid("132009"));
+        assertTrue(Datumsformat.TT.isValid("31"));
+        assertFalse(Datumsformat.TT.isValid("32"));
+    }
+
+    @Test
+    public void testToLocalDate() {
+        assertEquals(LocalDate.of(2009, 12, 24), Datumsformat.TTMMJJJJ.toLocalDate("24122009"));
+        assertEquals(LocalDate.of(2021, 2, 28), Datumsformat.TTMMJJJJ.toLocalDate("31022021"));
+        assertEquals(LocalDate.of(2009, 11, 1), Datumsformat.MMJJJJ.toLocalDate("112009"));
+        assertEquals(LocalDate.of(2009, 11, 1), Datumsformat.MMJJ.toLocalDate("1109"));
+    }
+
+    @Test(expected = DateTimeParseException.class)
+    public void testToLocalDateInvalid() {
+        Datumsformat.TTMMJJJJ.toLocalDate("32012020");
+    }
+
+    @Test
+    public void testParseLenient() {
+        assertEquals(LocalDate.of(2020, 2, 1), Datumsformat.TTMMJJJJ.parse("32012020"));
+    }
+
+    @Test
+    public void testFormat() {
+        LocalDate xmas = LocalDate.of(2009, 12, 24);
+        assertEquals("24122009", Datumsformat.TTMMJJJJ.format(xmas));
+        assertEquals("24.12.2009", Datumsformat.TTMMJJJJ.format(xmas, "."));
+        assertEquals("122009", Datumsformat.MMJJJJ.format(xmas));
+        assertEquals("1209", Datumsformat.MMJJ.format(xmas));
+        assertEquals("24", Datumsformat.TT.format(xmas));
+    }
+
+    @Test
+    public void testEpochDay() {
+        int epochDay = Datumsformat.TTMMJJJJ.toEpochDay("02011970");
+        assertEquals(1, epochDay);
+        assertEquals("02011970", Datumsformat.TTMMJJJJ.format(epochDay));
+    }
+
+}
@@ -270,4 +270,38 @@ public class NumFeldTest extends AbstractNumFeldTest {
         numFeld.setInhalt(" 1 ");
     }
 
+    @Test
+    public void testUnscaledValue() {
+        NumFeld betrag = new NumFeld(Bezeichner.of("Betrag"), 8, 1, 0, 2);
+        betrag.setUnscaledValue(12345);
+        assertEquals("00012345", betrag.getInhalt());
+        assertEquals(12345L, betrag.getUnscaledValue());
+        assertEquals(123L, betrag.toLong());
+        assertEquals(123.45, betrag.toDouble(), 0.0);
+        assertEquals(new BigDecimal("123.45"), betrag.toBigDecimal());
+    }
+
+    @Test
+    public void testUnscaledValueNull() {
+        NumFeld zahl = new NumFeld(Bezeichner.of("Zahl"), 4, 1);
+        zahl.setUnscaledValue(0);
+        assertEquals("0000", zahl.getInhalt());
+        assertEquals(0L, zahl.getUnscaledValue());
+        assertFalse(zahl.hasValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnscaledValueZuGross() {
+        NumFeld zahl = new NumFeld(Bezeichner.of("Zahl"), 4, 1).mitConfig(Config.STRICT);
+        zahl.setUnscaledValue(12345);
+    }
+
+    @Test
+    public void testSetInhaltLongMitNachkommastellen() {
+        NumFeld betrag = new NumFeld(Bezeichner.of("Betrag"), 6, 1, 0, 2);
+        betrag.setInhalt(42L);
+        assertEquals("004200", betrag.getInhalt());
+        assertEquals(42, betrag.toInt());
+    }
+
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.feld.internal;
+
+import de.jfachwert.Text;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link Zeichenklasse}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class ZeichenklasseTest {
+
+    @Test
+    public void testIsPrintable() {
+        for (char c = 0; c < 256; c++) {
+            assertEquals("char " + (int) c, Text.of(Character.toString(c)).isPrintable(),
+                    Zeichenklasse.isPrintable(c));
+        }
+        assertTrue(Zeichenklasse.isPrintable('€'));
+        assertFalse(Zeichenklasse.isPrintable('\u0080'));
+        assertFalse(Zeichenklasse.isPrintable('×'));
+    }
+
+    @Test
+    public void testIndexOfNonPrintable() {
+        assertEquals(-1, Zeichenklasse.indexOfNonPrintable("Oli B. üß €"));
+        assertEquals(3, Zeichenklasse.indexOfNonPrintable("abc\u007Fdef"));
+    }
+
+    @Test
+    public void testIsDigits() {
+        assertTrue(Zeichenklasse.isDigits("0815", 0, 4));
+        assertTrue(Zeichenklasse.isDigits(" 0815 ", 0, 6));
+        assertTrue(Zeichenklasse.isDigits("   ", 0, 3));
+        assertTrue(Zeichenklasse.isDigits("0815+", 0, 4));
+        assertFalse(Zeichenklasse.isDigits("0815+", 0, 5));
+        assertFalse(Zeichenklasse.isDigits("08 15", 0, 5));
+        assertFalse(Zeichenklasse.isDigits("١", 0, 1));
+    }
+
+    @Test
+    public void testIsSign() {
+        assertTrue(Zeichenklasse.isSign('+'));
+        assertTrue(Zeichenklasse.isSign('-'));
+        assertFalse(Zeichenklasse.isSign(' '));
+    }
+
+}
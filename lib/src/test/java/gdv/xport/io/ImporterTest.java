@@ -53,6 +53,7 @@ class ImporterTest {
                 Importer importer = Importer.of(reader);
                 SatzTyp tdsSatzTyp = importer.readSatzTyp(tds.getSatzart());
                 assertEquals(satzTyp, tdsSatzTyp);
+                assertEquals(satzTyp, importer.readSatzTyp());
             }
         }
     }
@@ -78,4 +78,18 @@ public final class PushbackLineNumberReaderTest {
         assertEquals("hello", line);
     }
 
+    /**
+     * Test method for {@link PushbackLineNumberReader#peekRecord()}.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testPeekRecord() throws IOException {
+        assertEquals(11, lineNumberReader.peekRecord());
+        assertEquals('h', lineNumberReader.getPeekedRecord()[0]);
+        assertEquals(11, lineNumberReader.peekRecord());
+        assertEquals(0, lineNumberReader.getLineNumber());
+        assertEquals("hello", lineNumberReader.readLine());
+    }
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.io;
+
+import gdv.xport.Datenpaket;
+import gdv.xport.config.Config;
+import gdv.xport.feld.AlphaNumFeld;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.satz.Datensatz;
+import gdv.xport.satz.Satz;
+import gdv.xport.satz.Teildatensatz;
+import gdv.xport.util.SatzRegistry;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit-Tests fuer {@link RecordExporter}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class RecordExporterTest {
+
+    @Test
+    public void testAllSupportedSaetze() throws IOException {
+        Datenpaket datenpaket = SatzRegistry.getInstance().getAllSupportedSaetze();
+        for (Datensatz datensatz : datenpaket.getDatensaetze()) {
+            assertExport(datensatz);
+        }
+    }
+
+    @Test
+    public void testMusterdatei() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        try (InputStream istream = getClass().getResourceAsStream("/musterdatei_041222.txt")) {
+            datenpaket.importFrom(istream);
+        }
+        StringWriter expected = new StringWriter();
+        datenpaket.export(expected);
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        datenpaket.export(ostream);
+        assertEquals(expected.toString(), new String(ostream.toByteArray(), StandardCharsets.ISO_8859_1));
+        ByteArrayOutputStream channelStream = new ByteArrayOutputStream();
+        datenpaket.export(Channels.newChannel(channelStream));
+        assertArrayEquals(ostream.toByteArray(), channelStream.toByteArray());
+    }
+
+    @Test
+    public void testExportFile() throws IOException {
+        Datenpaket datenpaket = SatzRegistry.getInstance().getAllSupportedSaetze();
+        File file = File.createTempFile("datenpaket", ".txt");
+        try {
+            datenpaket.export(file);
+            StringWriter expected = new StringWriter();
+            datenpaket.export(expected);
+            assertEquals(expected.toString(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void testSmallBlockSize() throws IOException {
+        Datenpaket datenpaket = SatzRegistry.getInstance().getAllSupportedSaetze();
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try (RecordExporter exporter = new RecordExporter(Channels.newChannel(ostream), 1)) {
+            exporter.write(datenpaket.getVorsatz());
+            exporter.write(datenpaket.getNachsatz());
+            assertEquals(datenpaket.getVorsatz().getNumberOfTeildatensaetze() + 1, exporter.getRecordNo());
+        }
+        StringWriter expected = new StringWriter();
+        datenpaket.getVorsatz().export(expected);
+        datenpaket.getNachsatz().export(expected);
+        assertEquals(expected.toString(), new String(ostream.toByteArray(), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testNonLatin1() {
+        AlphaNumFeld feld = new AlphaNumFeld(Bezeichner.NAME1, 5, 1);
+        feld.setInhalt("€1");
+        byte[] buffer = new byte[5];
+        feld.export(buffer, 0);
+        assertEquals("?1   ", new String(buffer, StandardCharsets.ISO_8859_1));
+    }
+
+    private static void assertExport(Satz satz) throws IOException {
+        byte[] eod = Config.getEOD().getBytes(StandardCharsets.ISO_8859_1);
+        for (Teildatensatz tds : satz.getTeildatensaetze()) {
+            StringWriter expected = new StringWriter();
+            tds.export(expected);
+            byte[] buffer = new byte[256 + eod.length];
+            assertEquals(buffer.length, tds.export(buffer, 0, eod));
+            assertEquals(satz.toString(), expected.toString(), new String(buffer, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.io;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit-Tests fuer {@link RecordScanner}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public class RecordScannerTest {
+
+    @Test
+    public void testRead() throws IOException {
+        try (RecordScanner scanner = createScanner("abc\n")) {
+            assertEquals('a', scanner.read());
+            assertEquals('b', scanner.read());
+            assertEquals('c', scanner.read());
+            for (int i = 3; i < 256; i++) {
+                assertEquals(i + ". character", ' ', scanner.read());
+            }
+            assertEquals('\n', scanner.read());
+            assertEquals(-1, scanner.read());
+        }
+    }
+
+    @Test
+    public void testOf() throws IOException {
+        InputStream istream = new ByteArrayInputStream("abc\n".getBytes(StandardCharsets.ISO_8859_1));
+        RecordScanner scanner = RecordScanner.of(istream);
+        assertSame(scanner, RecordScanner.of(istream));
+        scanner.close();
+        assertNotSame(scanner, RecordScanner.of(istream));
+    }
+
+    @Test
+    public void testReadCharArray() throws IOException {
+        char[] line = new char[256];
+        try (RecordScanner scanner = createScanner("Hello world!\n")) {
+            assertEquals(256, scanner.read(line));
+            assertEquals("Hello world!", new String(line).trim());
+        }
+    }
+
+    @Test
+    public void testReadUmlaute() throws IOException {
+        char[] line = new char[3];
+        try (RecordScanner scanner = createScanner("äöü")) {
+            scanner.read(line);
+            assertEquals("äöü", new String(line));
+        }
+    }
+
+    /**
+     * Der RecordScanner muss die gleichen Zeichen wie die Kombination aus
+     * InputStreamReader und {@link RecordReader} liefern - auch bei Zeilen,
+     * die kuerzer als 256 Zeichen sind.
+     *
+     * @throws IOException bei Lesefehlern
+     */
+    @Test
+    public void testSameAsRecordReader() throws IOException {
+        assertSameAsRecordReader("abc\r\n" + createRecord('x') + "\n\ndef");
+        assertSameAsRecordReader(createRecord('a') + createRecord('b'));
+    }
+
+    @Test
+    public void testFileChannel() throws IOException {
+        File file = new File("src/test/resources/musterdatei_041222.txt");
+        try (Reader reader = new RecordReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.ISO_8859_1));
+             RecordScanner scanner = new RecordScanner(FileChannel.open(file.toPath(), StandardOpenOption.READ))) {
+            assertEquals(IOUtils.toString(reader), IOUtils.toString(scanner));
+        }
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        String input = "abc\r\n" + createRecord('x') + "\n\ndef";
+        String expected;
+        try (RecordScanner scanner = createScanner(input)) {
+            expected = IOUtils.toString(scanner);
+        }
+        for (int n : new int[] { 0, 2, 256, 258, 300, expected.length() }) {
+            try (RecordScanner scanner = createScanner(input)) {
+                assertEquals(n, scanner.skip(n));
+                assertEquals("skip(" + n + ")", expected.substring(n), IOUtils.toString(scanner));
+            }
+        }
+        try (RecordScanner scanner = createScanner(input)) {
+            assertEquals(expected.length(), scanner.skip(Long.MAX_VALUE));
+            assertEquals(-1, scanner.read());
+        }
+    }
+
+    private static void assertSameAsRecordReader(String input) throws IOException {
+        try (Reader reader = new RecordReader(new InputStreamReader(toInputStream(input), StandardCharsets.ISO_8859_1));
+             RecordScanner scanner = createScanner(input)) {
+            assertEquals(IOUtils.toString(reader), IOUtils.toString(scanner));
+        }
+    }
+
+    private static RecordScanner createScanner(String input) {
+        return new RecordScanner(toInputStream(input));
+    }
+
+    private static InputStream toInputStream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static String createRecord(final char filler) {
+        char[] record = new char[256];
+        for (int i = 0; i < record.length; i++) {
+            record[i] = filler;
+        }
+        return new String(record);
+    }
+
+}
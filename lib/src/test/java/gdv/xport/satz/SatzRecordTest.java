@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.satz;
+
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.feld.Feld;
+import gdv.xport.io.PushbackLineNumberReader;
+import gdv.xport.util.SatzRegistry;
+import gdv.xport.util.SatzTyp;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit-Tests fuer {@link SatzRecord} und {@link SatzLayout}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class SatzRecordTest {
+
+    private static final SatzTyp ADRESSTEIL = SatzTyp.of("0100");
+
+    @Test
+    public void testGetLayout() {
+        SatzRegistry registry = SatzRegistry.getInstance();
+        SatzLayout layout = registry.getLayout(ADRESSTEIL);
+        assertSame(layout, registry.getLayout(ADRESSTEIL));
+        assertEquals(ADRESSTEIL, layout.getSatzTyp());
+        Satz satz = registry.getSatz(ADRESSTEIL);
+        assertEquals(satz.getNumberOfTeildatensaetze(), layout.getNumberOfTeildatensaetze());
+        int i = layout.indexOf(Bezeichner.NAME1);
+        Feld name1 = satz.getFeld(Bezeichner.NAME1);
+        assertEquals(name1.getByteAdresse() - 1, layout.getOffset(i));
+        assertEquals(name1.getAnzahlBytes(), layout.getAnzahlBytes(i));
+        assertEquals(-1, layout.indexOf(Bezeichner.of("gibt es nicht")));
+    }
+
+    @Test
+    public void testImportFrom() throws IOException {
+        Satz satz = SatzRegistry.getInstance().getSatz(ADRESSTEIL);
+        satz.setFeld(Bezeichner.NAME1, "Asterix");
+        satz.setFeld(Bezeichner.VERSICHERUNGSSCHEINNUMMER, "4711");
+        String content = satz.toLongString();
+        SatzLayout layout = SatzRegistry.getInstance().getLayout(ADRESSTEIL);
+        try (PushbackLineNumberReader reader = new PushbackLineNumberReader(new StringReader(content))) {
+            SatzRecord record = SatzRecord.importFrom(layout, reader);
+            assertEquals(satz.getNumberOfTeildatensaetze(), record.getNumberOfTeildatensaetze());
+            assertEquals(satz.getFeld(Bezeichner.NAME1).getInhalt(), record.getFeldInhalt(Bezeichner.NAME1));
+            Feld name1 = record.getFeld(Bezeichner.NAME1);
+            assertEquals("Asterix", name1.getInhalt().trim());
+            assertNotSame(name1, record.getFeld(Bezeichner.NAME1));
+            assertEquals(satz, record.toSatz());
+            StringWriter writer = new StringWriter();
+            record.export(writer);
+            assertEquals(content, writer.toString());
+        }
+    }
+
+}
@@ -28,6 +28,8 @@ import org.apache.logging.log4j.Logger;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Iterator;
 import java.util.List;
 
@@ -258,4 +260,69 @@ public class TeildatensatzTest extends AbstractSatzTest {
         assertNotNull(summe);
     }
 
+    @Test
+    public void testGetFeldCopy() {
+        Teildatensatz tds = new Vorsatz().getTeildatensatz(1);
+        Teildatensatz copy = new Teildatensatz(tds);
+        for (int nr = 1; nr <= tds.getFelder().size(); nr++) {
+            Feld feld = tds.getFeld(nr);
+            assertEquals(feld, copy.getFeld(nr));
+            assertEquals(feld, copy.getFeld(ByteAdresse.of(feld.getByteAdresse())));
+            assertNotSame(feld, copy.getFeld(nr));
+        }
+    }
+
+    @Test
+    public void testGetFeldAfterAdd() {
+        Teildatensatz tds = new Teildatensatz(SatzTyp.of(100), 1);
+        Teildatensatz copy = new Teildatensatz(tds);
+        assertFalse(copy.hasFeld(Bezeichner.PRODUKTNAME));
+        Feld feld = new AlphaNumFeld(Bezeichner.PRODUKTNAME, 20, 11);
+        copy.add(feld);
+        assertTrue(copy.hasFeld(Bezeichner.PRODUKTNAME));
+        assertSame(feld, copy.getFeld(Bezeichner.PRODUKTNAME));
+        assertFalse(tds.hasFeld(Bezeichner.PRODUKTNAME));
+    }
+
+    @Test
+    public void testImportRohdaten() throws IOException {
+        Teildatensatz vorlage = SATZ_REGISTRY.getSatz(SatzTyp.of("0100")).getTeildatensatz(1);
+        vorlage.setFeld(Bezeichner.NAME1, "Mustermann");
+        StringWriter writer = new StringWriter();
+        vorlage.export(writer, "");
+        char[] record = writer.toString().toCharArray();
+        Teildatensatz eager = SATZ_REGISTRY.getSatz(SatzTyp.of("0100")).getTeildatensatz(1).importFrom(record);
+        Teildatensatz bulk = SATZ_REGISTRY.getSatz(SatzTyp.of("0100")).getTeildatensatz(1).importRohdaten(record);
+        assertEquals("Mustermann", bulk.getFeld(Bezeichner.NAME1).getInhalt().trim());
+        assertEquals(eager.getFelder(), bulk.getFelder());
+        assertEquals(eager.toLongString(), bulk.toLongString());
+    }
+
+    @Test
+    public void testImportRohdatenSetFeld() throws IOException {
+        Teildatensatz vorlage = SATZ_REGISTRY.getSatz(SatzTyp.of("0100")).getTeildatensatz(1);
+        vorlage.setFeld(Bezeichner.NAME1, "Mustermann");
+        StringWriter writer = new StringWriter();
+        vorlage.export(writer, "");
+        Teildatensatz bulk = SATZ_REGISTRY.getSatz(SatzTyp.of("0100")).getTeildatensatz(1)
+                .importRohdaten(writer.toString().toCharArray());
+        bulk.setFeld(Bezeichner.NAME1, "Musterfrau");
+        MatcherAssert.assertThat(bulk.toLongString(), containsString("Musterfrau"));
+        Teildatensatz copy = new Teildatensatz(bulk);
+        assertEquals("Musterfrau", copy.getFeld(Bezeichner.NAME1).getInhalt().trim());
+    }
+
+    @Test
+    public void testGetLayoutKey() {
+        Satz satz = SatzRegistry.getInstance().getSatz(SatzTyp.of("0100"));
+        Teildatensatz tds = satz.getTeildatensatz(1);
+        Teildatensatz copy = new Teildatensatz(tds);
+        assertSame(tds.getLayoutKey(), copy.getLayoutKey());
+        Feld name3 = copy.getFeld(Bezeichner.NAME3);
+        copy.remove(Bezeichner.NAME3);
+        assertNotSame(tds.getLayoutKey(), copy.getLayoutKey());
+        copy.add(name3);
+        assertNotSame(tds.getLayoutKey(), copy.getLayoutKey());
+    }
+
 }
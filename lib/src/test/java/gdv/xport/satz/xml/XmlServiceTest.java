@@ -40,9 +40,14 @@ import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.is;
@@ -362,6 +367,24 @@ public class XmlServiceTest extends AbstractXmlTest {
         assertNotNull(instance);
     }
 
+    @Test
+    public void testGetInstanceConcurrent() throws InterruptedException, ExecutionException {
+        Config cfg = Config.EMPTY.withProperty("gdv.XML-Resource", "VUVM2015.xml");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<XmlService>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> XmlService.getInstance(cfg)));
+            }
+            XmlService first = futures.get(0).get();
+            for (Future<XmlService> f : futures) {
+                assertSame(first, f.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testVUVM2018() throws XMLStreamException, IOException {
         compareXml("VUVM2018xL.xml", Config.VUVM2018);
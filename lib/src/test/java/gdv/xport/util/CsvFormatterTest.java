@@ -19,6 +19,7 @@
 package gdv.xport.util;
 
 import gdv.xport.Datenpaket;
+import gdv.xport.DatenpaketStreamer;
 import gdv.xport.satz.Datensatz;
 import gdv.xport.satz.Satz;
 import gdv.xport.satz.Vorsatz;
@@ -30,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit-Test for {@link CsvFormatter}.
@@ -74,6 +76,35 @@ public final class CsvFormatterTest extends AbstractFormatterTest {
         }
     }
 
+    /**
+     * Beim Einsatz als ImportListener soll die Kopfzeile nur einmal (beim
+     * Vorsatz) ausgegeben werden und danach jeder Satz als eine Zeile.
+     *
+     * @throws IOException bei Schreib/Lese-Fehlern
+     */
+    @Test
+    public void testNotice() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.importFrom(MUSTERDATEI);
+        File output = new File("target", "musterdatei-stream.csv");
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(output), StandardCharsets.ISO_8859_1);
+             InputStream istream = new FileInputStream(MUSTERDATEI)) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(new CsvFormatter(writer));
+            streamer.readDatenpaket();
+        }
+        List<String> lines = FileUtils.readLines(output, StandardCharsets.ISO_8859_1);
+        assertEquals(datenpaket.getDatensaetze().size() + 3, lines.size());
+        assertTrue(lines.get(0).startsWith("Satzart;"));
+        assertTrue(lines.get(1).startsWith("0001;"));
+        for (int i = 0; i < datenpaket.getDatensaetze().size(); i++) {
+            Datensatz datensatz = datenpaket.getDatensaetze().get(i);
+            String[] columns = lines.get(i+2).split(";");
+            assertEquals("line " + (i+2), datensatz.getSatzart(), Integer.parseInt(columns[0]));
+        }
+        assertTrue(lines.get(lines.size() - 1).startsWith("9999;"));
+    }
+
     /**
      * Hier wird getestet, ob Strichpunkte richtig maskiert wereen. Dies ist
      * der Testfall fuer Issue #35.
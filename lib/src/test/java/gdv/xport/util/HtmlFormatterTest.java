@@ -25,7 +25,9 @@ import org.junit.Test;
 
 import javax.xml.stream.XMLStreamException;
 import java.io.IOException;
+import java.io.StringWriter;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -94,4 +96,30 @@ public class HtmlFormatterTest extends AbstractFormatterTest {
         checkNotice(new HtmlFormatter(), "musterdatei_041222.html");
     }
 
+    /**
+     * Bei grossen Datenpaketen werden die Details in eine temporaere Datei
+     * ausgelagert. Trotzdem muessen sie alle am Ende auftauchen.
+     *
+     * @throws IOException falls was schiefgelaufen ist
+     */
+    @Test
+    public void testGrossesDatenpaket() throws IOException {
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.importFrom(MUSTERDATEI);
+        for (int i = 0; i < 3; i++) {
+            Datenpaket kopie = new Datenpaket();
+            kopie.importFrom(MUSTERDATEI);
+            kopie.getDatensaetze().forEach(datenpaket::add);
+        }
+        StringWriter swriter = new StringWriter();
+        try (HtmlFormatter formatter = new HtmlFormatter(swriter)) {
+            formatter.write(datenpaket);
+        }
+        String html = swriter.toString();
+        String details = html.substring(html.indexOf("<h2>Details</h2>"));
+        assertTrue(details.length() > HtmlFormatter.MAX_DETAILS_IM_SPEICHER);
+        assertEquals(datenpaket.getDatensaetze().size() + 2, details.split("<h3>", -1).length - 1);
+        assertTrue(html.trim().endsWith("-->"));
+    }
+
 }
@@ -15,19 +15,32 @@
  *
  * (c)reated 21.02.2017 by oboehm (ob@oasd.de)
  */
+
 package gdv.xport.util;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import gdv.xport.Datenpaket;
+import gdv.xport.DatenpaketStreamer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hamcrest.MatcherAssert;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Unit-Tests fuer {@link JsonFormatter}-Klasse.
@@ -37,6 +50,7 @@ import static org.hamcrest.Matchers.startsWith;
 public final class JsonFormatterTest extends AbstractFormatterTest {
 
     private static final Logger LOG = LogManager.getLogger(JsonFormatterTest.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     @Override
     protected AbstractFormatter createFormatter() {
@@ -66,10 +80,107 @@ public final class JsonFormatterTest extends AbstractFormatterTest {
                 SatzTyp.of("0100"),
                 SatzTyp.of("0500")
         );
-        checkWrite(datenpaket);
+        String json = checkWrite(datenpaket);
+        assertEquals(OBJECT_MAPPER.valueToTree(datenpaket), OBJECT_MAPPER.readTree(json));
+    }
+
+    /**
+     * Die Ausgabe der Musterdatei vergleichen wir mit der Ausgabe, die der
+     * JsonFormatter bisher (ueber den ObjectMapper) erzeugt hat. Sie liegt
+     * gepackt unter "musterdatei_041222.json.gz". Die Musterdatei enthaelt
+     * dabei auch leere numerische Felder, die nicht zum Abbruch fuehren
+     * duerfen.
+     *
+     * @throws IOException falls was schief laeuft
+     */
+    @Test
+    public void testWriteMusterdatei() throws IOException {
+        Datenpaket muster = new Datenpaket();
+        muster.importFrom(MUSTERDATEI);
+        String json = checkWrite(muster);
+        try (InputStream istream = new GZIPInputStream(
+                getClass().getResourceAsStream("musterdatei_041222.json.gz"))) {
+            JsonNode expected = OBJECT_MAPPER.readTree(new InputStreamReader(istream, StandardCharsets.UTF_8));
+            assertEquals(removeConfig(expected), removeConfig(OBJECT_MAPPER.readTree(json)));
+        }
+    }
+
+    /**
+     * Die Config der einzelnen Saetze haengt davon ab, mit welcher Config
+     * die Vorlagen in der {@link SatzRegistry} angelegt wurden (z.B. ob die
+     * VU-Nummer aus der Surefire-Konfiguration gesetzt ist), und damit von
+     * den vorher gelaufenen Tests. Sie wird deshalb beim Vergleich entfernt.
+     */
+    private static JsonNode removeConfig(JsonNode node) {
+        if (node.isObject()) {
+            ((ObjectNode) node).remove("config");
+        }
+        for (JsonNode child : node) {
+            removeConfig(child);
+        }
+        return node;
+    }
+
+    /**
+     * Als ImportListener werden die Datenpakete als Array ausgegeben, deren
+     * Saetze denselben Aufbau wie beim kompletten Datenpaket haben.
+     *
+     * @throws IOException falls was schief laeuft
+     */
+    @Test
+    public void testNotice() throws IOException {
+        Datenpaket muster = new Datenpaket();
+        muster.importFrom(MUSTERDATEI);
+        JsonNode expected = OBJECT_MAPPER.readTree(checkWrite(muster));
+        JsonNode datenpakete = stream(Files.readAllBytes(MUSTERDATEI.toPath()));
+        assertEquals(1, datenpakete.size());
+        JsonNode datenpaket = datenpakete.get(0);
+        assertEquals(expected.get("vorsatz"), datenpaket.get("vorsatz"));
+        assertEquals(expected.get("datensaetze"), datenpaket.get("datensaetze"));
+        assertEquals(expected.get("nachsatz"), datenpaket.get("nachsatz"));
+    }
+
+    /**
+     * Mehrere Datenpakete muessen zusammen gueltiges JSON ergeben.
+     *
+     * @throws IOException falls was schief laeuft
+     */
+    @Test
+    public void testNoticeMehrereDatenpakete() throws IOException {
+        byte[] muster = Files.readAllBytes(MUSTERDATEI.toPath());
+        byte[] content = new byte[muster.length * 2];
+        System.arraycopy(muster, 0, content, 0, muster.length);
+        System.arraycopy(muster, 0, content, muster.length, muster.length);
+        JsonNode datenpakete = stream(content);
+        assertTrue(datenpakete.isArray());
+        assertEquals(2, datenpakete.size());
+        assertEquals(datenpakete.get(0), datenpakete.get(1));
+    }
+
+    @Test
+    public void testWriteSatz() throws IOException {
+        try (StringWriter swriter = new StringWriter()) {
+            JsonFormatter formatter = new JsonFormatter(swriter);
+            formatter.write(MUSTER_DATENPAKET.getVorsatz());
+            JsonNode expected = OBJECT_MAPPER.valueToTree(MUSTER_DATENPAKET.getVorsatz());
+            assertEquals(expected, OBJECT_MAPPER.readTree(swriter.toString()));
+        }
+    }
+
+    private static JsonNode stream(byte[] content) throws IOException {
+        StringWriter swriter = new StringWriter();
+        try (InputStream istream = new ByteArrayInputStream(content);
+             JsonFormatter formatter = new JsonFormatter(swriter)) {
+            DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+            streamer.register(formatter);
+            while (streamer.canReadDatenpaket()) {
+                streamer.readDatenpaket();
+            }
+        }
+        return OBJECT_MAPPER.readTree(swriter.toString());
     }
 
-    private void checkWrite(Datenpaket datenpaket) throws IOException {
+    private String checkWrite(Datenpaket datenpaket) throws IOException {
         try (StringWriter swriter = new StringWriter()) {
             JsonFormatter formatter = new JsonFormatter(swriter);
             formatter.write(datenpaket);
@@ -77,6 +188,7 @@ public final class JsonFormatterTest extends AbstractFormatterTest {
             String jsonString = swriter.toString().trim();
             MatcherAssert.assertThat(jsonString, startsWith("{"));
             LOG.info("{} wurde nach JSON formatiert.", datenpaket);
+            return jsonString;
         }
     }
 
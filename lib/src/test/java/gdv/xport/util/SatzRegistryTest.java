@@ -217,6 +217,35 @@ public final class SatzRegistryTest {
         assertEquals("different versions", expected, satz);
     }
 
+    @Test
+    public void testGetSatzUnbekannteVersion() {
+        SatzTyp satzTyp = SatzTyp.of("0100");
+        Satz satz = SatzRegistry.getSatz(satzTyp, "0.1");
+        assertEquals(satzTyp, satz.getSatzTyp());
+        assertNotSame(satz, SatzRegistry.getSatz(satzTyp, "0.1"));
+    }
+
+    @Test
+    public void testGetSatzMitSparte() {
+        Satz satz = SatzRegistry.getSatz(SatzTyp.of(100, 30), "2.4");
+        assertEquals(30, ((Datensatz) satz).getSparte());
+    }
+
+    @Test
+    public void testGetLayoutNachRegister() throws XMLStreamException, IOException {
+        SatzTyp typ = SatzTyp.of("0820");
+        SatzRegistry registry = SatzRegistry.getInstance();
+        try {
+            registry.register(SatzXml.of("/gdv/xport/satz/xml/Satz0820.xml"), typ);
+            SatzLayout layout = SatzRegistry.getLayout(typ, "1.0");
+            assertSame(layout, SatzRegistry.getLayout(typ, "1.0"));
+            registry.register(SatzXml.of("/gdv/xport/satz/xml/Satz0820.xml"), typ);
+            assertNotSame(layout, SatzRegistry.getLayout(typ, "1.0"));
+        } finally {
+            registry.unregister(typ);
+        }
+    }
+
     @Test
     public void testRegisterSatz0820() throws IOException {
         try {
@@ -283,4 +283,17 @@ public class SatzTypTest {
         assertEquals("0220.000", x.getGdvSatzartName());
     }
 
+    @Test
+    public void testOfCached() {
+        assertSame(SatzTyp.of(220, 10, 13, 1), SatzTyp.of(220, 10, 13, 1));
+        assertEquals(SatzTyp.of("0220.010.13.1"), SatzTyp.of(220, 10, 13, 1));
+    }
+
+    @Test
+    public void testGetKey() {
+        assertEquals(SatzTyp.of(210, 60).getKey(), SatzTyp.of("0210.000").getKey());
+        assertNotEquals(SatzTyp.of(210, 50).getKey(), SatzTyp.of(210, 30).getKey());
+        assertNotEquals(SatzTyp.of("0220.010.13.1").getKey(), SatzTyp.of("0220.010.13.6").getKey());
+    }
+
 }
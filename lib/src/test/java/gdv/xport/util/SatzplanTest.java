@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.util;
+
+import gdv.xport.feld.AlphaNumFeld;
+import gdv.xport.feld.Bezeichner;
+import gdv.xport.feld.Feld;
+import gdv.xport.satz.Satz;
+import gdv.xport.satz.Teildatensatz;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit-Tests fuer {@link Satzplan}.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class SatzplanTest {
+
+    @Test
+    public void testPasstZu() {
+        Satzplan plan = new Satzplan(SatzRegistry.getInstance().getSatz(SatzTyp.of("0100")));
+        assertTrue(plan.passtZu(SatzRegistry.getInstance().getSatz(SatzTyp.of("0100"))));
+    }
+
+    @Test
+    public void testPasstNichtBeiGleicherAnzahlFelder() {
+        Satz satz = SatzRegistry.getInstance().getSatz(SatzTyp.of("0100"));
+        Satzplan plan = new Satzplan(satz);
+        Satz other = SatzRegistry.getInstance().getSatz(SatzTyp.of("0100"));
+        Teildatensatz tds = other.getTeildatensatz(1);
+        Feld name3 = tds.getFeld(Bezeichner.NAME3);
+        tds.remove(Bezeichner.NAME3);
+        tds.add(new AlphaNumFeld(Bezeichner.of("Anderes Feld"), name3.getAnzahlBytes(), name3.getByteAdresse()));
+        assertFalse(plan.passtZu(other));
+    }
+
+}
@@ -31,6 +31,7 @@ import org.junit.Test;
 import org.xml.sax.SAXException;
 
 import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
@@ -38,6 +39,9 @@ import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * JUnit-Test fuer XmlFormatter.
@@ -142,6 +146,28 @@ public class XmlFormatterTest extends AbstractFormatterTest {
         formatter.write(new Datenpaket("4711"));
     }
 
+    /**
+     * Die Ausgabe ueber die Satzvorlagen muss (bis auf den Zeitstempel am
+     * Ende) dieselbe sein wie ueber den XMLStreamWriter - auch wenn
+     * Zeichen maskiert werden muessen.
+     *
+     * @throws IOException falls was schiefgelaufen ist
+     * @throws XMLStreamException falls was schiefgelaufen ist
+     */
+    @Test
+    public void testWriteVorlage() throws IOException, XMLStreamException {
+        Datenpaket datenpaket = new Datenpaket();
+        datenpaket.importFrom(MUSTERDATEI);
+        datenpaket.getVorsatz().setAbsender("A&B <C> \"D\"");
+        datenpaket.getVorsatz().setAdressat("\u00dcberraschung \u20ac");
+        StringWriter direkt = new StringWriter();
+        new XmlFormatter(direkt).write(datenpaket);
+        StringWriter stax = new StringWriter();
+        new XmlFormatter(XMLOutputFactory.newInstance().createXMLStreamWriter(stax)).write(datenpaket);
+        assertEquals(stax.toString().replaceAll("<!--.*-->", ""), direkt.toString().replaceAll("<!--.*-->", ""));
+        checkXML(direkt.toString());
+    }
+
     public static void validate(File file) throws IOException, SAXException {
         SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         Schema schema = schemaFactory.newSchema(new File("src/main/resources/xsd/datenpaket.xsd"));
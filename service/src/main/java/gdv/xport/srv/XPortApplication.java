@@ -22,6 +22,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 import java.util.Arrays;
@@ -31,6 +32,7 @@ import java.util.Arrays;
  */
 @SpringBootApplication(scanBasePackages = {"gdv.xport.srv"})
 @EnableSwagger2
+@EnableScheduling
 public class XPortApplication {
 
     private static final Logger LOG = LogManager.getLogger(XPortApplication.class);
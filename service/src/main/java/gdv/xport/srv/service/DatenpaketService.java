@@ -19,12 +19,16 @@
 package gdv.xport.srv.service;
 
 import gdv.xport.Datenpaket;
+import gdv.xport.event.ImportListener;
 import org.springframework.ui.Model;
 import org.springframework.util.MimeType;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Die Definition der Service-Klasse fuer das {@link gdv.xport.Datenpaket}.
@@ -71,6 +75,37 @@ public interface DatenpaketService {
      */
     String format(String text, MimeType type);
 
+    /**
+     * Validiert die Datenpakete, die ueber den InputStream reinkommen. Im
+     * Gegensatz zu {@link #validate(String)} wird der Inhalt dabei Satz fuer
+     * Satz gelesen und nicht komplett im Speicher gehalten. Die gefundenen
+     * Abweichungen werden direkt an den Consumer weitergereicht.
+     *
+     * @param istream   Datenpakete im GDV-Format
+     * @param consumer  erhaelt die gefundenen Abweichungen
+     * @param listeners werden zusaetzlich ueber jeden gelesenen Satz informiert
+     * @throws IOException kann beim Lesen auftreten
+     * @since 6.2
+     */
+    void validate(InputStream istream, Consumer<Model> consumer, ImportListener... listeners) throws IOException;
+
+    /**
+     * Liest die Datenpakete Satz fuer Satz vom InputStream und schreibt sie
+     * im gewuenschten Format direkt in den OutputStream. Anders als bei
+     * {@link #format(String, MimeType)} wird weder der Inhalt noch das
+     * formatierte Ergebnis komplett im Speicher gehalten. Bricht der Import
+     * mit einer Exception ab, wird die Ausgabe nicht abgeschlossen.
+     *
+     * @param istream   Datenpakete im GDV-Format
+     * @param type      gewuenschte Formatierung
+     * @param ostream   hierhin wird das formatierte Ergebnis geschrieben
+     * @param listeners werden zusaetzlich ueber jeden gelesenen Satz informiert
+     * @throws IOException kann beim Lesen oder Schreiben auftreten
+     * @since 6.2
+     */
+    void format(InputStream istream, MimeType type, OutputStream ostream, ImportListener... listeners)
+            throws IOException;
+
     /**
      * Importiert den Text als Datenpaket.
      *
@@ -19,6 +19,10 @@
 package gdv.xport.srv.service;
 
 import gdv.xport.Datenpaket;
+import gdv.xport.DatenpaketStreamer;
+import gdv.xport.config.Config;
+import gdv.xport.event.DatenpaketValidator;
+import gdv.xport.event.ImportListener;
 import gdv.xport.srv.web.ErrorModel;
 import gdv.xport.util.*;
 import net.sf.oval.ConstraintViolation;
@@ -31,12 +35,11 @@ import org.springframework.ui.ExtendedModelMap;
 import org.springframework.ui.Model;
 import org.springframework.util.MimeType;
 
-import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
+import java.io.*;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Die Implementierung der Service-Klasse fuer das {@link gdv.xport.Datenpaket}.
@@ -120,6 +123,60 @@ public final class DefaultDatenpaketService implements DatenpaketService {
         }
     }
 
+    /**
+     * Validiert die Datenpakete, die ueber den InputStream reinkommen, ueber
+     * einen {@link DatenpaketStreamer} und {@link DatenpaketValidator}.
+     *
+     * @param istream   Datenpakete im GDV-Format
+     * @param consumer  erhaelt die gefundenen Abweichungen
+     * @param listeners werden zusaetzlich ueber jeden gelesenen Satz informiert
+     * @throws IOException kann beim Lesen auftreten
+     */
+    @Override
+    public void validate(InputStream istream, Consumer<Model> consumer, ImportListener... listeners)
+            throws IOException {
+        DatenpaketStreamer streamer = createStreamer(istream, listeners);
+        DatenpaketValidator validator = new DatenpaketValidator(Config.getInstance(), cv -> consumer.accept(toModel(cv)));
+        streamer.register(validator);
+        while (streamer.canReadDatenpaket()) {
+            streamer.readDatenpaket();
+        }
+        LOG.debug("{} violation(s) found.", validator.getAnzahlViolations());
+    }
+
+    /**
+     * Liest die Datenpakete ueber einen {@link DatenpaketStreamer}, bei dem
+     * der passende Formatter als Listener registriert ist. Jeder Satz wird
+     * so direkt nach dem Import formattiert ausgegeben.
+     *
+     * @param istream   Datenpakete im GDV-Format
+     * @param mimeType  gewuenschte Formatierung
+     * @param ostream   hierhin wird das formatierte Ergebnis geschrieben
+     * @param listeners werden zusaetzlich ueber jeden gelesenen Satz informiert
+     * @throws IOException kann beim Lesen oder Schreiben auftreten
+     */
+    @Override
+    public void format(InputStream istream, MimeType mimeType, OutputStream ostream, ImportListener... listeners)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(ostream, Config.DEFAULT_ENCODING));
+        AbstractFormatter formatter = getFormatterFor(mimeType, writer);
+        DatenpaketStreamer streamer = createStreamer(istream, listeners);
+        streamer.register(formatter);
+        while (streamer.canReadDatenpaket()) {
+            streamer.readDatenpaket();
+        }
+        // nur bei Erfolg schliessen, damit ein Abbruch keine scheinbar vollstaendige Ausgabe hinterlaesst
+        formatter.close();
+    }
+
+    private static DatenpaketStreamer createStreamer(InputStream istream, ImportListener... listeners) {
+        DatenpaketStreamer streamer = new DatenpaketStreamer(istream);
+        for (ImportListener listener : listeners) {
+            streamer.register(listener);
+        }
+        return streamer;
+    }
+
     @Override
     public Datenpaket importDatenpaket(String text) {
         Datenpaket datenpaket = new Datenpaket();
@@ -169,15 +226,19 @@ public final class DefaultDatenpaketService implements DatenpaketService {
     private static List<Model> toModelList(List<ConstraintViolation> violations) {
         List<Model> models = new ArrayList<>();
         for (ConstraintViolation cv : violations) {
-            Model m = new ExtendedModelMap();
-            m.addAttribute("context", cv.getContext().getCompileTimeType());
-            m.addAttribute("invalidValue", cv.getInvalidValue());
-            m.addAttribute("message", cv.getMessage());
-            m.addAttribute("validatedObject", cv.getValidatedObject().toString());
-            m.addAttribute("causes", cv.getCauses());
-            models.add(m);
+            models.add(toModel(cv));
         }
         return models;
     }
 
+    private static Model toModel(ConstraintViolation cv) {
+        Model m = new ExtendedModelMap();
+        m.addAttribute("context", cv.getContext().getCompileTimeType());
+        m.addAttribute("invalidValue", cv.getInvalidValue());
+        m.addAttribute("message", cv.getMessage());
+        m.addAttribute("validatedObject", cv.getValidatedObject().toString());
+        m.addAttribute("causes", cv.getCauses());
+        return m;
+    }
+
 }
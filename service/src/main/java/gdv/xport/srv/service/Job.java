@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.srv.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import gdv.xport.event.ImportListener;
+import gdv.xport.satz.Satz;
+import gdv.xport.srv.web.util.LocalDateTimeDeserializer;
+import gdv.xport.srv.web.util.LocalDateTimeSerializer;
+import org.springframework.util.MimeType;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ein Job steht fuer eine Validierung oder Formatierung, die im Hintergrund
+ * ueber den {@link JobService} laeuft. Waehrend des Imports wird er als
+ * {@link ImportListener} ueber jeden gelesenen Satz informiert, sodass
+ * Status und Fortschritt jederzeit abgefragt werden koennen.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+public final class Job implements ImportListener {
+
+    /** Die Art des Jobs. */
+    public enum Type {
+        /** Validierung, das Ergebnis sind die Abweichungen als JSON. */
+        VALIDATION,
+        /** Formatierung in das gewuenschte Format. */
+        FORMAT
+    }
+
+    /** Der Status des Jobs. */
+    public enum Status {
+        /** Job wartet auf einen freien Thread. */
+        WAITING,
+        /** Job laeuft. */
+        RUNNING,
+        /** Job ist fertig, das Ergebnis kann abgeholt werden. */
+        FINISHED,
+        /** Job ist mit einem Fehler abgebrochen. */
+        FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Type type;
+    private final MimeType format;
+    private final String source;
+    private final LocalDateTime created = LocalDateTime.now();
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong violations = new AtomicLong();
+    private volatile Status status = Status.WAITING;
+    private volatile LocalDateTime started;
+    private volatile LocalDateTime finished;
+    private volatile String error;
+    private volatile Path result;
+
+    /**
+     * Legt einen neuen (wartenden) Job an.
+     *
+     * @param type   Validierung oder Formatierung
+     * @param format Format des Ergebnisses
+     * @param source Dateiname oder URI, von der gelesen wird
+     */
+    public Job(Type type, MimeType format, String source) {
+        this.type = type;
+        this.format = format;
+        this.source = source;
+    }
+
+    /**
+     * Jeder gelesene Satz wird gezaehlt.
+     *
+     * @param satz der soeben importierte Satz
+     */
+    @Override
+    public void notice(Satz satz) {
+        records.incrementAndGet();
+    }
+
+    void start() {
+        this.started = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void addViolation() {
+        violations.incrementAndGet();
+    }
+
+    void finish(Path ergebnis) {
+        this.result = ergebnis;
+        this.finished = LocalDateTime.now();
+        this.status = Status.FINISHED;
+    }
+
+    void fail(Exception cause) {
+        this.error = cause.getLocalizedMessage();
+        this.finished = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * Liefert die (eindeutige) ID des Jobs.
+     *
+     * @return z.B. "0b5c4a1e-..."
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Liefert die Art des Jobs.
+     *
+     * @return Validierung oder Formatierung
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Liefert das Format des Ergebnisses.
+     *
+     * @return z.B. "application/json"
+     */
+    public String getFormat() {
+        return format.toString();
+    }
+
+    MimeType getMimeType() {
+        return format;
+    }
+
+    /**
+     * Liefert den Dateinamen oder die URI, von der gelesen wird.
+     *
+     * @return Quelle
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Liefert den aktuellen Status.
+     *
+     * @return Status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Zeitpunkt, wann der Job angelegt wurde.
+     *
+     * @return Zeitpunkt der Anlage
+     */
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    public LocalDateTime getCreated() {
+        return created;
+    }
+
+    /**
+     * Zeitpunkt, wann der Job gestartet wurde.
+     *
+     * @return Zeitpunkt oder null, falls noch nicht gestartet
+     */
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    public LocalDateTime getStarted() {
+        return started;
+    }
+
+    /**
+     * Zeitpunkt, wann der Job beendet wurde.
+     *
+     * @return Zeitpunkt oder null, falls noch nicht beendet
+     */
+    @JsonSerialize(using = LocalDateTimeSerializer.class)
+    @JsonDeserialize(using = LocalDateTimeDeserializer.class)
+    public LocalDateTime getFinished() {
+        return finished;
+    }
+
+    /**
+     * Liefert die Anzahl der bisher gelesenen Saetze.
+     *
+     * @return Anzahl Saetze
+     */
+    public long getRecords() {
+        return records.get();
+    }
+
+    /**
+     * Liefert die Anzahl der bisher gefundenen Abweichungen (nur bei einer
+     * Validierung).
+     *
+     * @return Anzahl Abweichungen
+     */
+    public long getViolations() {
+        return violations.get();
+    }
+
+    /**
+     * Liefert die Anzahl der gelesenen Saetze pro Sekunde seit dem Start.
+     *
+     * @return Saetze pro Sekunde
+     */
+    public long getRecordsPerSecond() {
+        LocalDateTime von = started;
+        if (von == null) {
+            return 0;
+        }
+        LocalDateTime bis = (finished == null) ? LocalDateTime.now() : finished;
+        long millis = Math.max(1, Duration.between(von, bis).toMillis());
+        return records.get() * 1000 / millis;
+    }
+
+    /**
+     * Liefert die Fehlermeldung, falls der Job abgebrochen ist.
+     *
+     * @return Fehlermeldung oder null
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Liefert die Datei mit dem Ergebnis, sobald der Job fertig ist.
+     *
+     * @return Ergebnis-Datei oder null
+     */
+    @JsonIgnore
+    public Path getResult() {
+        return result;
+    }
+
+    /**
+     * Ausgabe der wichtigsten Attribute.
+     *
+     * @return ID mit Art und Status
+     */
+    @Override
+    public String toString() {
+        return type + " job " + id + " (" + status + ")";
+    }
+
+}
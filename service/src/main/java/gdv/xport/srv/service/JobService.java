@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.srv.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.ui.Model;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Der JobService fuehrt Validierungen und Formatierungen grosser Dateien im
+ * Hintergrund aus. Statt auf das Ergebnis zu warten, bekommt der Aufrufer
+ * einen {@link Job} zurueck, ueber den er Status und Fortschritt abfragen
+ * und zum Schluss das Ergebnis abholen kann.
+ * <p>
+ * Die Jobs laufen in einem Thread-Pool mit fester Groesse
+ * ("gdv.xport.jobs.threads"); weitere Jobs warten in einer begrenzten
+ * Queue ("gdv.xport.jobs.queue"). Ist diese voll, wird der Job mit einer
+ * {@link RejectedExecutionException} abgelehnt. Hochgeladene Dateien und
+ * die Ergebnisse liegen im Verzeichnis "gdv.xport.jobs.dir".
+ * </p>
+ * <p>
+ * Abgeschlossene Jobs werden samt Ergebnis nach "gdv.xport.jobs.ttl"
+ * Minuten wieder entfernt. Sind mehr als "gdv.xport.jobs.max" Jobs
+ * vorhanden, werden zusaetzlich die aeltesten abgeschlossenen Jobs
+ * entfernt. Liegengebliebene Dateien eines frueheren Laufs werden beim
+ * Start geloescht.
+ * </p>
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@Service
+public class JobService {
+
+    private static final Logger LOG = LogManager.getLogger(JobService.class);
+
+    private final DatenpaketService datenpaketService;
+    private final ObjectMapper objectMapper;
+    private final Path verzeichnis;
+    private final ThreadPoolExecutor executor;
+    private final int maxJobs;
+    private final Duration ttl;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Legt einen JobService an.
+     *
+     * @param datenpaketService fuer die eigentliche Validierung und Formatierung
+     * @param objectMapper      fuer die Ausgabe der Abweichungen als JSON
+     * @param threads           Anzahl der Jobs, die gleichzeitig laufen
+     * @param queue             Anzahl der Jobs, die max. warten
+     * @param maxJobs           Anzahl der Jobs, die max. aufgehoben werden
+     * @param ttl               Minuten, die ein abgeschlossener Job aufgehoben wird
+     * @param verzeichnis       Ablage fuer hochgeladene Dateien und Ergebnisse
+     * @throws IOException falls das Verzeichnis nicht angelegt werden kann
+     */
+    @Autowired
+    public JobService(DatenpaketService datenpaketService, ObjectMapper objectMapper,
+                      @Value("${gdv.xport.jobs.threads:2}") int threads,
+                      @Value("${gdv.xport.jobs.queue:20}") int queue,
+                      @Value("${gdv.xport.jobs.max:100}") int maxJobs,
+                      @Value("${gdv.xport.jobs.ttl:60}") long ttl,
+                      @Value("${gdv.xport.jobs.dir:${java.io.tmpdir}/gdv-xport-jobs}") File verzeichnis)
+            throws IOException {
+        this.datenpaketService = datenpaketService;
+        this.objectMapper = objectMapper;
+        this.maxJobs = maxJobs;
+        this.ttl = Duration.ofMinutes(ttl);
+        this.verzeichnis = Files.createDirectories(verzeichnis.toPath());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queue));
+        deleteStaleFiles(this.verzeichnis);
+        LOG.info("{} is created with {} thread(s) and results in '{}'.", this, threads, this.verzeichnis);
+    }
+
+    private static void deleteStaleFiles(Path verzeichnis) throws IOException {
+        try (Stream<Path> files = Files.list(verzeichnis)) {
+            files.filter(JobService::isJobFile).forEach(file -> {
+                LOG.info("Stale file '{}' of previous run is deleted.", file);
+                deleteQuietly(file);
+            });
+        }
+    }
+
+    private static boolean isJobFile(Path file) {
+        String name = file.getFileName().toString();
+        return Files.isRegularFile(file) && (name.endsWith(".gdv") || name.endsWith(".result"));
+    }
+
+    /**
+     * Startet die Validierung der Datenpakete, die von der URI gelesen werden.
+     *
+     * @param uri z.B. http://www.gdv-online.de/vuvm/musterdatei_bestand/musterdatei_041222.txt
+     * @return angelegter Job
+     */
+    public Job validate(URI uri) {
+        Job job = new Job(Job.Type.VALIDATION, MimeTypeUtils.APPLICATION_JSON, uri.toString());
+        return submit(job, () -> uri.toURL().openStream(), null);
+    }
+
+    /**
+     * Startet die Validierung der hochgeladenen Datei.
+     *
+     * @param file hochgeladene Datei
+     * @return angelegter Job
+     * @throws IOException falls die Datei nicht abgelegt werden kann
+     */
+    public Job validate(MultipartFile file) throws IOException {
+        Job job = new Job(Job.Type.VALIDATION, MimeTypeUtils.APPLICATION_JSON, file.getOriginalFilename());
+        return submit(job, file);
+    }
+
+    /**
+     * Startet die Formatierung der Datenpakete, die von der URI gelesen
+     * werden.
+     *
+     * @param uri  z.B. http://www.gdv-online.de/vuvm/musterdatei_bestand/musterdatei_041222.txt
+     * @param type gewuenschte Formatierung
+     * @return angelegter Job
+     */
+    public Job format(URI uri, MimeType type) {
+        Job job = new Job(Job.Type.FORMAT, type, uri.toString());
+        return submit(job, () -> uri.toURL().openStream(), null);
+    }
+
+    /**
+     * Startet die Formatierung der hochgeladenen Datei.
+     *
+     * @param file hochgeladene Datei
+     * @param type gewuenschte Formatierung
+     * @return angelegter Job
+     * @throws IOException falls die Datei nicht abgelegt werden kann
+     */
+    public Job format(MultipartFile file, MimeType type) throws IOException {
+        Job job = new Job(Job.Type.FORMAT, type, file.getOriginalFilename());
+        return submit(job, file);
+    }
+
+    private Job submit(Job job, MultipartFile file) throws IOException {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw new RejectedExecutionException("job queue is full - " + job + " is rejected");
+        }
+        Path input = verzeichnis.resolve(job.getId() + ".gdv");
+        file.transferTo(input);
+        return submit(job, () -> Files.newInputStream(input), input);
+    }
+
+    private Job submit(Job job, Callable<InputStream> quelle, Path input) {
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, quelle, input));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            deleteQuietly(input);
+            throw ex;
+        }
+        LOG.info("{} for '{}' is submitted.", job, job.getSource());
+        return job;
+    }
+
+    private void run(Job job, Callable<InputStream> quelle, Path input) {
+        job.start();
+        Path ergebnis = verzeichnis.resolve(job.getId() + ".result");
+        try (InputStream istream = new BufferedInputStream(quelle.call());
+             OutputStream ostream = new BufferedOutputStream(Files.newOutputStream(ergebnis))) {
+            if (job.getType() == Job.Type.VALIDATION) {
+                validate(job, istream, ostream);
+            } else {
+                datenpaketService.format(istream, job.getMimeType(), ostream, job);
+            }
+            job.finish(ergebnis);
+            LOG.info("{} is finished with {} record(s).", job, job.getRecords());
+            if (!jobs.containsKey(job.getId())) {
+                deleteQuietly(ergebnis);
+            }
+        } catch (Exception ex) {
+            LOG.warn("{} for '{}' failed:", job, job.getSource(), ex);
+            job.fail(ex);
+            deleteQuietly(ergebnis);
+        } finally {
+            deleteQuietly(input);
+        }
+    }
+
+    private void validate(Job job, InputStream istream, OutputStream ostream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(ostream)) {
+            generator.writeStartArray();
+            datenpaketService.validate(istream, model -> {
+                job.addViolation();
+                writeModel(generator, model);
+            }, job);
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeModel(JsonGenerator generator, Model model) {
+        try {
+            generator.writeObject(model.asMap());
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("cannot write " + model, ioe);
+        }
+    }
+
+    /**
+     * Liefert den Job mit der angegebenen ID.
+     *
+     * @param id ID des Jobs
+     * @return Job (falls vorhanden)
+     */
+    public Optional<Job> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Liefert alle bekannten Jobs.
+     *
+     * @return Liste der Jobs
+     */
+    public Collection<Job> getJobs() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Entfernt den Job zusammen mit seinem Ergebnis. Ein laufender Job
+     * wird dabei nicht abgebrochen, sein Ergebnis aber verworfen.
+     *
+     * @param id ID des Jobs
+     * @return der entfernte Job (falls vorhanden)
+     */
+    public Optional<Job> removeJob(String id) {
+        Job job = jobs.remove(id);
+        if (job != null) {
+            deleteQuietly(job.getResult());
+            LOG.info("{} is removed.", job);
+        }
+        return Optional.ofNullable(job);
+    }
+
+    /**
+     * Entfernt regelmaessig ("gdv.xport.jobs.cleanup" Millisekunden)
+     * abgeschlossene Jobs, deren Lebensdauer abgelaufen ist, und die
+     * aeltesten abgeschlossenen Jobs, falls es mehr als erlaubt sind.
+     * Wartende und laufende Jobs bleiben dabei erhalten.
+     */
+    @Scheduled(fixedDelayString = "${gdv.xport.jobs.cleanup:60000}")
+    public void evictJobs() {
+        evictJobs(LocalDateTime.now().minus(ttl));
+    }
+
+    /**
+     * Entfernt alle abgeschlossenen Jobs, die vor dem angegebenen Zeitpunkt
+     * fertig wurden, und danach die aeltesten abgeschlossenen Jobs, bis
+     * nicht mehr als die erlaubte Anzahl uebrig ist.
+     *
+     * @param grenze Jobs, die vorher fertig wurden, werden entfernt
+     */
+    void evictJobs(LocalDateTime grenze) {
+        List<Job> abgeschlossen = jobs.values().stream()
+                .filter(job -> job.getFinished() != null)
+                .sorted(Comparator.comparing(Job::getFinished))
+                .collect(Collectors.toList());
+        int anzahl = jobs.size();
+        for (Job job : abgeschlossen) {
+            if (job.getFinished().isBefore(grenze) || (anzahl > maxJobs)) {
+                removeJob(job.getId());
+                anzahl--;
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ioe) {
+            LOG.warn("Cannot delete '{}':", file, ioe);
+        }
+    }
+
+    /**
+     * Beim Herunterfahren werden laufende Jobs abgebrochen.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        LOG.info("{} is shut down.", this);
+    }
+
+}
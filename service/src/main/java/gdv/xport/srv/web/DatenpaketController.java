@@ -17,7 +17,10 @@
  */
 package gdv.xport.srv.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import gdv.xport.Datenpaket;
+import gdv.xport.config.Config;
 import gdv.xport.srv.config.AppConfig;
 import gdv.xport.srv.service.DatenpaketService;
 import gdv.xport.util.URLReader;
@@ -27,21 +30,28 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.ui.Model;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
 import patterntesting.runtime.log.LogWatch;
 import patterntesting.runtime.util.Converter;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -63,6 +73,12 @@ public final class DatenpaketController {
     @Autowired
     private DatenpaketService service;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${gdv.xport.upload.max-size:10MB}")
+    private DataSize maxUploadSize;
+
     /**
      * Validiert die uebergebene URI.
      *
@@ -120,6 +136,83 @@ public final class DatenpaketController {
         }
     }
 
+    /**
+     * Validiert die hochgeladene Datei, ohne sie komplett in den Speicher zu
+     * laden. Die Datei wird dazu Satz fuer Satz gelesen und die gefundenen
+     * Abweichungen direkt als JSON-Array in die Antwort geschrieben. Damit
+     * ist der Speicherbedarf unabhaengig von der Groesse der Datei.
+     *
+     * @param file     gewuenschte Datei
+     * @param response hierueber werden die Abweichungen ausgegeben
+     * @throws IOException bei Lese- oder Schreibfehlern
+     * @since 6.2
+     */
+    @ApiOperation("dient zur Validierung einer (grossen) Datei im GDV-Format, die dabei nicht komplett" +
+            " in den Speicher geladen wird")
+    @PostMapping(path = "/v1/Abweichungen/streamed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void validateStreamed(@RequestParam("file") MultipartFile file, HttpServletResponse response)
+            throws IOException {
+        LOG.info("Validating Datenpakete of {} with {}...", file.getOriginalFilename(),
+                Converter.getMemoryAsString(file.getSize()));
+        try (InputStream istream = file.getInputStream()) {
+            validateStreamed(file.getOriginalFilename(), istream, response);
+        }
+    }
+
+    /**
+     * Validiert die Datenpakete, die von der uebergebenen URI abgeholt
+     * werden. Wie bei {@link #validateStreamed(MultipartFile, HttpServletResponse)}
+     * wird dabei Satz fuer Satz gelesen und die gefundenen Abweichungen
+     * direkt als JSON-Array in die Antwort geschrieben.
+     *
+     * @param uri      z.B. http://www.gdv-online.de/vuvm/musterdatei_bestand/musterdatei_041222.txt
+     * @param response hierueber werden die Abweichungen ausgegeben
+     * @throws IOException bei Lese- oder Schreibfehlern
+     * @since 6.2
+     */
+    @ApiOperation("validiert die uebergebene URI, ohne sie komplett in den Speicher zu laden")
+    @GetMapping(path = "/v1/Abweichungen/streamed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void validateStreamed(
+            @ApiParam(value = "z.B. http://www.gdv-online.de/vuvm/musterdatei_bestand/musterdatei_041222.txt") @RequestParam("uri") URI uri,
+            HttpServletResponse response) throws IOException {
+        LOG.info("Validating Datenpakete from {}...", uri);
+        try (InputStream istream = uri.toURL().openStream()) {
+            validateStreamed(uri.toString(), istream, response);
+        }
+    }
+
+    /**
+     * Bricht der Import mittendrin ab, sind Status und ein Teil der
+     * Abweichungen schon unterwegs. Der Fehler wird deswegen als letzter
+     * Eintrag (wie bei /uploaded als {@link ErrorModel}) in das Array
+     * geschrieben, damit das Ergebnis nicht als vollstaendig gilt.
+     */
+    private void validateStreamed(String name, InputStream istream, HttpServletResponse response)
+            throws IOException {
+        LogWatch watch = new LogWatch();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            try {
+                service.validate(istream, model -> writeModel(generator, model));
+            } catch (IOException | RuntimeException ex) {
+                LOG.warn("Validating Datenpakete of {} aborted:", name, ex);
+                writeModel(generator, ErrorModel.of(ex));
+            }
+            generator.writeEndArray();
+        }
+        LOG.info("Validating Datenpakete of {} finished in {}.", name, watch);
+    }
+
+    private static void writeModel(JsonGenerator generator, Model model) {
+        try {
+            generator.writeObject(model.asMap());
+        } catch (IOException ioe) {
+            throw new UncheckedIOException("cannot write " + model, ioe);
+        }
+    }
+
     private List<Model> validate(String content) {
         LogWatch watch = new LogWatch();
         LOG.info("Validating Datenpakete of {}...", Converter.getMemoryAsString(StringUtils.length(content)));
@@ -235,7 +328,106 @@ public final class DatenpaketController {
         return importDatenpaketFrom(text);
     }
 
+    /**
+     * Formattiert die hochgeladene Datei, ohne sie komplett in den Speicher
+     * zu laden. Die Datei wird dazu Satz fuer Satz gelesen und jeder Satz
+     * direkt im gewuenschten Format in die Antwort geschrieben. Das Format
+     * wird wie bei den anderen /Datenpaket-Aufrufen ueber den format-Parameter
+     * oder den Accept-Header bestimmt.
+     *
+     * @param file     gewuenschte Datei
+     * @param format   statt per Content Negotiation kann auch der format-Parameter belegt werden
+     * @param request  der HTTP-Request
+     * @param response hierueber wird das formattierte Datenpaket ausgegeben
+     * @throws IOException bei Lese- oder Schreibfehlern
+     * @since 6.2
+     */
+    @ApiOperation("dient zum Formattieren einer (grossen) Datei im GDV-Format, die dabei nicht komplett" +
+            " in den Speicher geladen wird")
+    @PostMapping(
+            path = "/v1/Datenpaket/streamed", produces = {MediaType.TEXT_HTML_VALUE, MediaType.TEXT_XML_VALUE,
+            MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE, TEXT_CSV}
+    )
+    public void formatStreamed(
+            @RequestParam("file") MultipartFile file,
+            @ApiParam(value = "Ausgabe-Format (HTML, XML, JSON, CSV oder TEXT);" +
+                    " normalerweise wird das Format ueber den Accept-Header vorgegeben, kann aber hierueber explizit gesetzt werden.",
+                    example = "JSON") @RequestParam(required = false) String format,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        LOG.info("Formatting Datenpakete of {} with {}...", file.getOriginalFilename(),
+                Converter.getMemoryAsString(file.getSize()));
+        try (InputStream istream = file.getInputStream()) {
+            formatStreamed(file.getOriginalFilename(), istream, toMimeType(format, request), response);
+        }
+    }
+
+    /**
+     * Formattiert das Datenpaket, das von der uebergebenen URI abgeholt wird.
+     * Wie bei {@link #formatStreamed(MultipartFile, String, HttpServletRequest, HttpServletResponse)}
+     * wird dabei Satz fuer Satz gelesen und direkt in die Antwort geschrieben.
+     *
+     * @param uri      z.B. http://www.gdv-online.de/vuvm/musterdatei_bestand/musterdatei_041222.txt
+     * @param format   statt per Content Negotiation kann auch der format-Parameter belegt werden
+     * @param request  der HTTP-Request
+     * @param response hierueber wird das formattierte Datenpaket ausgegeben
+     * @throws IOException bei Lese- oder Schreibfehlern
+     * @since 6.2
+     */
+    @ApiOperation("Liest das Datenpaket von der angegebenen URI und gibt es im gewuenschten Format zurueck," +
+            " ohne es komplett in den Speicher zu laden.")
+    @GetMapping(
+            path = "/v1/Datenpaket/streamed", produces = {MediaType.TEXT_HTML_VALUE, MediaType.TEXT_XML_VALUE,
+            MediaType.APPLICATION_XML_VALUE, MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE, TEXT_CSV}
+    )
+    public void formatStreamed(
+            @ApiParam(value = "URI, die auf einen Datensatz verweist",
+                    example = "http://www.gdv-online.de/vuvm/musterdatei_bestand/musterdatei_041222.txt") @RequestParam("uri") URI uri,
+            @ApiParam(value = "Ausgabe-Format (HTML, XML, JSON, CSV oder TEXT);" +
+                    " normalerweise wird das Format ueber den Accept-Header vorgegeben, kann aber hierueber explizit gesetzt werden.",
+                    example = "JSON") @RequestParam(required = false) String format,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        LOG.info("Formatting Datenpakete from {}...", uri);
+        try (InputStream istream = uri.toURL().openStream()) {
+            formatStreamed(uri.toString(), istream, toMimeType(format, request), response);
+        }
+    }
+
+    /**
+     * Bricht der Import mittendrin ab, ist die Antwort evtl. schon mit
+     * Status 200 unterwegs. In diesem Fall wird eine IOException
+     * weitergereicht, fuer die es hier keinen ExceptionHandler gibt - der
+     * Servlet-Container bricht dann die Verbindung ab, sodass der Client die
+     * (unvollstaendige) Antwort nicht fuer vollstaendig haelt. Ist noch
+     * nichts rausgegangen, wird stattdessen ein "Bad Request" gemeldet.
+     */
+    private void formatStreamed(String name, InputStream istream, MimeType type, HttpServletResponse response)
+            throws IOException {
+        LogWatch watch = new LogWatch();
+        response.setContentType(type.getType() + "/" + type.getSubtype());
+        response.setCharacterEncoding(Config.DEFAULT_ENCODING.name());
+        try {
+            service.format(istream, type, response.getOutputStream());
+        } catch (IOException | RuntimeException ex) {
+            LOG.warn("Formatting Datenpakete of {} as {} aborted:", name, type, ex);
+            if (response.isCommitted()) {
+                // ohne Cause, da sonst der ExceptionHandler fuer z.B. eine NumberFormatException greifen wuerde
+                throw new IOException("formatting of " + name + " aborted: " + ex);
+            }
+            response.reset();
+            throw new IllegalArgumentException("cannot format " + name + " as " + type, ex);
+        }
+        LOG.info("Formatting Datenpakete of {} as {} finished in {}.", name, type, watch);
+    }
+
+    /**
+     * Die /uploaded-Aufrufe halten die komplette Datei im Speicher. Damit
+     * das grosse Multipart-Limit fuer /streamed hier nicht zu einem
+     * OutOfMemoryError fuehrt, wird die Groesse vorher geprueft.
+     */
     private String readFrom(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.getSize() > maxUploadSize.toBytes()) {
+            throw new MaxUploadSizeExceededException(maxUploadSize.toBytes());
+        }
         LogWatch watch = new LogWatch();
         LOG.info("Reading Datenpakete from {}...", file);
         String text = new String(file.getBytes());
@@ -271,7 +463,7 @@ public final class DatenpaketController {
         return new ArrayList<>(mimeTypes);
     }
 
-    private static MimeType toMimeType(String format) {
+    static MimeType toMimeType(String format) {
         switch (format.toLowerCase()) {
             case "html":
                 return MediaType.TEXT_HTML;
@@ -310,4 +502,20 @@ public final class DatenpaketController {
         return errDetail;
     }
 
+    /**
+     * Die hochgeladene Datei ist fuer einen /uploaded-Aufruf zu gross.
+     *
+     * @param request Anfrage-Request
+     * @param ex      Ursache
+     * @return ErrorDetail
+     * @since 6.2
+     */
+    @ResponseStatus(value = HttpStatus.PAYLOAD_TOO_LARGE)
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ErrorDetail handleUploadSizeExceeded(HttpServletRequest request, MaxUploadSizeExceededException ex) {
+        ErrorDetail errDetail = new ErrorDetail(request, HttpStatus.PAYLOAD_TOO_LARGE, ex);
+        LOG.info("Call of '{}' fails: {} (use /streamed for large files)", request.getRequestURI(), errDetail);
+        return errDetail;
+    }
+
 }
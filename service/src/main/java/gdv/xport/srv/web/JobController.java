@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.srv.web;
+
+import gdv.xport.config.Config;
+import gdv.xport.srv.service.Job;
+import gdv.xport.srv.service.JobService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Ueber diesen Controller koennen grosse Dateien asynchron validiert oder
+ * formattiert werden. Der Aufruf liefert sofort einen {@link Job} zurueck,
+ * dessen Status ueber /v1/Jobs/{id} abgefragt und dessen Ergebnis ueber
+ * /v1/Jobs/{id}/result abgeholt werden kann.
+ *
+ * @author oliver
+ * @since 6.2
+ */
+@RestController
+@RequestMapping("/api")
+public final class JobController {
+
+    private static final Logger LOG = LogManager.getLogger(JobController.class);
+
+    @Autowired
+    private JobService jobService;
+
+    /**
+     * Startet die Validierung einer hochgeladenen Datei oder URI im
+     * Hintergrund.
+     *
+     * @param file hochgeladene Datei
+     * @param uri  alternativ die URI, von der gelesen wird
+     * @return angelegter Job
+     * @throws IOException falls die Datei nicht abgelegt werden kann
+     */
+    @ApiOperation("startet die Validierung einer (grossen) Datei oder URI im Hintergrund")
+    @PostMapping("/v1/Jobs/Abweichungen")
+    public ResponseEntity<Job> validate(
+            @ApiParam(value = "Datei im GDV-Format") @RequestParam(value = "file", required = false) MultipartFile file,
+            @ApiParam(value = "alternativ die URI, die auf einen Datensatz verweist") @RequestParam(required = false) URI uri)
+            throws IOException {
+        Job job = (file == null) ? jobService.validate(requireURI(uri)) : jobService.validate(file);
+        return accepted(job);
+    }
+
+    /**
+     * Startet die Formatierung einer hochgeladenen Datei oder URI im
+     * Hintergrund.
+     *
+     * @param file   hochgeladene Datei
+     * @param uri    alternativ die URI, von der gelesen wird
+     * @param format Ausgabe-Format (HTML, XML, JSON, CSV oder TEXT)
+     * @return angelegter Job
+     * @throws IOException falls die Datei nicht abgelegt werden kann
+     */
+    @ApiOperation("startet die Formatierung einer (grossen) Datei oder URI im Hintergrund")
+    @PostMapping("/v1/Jobs/Datenpaket")
+    public ResponseEntity<Job> format(
+            @ApiParam(value = "Datei im GDV-Format") @RequestParam(value = "file", required = false) MultipartFile file,
+            @ApiParam(value = "alternativ die URI, die auf einen Datensatz verweist") @RequestParam(required = false) URI uri,
+            @ApiParam(value = "Ausgabe-Format (HTML, XML, JSON, CSV oder TEXT)", example = "JSON")
+            @RequestParam(defaultValue = "JSON") String format) throws IOException {
+        MimeType type = DatenpaketController.toMimeType(format);
+        Job job = (file == null) ? jobService.format(requireURI(uri), type) : jobService.format(file, type);
+        return accepted(job);
+    }
+
+    private static URI requireURI(URI uri) {
+        if (uri == null) {
+            throw new IllegalArgumentException("file or uri must be given");
+        }
+        return uri;
+    }
+
+    private static ResponseEntity<Job> accepted(Job job) {
+        return ResponseEntity.accepted().location(URI.create("/api/v1/Jobs/" + job.getId())).body(job);
+    }
+
+    /**
+     * Liefert alle bekannten Jobs.
+     *
+     * @return Liste der Jobs
+     */
+    @ApiOperation("liefert alle bekannten Jobs")
+    @GetMapping(path = "/v1/Jobs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Collection<Job> getJobs() {
+        return jobService.getJobs();
+    }
+
+    /**
+     * Liefert Status und Fortschritt des gewuenschten Jobs.
+     *
+     * @param id ID des Jobs
+     * @return Job oder 404 (Not Found)
+     */
+    @ApiOperation("liefert Status und Fortschritt (gelesene Saetze, Saetze/s, Abweichungen) des Jobs")
+    @GetMapping(path = "/v1/Jobs/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Job> getJob(@PathVariable String id) {
+        return ResponseEntity.of(jobService.getJob(id));
+    }
+
+    /**
+     * Liefert das Ergebnis des gewuenschten Jobs, sobald er fertig ist.
+     *
+     * @param id ID des Jobs
+     * @return Ergebnis, 409 (Conflict), falls er noch nicht fertig ist, oder
+     *         404 (Not Found)
+     */
+    @ApiOperation("liefert das Ergebnis des Jobs, sobald er fertig ist")
+    @GetMapping("/v1/Jobs/{id}/result")
+    public ResponseEntity<Resource> getResult(@PathVariable String id) {
+        Optional<Job> job = jobService.getJob(id);
+        if (!job.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.get().getStatus() != Job.Status.FINISHED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        MediaType type = MediaType.valueOf(job.get().getFormat());
+        type = new MediaType(type, (job.get().getType() == Job.Type.VALIDATION) ? StandardCharsets.UTF_8
+                : Config.DEFAULT_ENCODING);
+        return ResponseEntity.ok()
+                .contentType(type)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + id + "\"")
+                .body(new FileSystemResource(job.get().getResult()));
+    }
+
+    /**
+     * Entfernt den Job mit seinem Ergebnis.
+     *
+     * @param id ID des Jobs
+     * @return 204 (No Content) oder 404 (Not Found)
+     */
+    @ApiOperation("entfernt den Job mit seinem Ergebnis")
+    @DeleteMapping("/v1/Jobs/{id}")
+    public ResponseEntity<Void> removeJob(@PathVariable String id) {
+        return jobService.removeJob(id).isPresent() ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Sind bereits zu viele Jobs in der Warteschlange, wird ein neuer Job
+     * abgelehnt - service unavailable.
+     *
+     * @param request Anfrage-Request
+     * @param ex      Ursache
+     * @return ErrorDetail
+     */
+    @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ErrorDetail handleRejection(HttpServletRequest request, RejectedExecutionException ex) {
+        ErrorDetail errDetail = new ErrorDetail(request, HttpStatus.SERVICE_UNAVAILABLE, ex);
+        LOG.info("Call of '{}' is rejected: {}", request.getRequestURI(), errDetail);
+        return errDetail;
+    }
+
+    /**
+     * Falsche Parameter wurden angegeben - bad request.
+     *
+     * @param request Anfrage-Request
+     * @param ex      Ursache
+     * @return ErrorDetail
+     */
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ErrorDetail handleException(HttpServletRequest request, IllegalArgumentException ex) {
+        ErrorDetail errDetail = new ErrorDetail(request, HttpStatus.BAD_REQUEST, ex);
+        LOG.info("Call of '{}' fails: {}", request.getRequestURI(), errDetail);
+        return errDetail;
+    }
+
+}
@@ -17,6 +17,8 @@
  */
 package gdv.xport.srv.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.logging.log4j.LogManager;
@@ -27,10 +29,10 @@ import org.springframework.ui.Model;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
@@ -101,4 +103,69 @@ public final class DefaultDatenpaketServiceTest {
         MatcherAssert.assertThat(text, equalToCompressingWhiteSpace(formatted));
     }
 
+    /**
+     * Test-Methode fuer {@link DefaultDatenpaketService#validate(InputStream, java.util.function.Consumer)}.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testValidateStream() throws IOException {
+        File musterdatei = toFile("../lib/src/test/resources/musterdatei_041222.txt");
+        List<Model> violations = new ArrayList<>();
+        try (InputStream istream = new FileInputStream(musterdatei)) {
+            service.validate(istream, violations::add);
+        }
+        assertEquals(service.validate(musterdatei.toURI()).size(), violations.size());
+    }
+
+    /**
+     * Test-Methode fuer {@link DefaultDatenpaketService#format(InputStream, MimeType, OutputStream)}.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testFormatStream() throws IOException {
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try (InputStream istream = new FileInputStream(TEST_FILE)) {
+            service.format(istream, MimeTypeUtils.TEXT_PLAIN, ostream);
+        }
+        String text = FileUtils.readFileToString(TEST_FILE, StandardCharsets.ISO_8859_1);
+        MatcherAssert.assertThat(text, equalToCompressingWhiteSpace(ostream.toString("ISO-8859-1")));
+    }
+
+    /**
+     * Beim Formattieren nach JSON muessen die Datenpakete als gueltiges
+     * JSON-Array herauskommen.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testFormatStreamAsJson() throws IOException {
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        try (InputStream istream = new FileInputStream(TEST_FILE)) {
+            service.format(istream, MimeTypeUtils.APPLICATION_JSON, ostream);
+        }
+        JsonNode datenpakete = new ObjectMapper().readTree(ostream.toString("ISO-8859-1"));
+        assertTrue(datenpakete.isArray());
+        assertEquals(1, datenpakete.size());
+        assertTrue(datenpakete.get(0).has("datensaetze"));
+    }
+
+    /**
+     * Bricht der Import mittendrin ab, darf kein scheinbar vollstaendiges
+     * JSON-Array herauskommen.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testFormatStreamAborted() throws IOException {
+        List<String> lines = FileUtils.readLines(TEST_FILE, StandardCharsets.ISO_8859_1);
+        lines.set(1, "02X0" + lines.get(1).substring(4));
+        byte[] corrupt = String.join("\n", lines).getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream ostream = new ByteArrayOutputStream();
+        assertThrows(RuntimeException.class,
+                () -> service.format(new ByteArrayInputStream(corrupt), MimeTypeUtils.APPLICATION_JSON, ostream));
+        MatcherAssert.assertThat(ostream.toString("ISO-8859-1"), not(endsWith("]")));
+    }
+
 }
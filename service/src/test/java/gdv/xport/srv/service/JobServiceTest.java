@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.srv.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.hamcrest.MatcherAssert;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit-Tests fuer den {@link JobService}.
+ *
+ * @author oliver
+ */
+public final class JobServiceTest {
+
+    private static final File MUSTERDATEI = toFile("../lib/src/test/resources/musterdatei_041222.txt");
+    private static JobService jobService;
+
+    @BeforeClass
+    public static void setUpJobService() throws IOException {
+        jobService = createJobService(1, 2, 100, new File("target/jobs"));
+    }
+
+    @AfterClass
+    public static void shutdownJobService() {
+        jobService.shutdown();
+    }
+
+    private static JobService createJobService(int threads, int queue, int maxJobs, File verzeichnis)
+            throws IOException {
+        return new JobService(new DefaultDatenpaketService(), new ObjectMapper(), threads, queue, maxJobs, 60,
+                verzeichnis);
+    }
+
+    private static File toFile(String filename) {
+        return new File(FilenameUtils.normalize(new File(filename).getAbsolutePath()));
+    }
+
+    @Test
+    public void testValidate() throws InterruptedException, IOException {
+        Job job = waitFor(jobService.validate(MUSTERDATEI.toURI()));
+        assertEquals(Job.Status.FINISHED, job.getStatus());
+        MatcherAssert.assertThat(job.getRecords(), greaterThan(0L));
+        String result = new String(Files.readAllBytes(job.getResult()), StandardCharsets.UTF_8);
+        assertEquals(job.getViolations() == 0, "[]".equals(result));
+    }
+
+    @Test
+    public void testFormat() throws InterruptedException, IOException {
+        Job job = waitFor(jobService.format(MUSTERDATEI.toURI(), MimeTypeUtils.TEXT_PLAIN));
+        assertEquals(Job.Status.FINISHED, job.getStatus());
+        String text = FileUtils.readFileToString(MUSTERDATEI, StandardCharsets.ISO_8859_1);
+        String result = new String(Files.readAllBytes(job.getResult()), StandardCharsets.ISO_8859_1);
+        MatcherAssert.assertThat(text, equalToCompressingWhiteSpace(result));
+    }
+
+    @Test
+    public void testInvalidURI() throws InterruptedException {
+        Job job = waitFor(jobService.validate(new File("/invalid/uri").toURI()));
+        assertEquals(Job.Status.FAILED, job.getStatus());
+        assertNotNull(job.getError());
+        assertNull(job.getResult());
+    }
+
+    @Test
+    public void testRemoveJob() throws InterruptedException {
+        Job job = waitFor(jobService.validate(MUSTERDATEI.toURI()));
+        assertTrue(jobService.getJob(job.getId()).isPresent());
+        assertTrue(jobService.removeJob(job.getId()).isPresent());
+        assertFalse(jobService.getJob(job.getId()).isPresent());
+        assertFalse(Files.exists(job.getResult()));
+    }
+
+    @Test
+    public void testEvictJobs() throws InterruptedException {
+        Job job = waitFor(jobService.validate(MUSTERDATEI.toURI()));
+        assertTrue(Files.exists(job.getResult()));
+        jobService.evictJobs();
+        assertTrue(jobService.getJob(job.getId()).isPresent());
+        jobService.evictJobs(LocalDateTime.now().plusSeconds(1));
+        assertFalse(jobService.getJob(job.getId()).isPresent());
+        assertFalse(Files.exists(job.getResult()));
+    }
+
+    @Test
+    public void testEvictJobsMax() throws InterruptedException, IOException {
+        JobService service = createJobService(1, 2, 1, new File("target/jobs-max"));
+        try {
+            Job first = waitFor(service.validate(MUSTERDATEI.toURI()));
+            Job second = waitFor(service.validate(MUSTERDATEI.toURI()));
+            service.evictJobs();
+            assertFalse(service.getJob(first.getId()).isPresent());
+            assertFalse(Files.exists(first.getResult()));
+            assertTrue(service.getJob(second.getId()).isPresent());
+            assertTrue(Files.exists(second.getResult()));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeleteStaleFiles() throws IOException {
+        File verzeichnis = new File("target/jobs-stale");
+        Path result = Files.createDirectories(verzeichnis.toPath()).resolve("stale.result");
+        Path input = verzeichnis.toPath().resolve("stale.gdv");
+        Path other = verzeichnis.toPath().resolve("other.txt");
+        for (Path file : new Path[] { result, input, other }) {
+            Files.write(file, "stale".getBytes(StandardCharsets.UTF_8));
+        }
+        createJobService(1, 2, 100, verzeichnis).shutdown();
+        assertFalse(Files.exists(result));
+        assertFalse(Files.exists(input));
+        assertTrue(Files.exists(other));
+    }
+
+    /**
+     * Ist die Queue voll, darf die hochgeladene Datei gar nicht erst
+     * abgelegt werden.
+     *
+     * @throws IOException          the io exception
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testQueueFull() throws IOException, InterruptedException {
+        JobService service = createJobService(1, 1, 100, new File("target/jobs-full"));
+        try (ServerSocket server = new ServerSocket(0)) {
+            URI blocking = URI.create("http://localhost:" + server.getLocalPort() + "/blocking");
+            Job running = service.validate(blocking);
+            for (int i = 0; i < 100 && running.getStatus() == Job.Status.WAITING; i++) {
+                Thread.sleep(10);
+            }
+            service.validate(blocking);
+            MultipartFile file = mock(MultipartFile.class);
+            assertThrows(RejectedExecutionException.class, () -> service.validate(file));
+            verify(file, never()).transferTo(any(Path.class));
+            verify(file, never()).transferTo(any(File.class));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static Job waitFor(Job job) throws InterruptedException {
+        for (int i = 0; i < 600 && (job.getStatus() == Job.Status.WAITING || job.getStatus() == Job.Status.RUNNING); i++) {
+            Thread.sleep(100);
+        }
+        return job;
+    }
+
+}
@@ -24,13 +24,19 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.*;
 import org.junit.runner.*;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.mock.web.*;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.*;
 import org.springframework.util.*;
+import org.springframework.web.client.RestClientException;
 
 import java.io.*;
 import java.net.*;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.Matchers.emptyString;
@@ -45,9 +51,11 @@ import static org.junit.Assert.*;
  * @author <a href="ob@aosd.de">oliver</a>
  */
 @RunWith(SpringRunner.class)
+@TestPropertySource(properties = "gdv.xport.upload.max-size=16KB")
 public final class DatenpaketControllerIT extends AbstractControllerIT {
 
     private static final Logger LOG = LogManager.getLogger(DatenpaketControllerIT.class);
+    private static final File MUSTERDATEI = new File("../lib/src/test/resources/musterdatei_041222.txt");
 
     /**
      * Hier testen wir, ob wir mit dem Musterdatensatz eine leere Liste von
@@ -221,6 +229,149 @@ public final class DatenpaketControllerIT extends AbstractControllerIT {
         return response;
     }
 
+    /**
+     * Hier schicken wir das Dummy-Datenpaket als Datei und erwarten die
+     * Abweichungen als JSON-Array zurueck.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testValidateStreamed() throws IOException {
+        String response = uploadDummyDatenpaket("/api/v1/Abweichungen/streamed", MediaType.APPLICATION_JSON);
+        MatcherAssert.assertThat(response, startsWith("["));
+        MatcherAssert.assertThat(response, containsString("VU-Nummer is not set"));
+    }
+
+    /**
+     * Hier schicken wir das Dummy-Datenpaket als Datei und erwarten es als
+     * HTML zurueck.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testFormatStreamed() throws IOException {
+        String response = uploadDummyDatenpaket("/api/v1/Datenpaket/streamed", MediaType.TEXT_HTML);
+        MatcherAssert.assertThat(response, containsString("<html"));
+        MatcherAssert.assertThat(response, containsString("</html>"));
+    }
+
+    /**
+     * Hier holen wir die Musterdatei ueber eine File-URI und erwarten die
+     * Abweichungen als JSON-Array zurueck.
+     */
+    @Test
+    public void testValidateStreamedURI() {
+        ResponseEntity<String> response = template.getForEntity(
+                baseURI.resolve("/api/v1/Abweichungen/streamed?uri=" + MUSTERDATEI.toURI()), String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MatcherAssert.assertThat(response.getBody(), startsWith("["));
+        MatcherAssert.assertThat(response.getBody(), endsWith("]"));
+    }
+
+    /**
+     * Hier holen wir die Musterdatei ueber eine File-URI und erwarten sie
+     * als HTML zurueck.
+     */
+    @Test
+    public void testFormatStreamedURI() {
+        ResponseEntity<String> response = template.getForEntity(
+                baseURI.resolve("/api/v1/Datenpaket/streamed?format=html&uri=" + MUSTERDATEI.toURI()), String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MatcherAssert.assertThat(response.getBody(), containsString("</html>"));
+    }
+
+    /**
+     * Bricht der Import mittendrin ab, muss der Fehler als letzter Eintrag
+     * im JSON-Array auftauchen.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testValidateStreamedAborted() throws IOException {
+        ResponseEntity<String> response = upload("/api/v1/Abweichungen/streamed", createCorruptMusterdatei(),
+                MediaType.APPLICATION_JSON);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MatcherAssert.assertThat(response.getBody(), containsString("02X0"));
+        MatcherAssert.assertThat(response.getBody(), endsWith("]"));
+    }
+
+    /**
+     * Bricht der Import ab, bevor etwas ausgegeben wurde, soll es keine
+     * (leere) Antwort mit Status 200 geben.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testFormatStreamedAborted() throws IOException {
+        ResponseEntity<String> response = upload("/api/v1/Datenpaket/streamed", createCorruptMusterdatei(),
+                MediaType.APPLICATION_JSON);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    /**
+     * Bricht der Import erst ab, nachdem schon ein Teil der Antwort
+     * rausgegangen ist, muss die Verbindung abgebrochen werden - sonst
+     * haelt der Client die Antwort fuer vollstaendig.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testFormatStreamedAbortedAfterCommit() throws IOException {
+        byte[] corrupt = createCorruptMusterdatei(150);
+        assertThrows(RestClientException.class,
+                () -> upload("/api/v1/Datenpaket/streamed", corrupt, MediaType.TEXT_HTML));
+    }
+
+    /**
+     * Die /uploaded-Aufrufe halten die Datei im Speicher und sind deswegen
+     * (fuer diesen Test auf 16 KB) begrenzt - im Gegensatz zu /streamed.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testUploadedTooLarge() throws IOException {
+        byte[] musterdatei = Files.readAllBytes(MUSTERDATEI.toPath());
+        ResponseEntity<String> response = upload("/api/v1/Datenpaket/uploaded", musterdatei,
+                MediaType.APPLICATION_JSON);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        response = upload("/api/v1/Datenpaket/streamed", musterdatei, MediaType.APPLICATION_JSON);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    private static byte[] createCorruptMusterdatei() throws IOException {
+        return createCorruptMusterdatei(1);
+    }
+
+    private static byte[] createCorruptMusterdatei(int line) throws IOException {
+        List<String> lines = Files.readAllLines(MUSTERDATEI.toPath(), Config.DEFAULT_ENCODING);
+        lines.set(line, "02X0" + lines.get(line).substring(4));
+        return String.join("\n", lines).getBytes(Config.DEFAULT_ENCODING);
+    }
+
+    private String uploadDummyDatenpaket(String path, MediaType mediaType) throws IOException {
+        ResponseEntity<String> response =
+                upload(path, createDummyDatenpaketText().getBytes(Config.DEFAULT_ENCODING), mediaType);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private ResponseEntity<String> upload(String path, byte[] content, MediaType mediaType) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return "dummy.txt";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.setAccept(Collections.singletonList(mediaType));
+        ResponseEntity<String> response = template.postForEntity(baseURI.resolve(path),
+                new HttpEntity<>(body, headers), String.class);
+        LOG.info("Response of '{}' is '{}'.", path, response);
+        return response;
+    }
+
     private String callRestWithDummyDatenpaket(String path, MediaType... mediaTypes) throws IOException {
         String text = createDummyDatenpaketText();
         String response = postResponseObjectFor(path, text, String.class, mediaTypes);
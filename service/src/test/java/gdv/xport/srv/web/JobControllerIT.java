@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 by Oli B.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express orimplied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * (c)reated 17.10.2026 by Oli B. (ob@aosd.de)
+ */
+
+package gdv.xport.srv.web;
+
+import gdv.xport.Datenpaket;
+import gdv.xport.config.Config;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.*;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Integrationstests fuer den {@link JobController}.
+ *
+ * @author oliver
+ */
+@RunWith(SpringRunner.class)
+public final class JobControllerIT extends AbstractControllerIT {
+
+    /**
+     * Ein leeres Dummy-Datenpaket wird als Job validiert. Da die VU-Nummer
+     * nicht gesetzt ist, sollte das Ergebnis einen Validierungs-Fehler
+     * enthalten.
+     *
+     * @throws IOException the io exception
+     * @throws InterruptedException falls das Warten unterbrochen wird
+     */
+    @Test
+    public void testValidateJob() throws IOException, InterruptedException {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(createDummyDatenpaketText().getBytes(Config.DEFAULT_ENCODING)) {
+            @Override
+            public String getFilename() {
+                return "dummy.txt";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        ResponseEntity<Map> submitted = template.postForEntity(baseURI.resolve("/api/v1/Jobs/Abweichungen"),
+                new HttpEntity<>(body, headers), Map.class);
+        assertEquals(HttpStatus.ACCEPTED, submitted.getStatusCode());
+        String path = "/api/v1/Jobs/" + submitted.getBody().get("id");
+        Map<?, ?> job = submitted.getBody();
+        for (int i = 0; i < 100 && !"FINISHED".equals(job.get("status")); i++) {
+            Thread.sleep(100);
+            job = template.getForObject(baseURI.resolve(path), Map.class);
+        }
+        assertEquals("FINISHED", job.get("status"));
+        ResponseEntity<String> result = template.getForEntity(baseURI.resolve(path + "/result"), String.class);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        MatcherAssert.assertThat(result.getBody(), containsString("VU-Nummer is not set"));
+    }
+
+    @Test
+    public void testUnknownJob() {
+        ResponseEntity<String> response = template.getForEntity(baseURI.resolve("/api/v1/Jobs/unknown"), String.class);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private static String createDummyDatenpaketText() throws IOException {
+        Datenpaket dummy = new Datenpaket(Config.DUMMY_VU_NUMMER);
+        StringWriter writer = new StringWriter();
+        dummy.export(writer);
+        return writer.toString();
+    }
+
+}